@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket;
+
+/**
+ * A typed key for an attribute of a {@link Session} or an {@link EndpointConfig}. Attribute keys are an alternative to
+ * the user properties Map that avoid hashing a String and casting the value at the call site on every access.
+ *
+ * <p>
+ * Two attribute keys are equal only if they are the same instance. Keys created with the same name and type are
+ * distinct keys. An attribute key carries no index or slot, and this specification makes no guarantee about how
+ * attributes are stored or about the cost of looking one up; containers may use any structure, such as a map keyed
+ * by key identity. An attribute key holds no container resources, so a key that is no longer referenced by the
+ * application can be garbage collected. Applications should nevertheless create each key once, typically as a
+ * {@code static final} field, rather than creating keys per session or per message.
+ *
+ * @param <T> the type of the attribute value.
+ * @since WebSocket 2.3
+ */
+public final class AttributeKey<T> {
+
+    private final String name;
+    private final Class<T> type;
+
+    private AttributeKey(String name, Class<T> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Creates a new attribute key.
+     *
+     * @param <T>  the type of the attribute value.
+     * @param name the name of the attribute, used for diagnostics only.
+     * @param type the type of the attribute value.
+     * @return the new attribute key.
+     * @throws IllegalArgumentException if either the name or the type are {@code null} or if the type is a primitive
+     *                                  type.
+     */
+    public static <T> AttributeKey<T> create(String name, Class<T> type) {
+        if (name == null) {
+            throw new IllegalArgumentException("name cannot be null");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("type cannot be null");
+        }
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("type cannot be a primitive type");
+        }
+        return new AttributeKey<>(name, type);
+    }
+
+    /**
+     * Return the name of the attribute.
+     *
+     * @return the name of the attribute.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Return the type of the attribute value.
+     *
+     * @return the type of the attribute value.
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Converts the AttributeKey to a debug-friendly string. The exact format is not defined by the specification and
+     * may change in future releases.
+     *
+     * @return A String representation of this AttributeKey
+     */
+    @Override
+    public String toString() {
+        return "AttributeKey[" + this.name + "," + this.type.getName() + "]";
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+/**
+ * A BatchFlushPolicy tells the container when to send a batch of messages without waiting for the developer to call
+ * {@link RemoteEndpoint#flushBatch()}. The policy only has an effect while batching is allowed, see
+ * {@link RemoteEndpoint#setBatchingAllowed(boolean)}. Whenever any of the enabled conditions of the policy is met, the
+ * container must send the current batch as if {@link RemoteEndpoint#flushBatch()} had been called. The developer may
+ * still call {@link RemoteEndpoint#flushBatch()} at any time.
+ *
+ * <p>
+ * The conditions are:
+ * <ul>
+ * <li>the batch holds at least {@link #getMaxBytes()} bytes of message payload,</li>
+ * <li>the batch holds at least {@link #getMaxMessages()} messages,</li>
+ * <li>the oldest message in the batch was sent {@link #getMaxDelayMicros()} microseconds ago,</li>
+ * <li>the container has finished dispatching an incoming message to the endpoint, if
+ * {@link #isFlushAtEndOfDispatch()} is {@code true}.</li>
+ * </ul>
+ *
+ * <p>
+ * A policy with no enabled condition, such as {@link #EXPLICIT}, leaves flushing entirely to the developer. Instances
+ * are immutable and are created using a {@link BatchFlushPolicy.Builder}.
+ *
+ * @since WebSocket 2.3
+ */
+public final class BatchFlushPolicy {
+
+    /**
+     * The policy under which batches are only sent when the developer calls {@link RemoteEndpoint#flushBatch()} or
+     * disables batching. This is the default policy.
+     */
+    public static final BatchFlushPolicy EXPLICIT = new BatchFlushPolicy(-1, -1, -1, false);
+
+    private final long maxBytes;
+    private final int maxMessages;
+    private final long maxDelayMicros;
+    private final boolean flushAtEndOfDispatch;
+
+    private BatchFlushPolicy(long maxBytes, int maxMessages, long maxDelayMicros, boolean flushAtEndOfDispatch) {
+        this.maxBytes = maxBytes;
+        this.maxMessages = maxMessages;
+        this.maxDelayMicros = maxDelayMicros;
+        this.flushAtEndOfDispatch = flushAtEndOfDispatch;
+    }
+
+    /**
+     * Return the number of bytes of message payload at which a batch is sent.
+     *
+     * @return the number of bytes, or {@code -1} if the size of the batch does not cause it to be sent.
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Return the number of messages at which a batch is sent.
+     *
+     * @return the number of messages, or {@code -1} if the number of messages in the batch does not cause it to be
+     *         sent.
+     */
+    public int getMaxMessages() {
+        return this.maxMessages;
+    }
+
+    /**
+     * Return the longest time in microseconds that a message may be held in a batch before the batch is sent. A delay
+     * of zero means that a batch is sent as soon as a message is added to it.
+     *
+     * @return the delay in microseconds, or {@code -1} if the age of the batch does not cause it to be sent.
+     */
+    public long getMaxDelayMicros() {
+        return this.maxDelayMicros;
+    }
+
+    /**
+     * Return whether a batch is sent when the container has finished dispatching an incoming message to the endpoint,
+     * that is once the {@link OnMessage} method or the {@link MessageHandler} called for the message has returned.
+     *
+     * @return {@code true} if the batch is sent at the end of each dispatch, otherwise {@code false}.
+     */
+    public boolean isFlushAtEndOfDispatch() {
+        return this.flushAtEndOfDispatch;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BatchFlushPolicy)) {
+            return false;
+        }
+        BatchFlushPolicy other = (BatchFlushPolicy) obj;
+        return this.maxBytes == other.maxBytes && this.maxMessages == other.maxMessages
+                && this.maxDelayMicros == other.maxDelayMicros
+                && this.flushAtEndOfDispatch == other.flushAtEndOfDispatch;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(this.maxBytes);
+        result = 31 * result + this.maxMessages;
+        result = 31 * result + Long.hashCode(this.maxDelayMicros);
+        result = 31 * result + Boolean.hashCode(this.flushAtEndOfDispatch);
+        return result;
+    }
+
+    /**
+     * Converts the BatchFlushPolicy to a debug-friendly string. The exact format is not defined by the specification
+     * and may change in future releases.
+     *
+     * @return A String representation of this BatchFlushPolicy
+     */
+    @Override
+    public String toString() {
+        return "BatchFlushPolicy[maxBytes=" + this.maxBytes + ",maxMessages=" + this.maxMessages + ",maxDelayMicros="
+                + this.maxDelayMicros + ",flushAtEndOfDispatch=" + this.flushAtEndOfDispatch + "]";
+    }
+
+    /**
+     * The BatchFlushPolicy.Builder is a class used for creating {@link BatchFlushPolicy} objects. A newly created
+     * builder has no enabled condition.
+     *
+     * @since WebSocket 2.3
+     */
+    public static final class Builder {
+        private long maxBytes = -1;
+        private int maxMessages = -1;
+        private long maxDelayMicros = -1;
+        private boolean flushAtEndOfDispatch = false;
+
+        // use create()
+        private Builder() {
+        }
+
+        /**
+         * Creates a new builder object with no enabled condition.
+         *
+         * @return a new builder object.
+         */
+        public static BatchFlushPolicy.Builder create() {
+            return new BatchFlushPolicy.Builder();
+        }
+
+        /**
+         * Builds a policy object using the conditions set on this builder.
+         *
+         * @return a new policy object.
+         */
+        public BatchFlushPolicy build() {
+            return new BatchFlushPolicy(this.maxBytes, this.maxMessages, this.maxDelayMicros,
+                    this.flushAtEndOfDispatch);
+        }
+
+        /**
+         * Send the batch once it holds at least the given number of bytes of message payload.
+         *
+         * @param maxBytes the number of bytes, zero or a negative value disables this condition
+         * @return this builder instance
+         */
+        public BatchFlushPolicy.Builder maxBytes(long maxBytes) {
+            this.maxBytes = (maxBytes <= 0) ? -1 : maxBytes;
+            return this;
+        }
+
+        /**
+         * Send the batch once it holds at least the given number of messages.
+         *
+         * @param maxMessages the number of messages, zero or a negative value disables this condition
+         * @return this builder instance
+         */
+        public BatchFlushPolicy.Builder maxMessages(int maxMessages) {
+            this.maxMessages = (maxMessages <= 0) ? -1 : maxMessages;
+            return this;
+        }
+
+        /**
+         * Send the batch at the latest the given number of microseconds after the oldest message in it was sent. This
+         * bounds the extra latency that batching adds to any message. A delay of zero sends the batch as soon as a
+         * message is added to it, so that batching adds no latency. Unlike the other conditions, this condition cannot
+         * be disabled with a negative value, so that an invalid delay is not silently treated as no latency bound; a
+         * builder on which this method is not called has no latency bound.
+         *
+         * @param maxDelayMicros the delay in microseconds, zero or greater
+         * @return this builder instance
+         * @throws IllegalArgumentException if the delay is negative
+         */
+        public BatchFlushPolicy.Builder maxDelayMicros(long maxDelayMicros) {
+            if (maxDelayMicros < 0) {
+                throw new IllegalArgumentException("maxDelayMicros cannot be negative");
+            }
+            this.maxDelayMicros = maxDelayMicros;
+            return this;
+        }
+
+        /**
+         * Send the batch each time the container has finished dispatching an incoming message to the endpoint.
+         *
+         * @param flushAtEndOfDispatch whether to send the batch at the end of each dispatch
+         * @return this builder instance
+         */
+        public BatchFlushPolicy.Builder flushAtEndOfDispatch(boolean flushAtEndOfDispatch) {
+            this.flushAtEndOfDispatch = flushAtEndOfDispatch;
+            return this;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -78,4 +78,62 @@ public @interface ClientEndpoint {
      *         annotation.
      */
     public Class<? extends ClientEndpointConfig.Configurator> configurator() default ClientEndpointConfig.Configurator.class;
+
+    /**
+     * The maximum number of messages that may be held in the outbound queue of each session of this endpoint. A
+     * negative value means that the number of messages is not limited.
+     *
+     * @return the maximum number of queued messages, or a negative value if there is no limit.
+     * @since WebSocket 2.3
+     */
+    int maxSendQueueMessages() default -1;
+
+    /**
+     * The maximum total payload size in bytes of the messages that may be held in the outbound queue of each session
+     * of this endpoint. A negative value means that the size of the queue is not limited.
+     *
+     * @return the maximum number of queued bytes, or a negative value if there is no limit.
+     * @since WebSocket 2.3
+     */
+    long maxSendQueueBytes() default -1;
+
+    /**
+     * The action the container takes when an asynchronous send would take the outbound queue of a session of this
+     * endpoint past one of its limits.
+     *
+     * @return the overflow policy.
+     * @since WebSocket 2.3
+     */
+    SendQueueOverflowPolicy sendQueueOverflowPolicy() default SendQueueOverflowPolicy.FAIL;
+
+    /**
+     * The mode that selects the threads on which the container invokes the callbacks of each session of this
+     * endpoint.
+     *
+     * @return the dispatch mode.
+     * @since WebSocket 2.3
+     */
+    DispatchMode dispatch() default DispatchMode.CONTAINER;
+
+    /**
+     * The JNDI name of the {@link java.util.concurrent.Executor}, for example a Jakarta Concurrency
+     * {@code ManagedExecutorService}, on which the container invokes the callbacks of each session of this endpoint
+     * when {@link #dispatch()} is {@link DispatchMode#EXECUTOR}. The name is ignored for other dispatch modes. If the
+     * dispatch mode is {@link DispatchMode#EXECUTOR} and the name is empty or cannot be resolved to an executor,
+     * attempts to connect the endpoint fail with a {@link DeploymentException}.
+     *
+     * @return the JNDI name of the dispatch executor, or the empty string if none has been given.
+     * @since WebSocket 2.3
+     */
+    String executor() default "";
+
+    /**
+     * An optional router class that selects the decoder for each incoming whole text or binary message of each session
+     * of this endpoint. The class must have a public no-arg constructor. The implementation creates a single instance
+     * of the router per logical endpoint.
+     *
+     * @return the decoder router class, or DecoderRouter.class if none was provided in the annotation.
+     * @since WebSocket 2.3
+     */
+    Class<? extends DecoderRouter> decoderRouter() default DecoderRouter.class;
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,12 +21,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 
 /**
  * The Decoder interface holds member interfaces that define how a developer can provide the web socket container a way
  * web socket messages into developer defined custom objects. The websocket implementation creates a new instance of the
- * decoder per endpoint instance per connection. The lifecycle of the Decoder instance is governed by the container
- * calls to the {@link Decoder#init(jakarta.websocket.EndpointConfig)} and {@link Decoder#destroy() } methods.
+ * decoder per endpoint instance per connection. Decoder classes annotated with {@link Shareable} are instead
+ * instantiated once per endpoint configuration and must be thread safe. The lifecycle of the Decoder instance is
+ * governed by the container calls to the {@link Decoder#init(jakarta.websocket.EndpointConfig)} and
+ * {@link Decoder#destroy() } methods.
  *
  * @author dannycoward
  */
@@ -86,6 +89,46 @@ public interface Decoder {
          */
         boolean willDecode(ByteBuffer bytes);
 
+        /**
+         * Decode the given bytes into an object of type T if this decoder is able to do so, answering whether the
+         * bytes can be decoded and decoding them in a single pass. Decoders for which deciding whether the bytes can
+         * be decoded requires parsing them may override this method to avoid parsing the bytes twice. Implementations
+         * call this method, rather than {@link #willDecode(ByteBuffer)} followed by {@link #decode(ByteBuffer)}, to
+         * decode binary messages. For decoders that do not override this method the two are equivalent, so
+         * implementations may continue to call {@link #willDecode(ByteBuffer)} and {@link #decode(ByteBuffer)} for
+         * them.
+         * <p>
+         * If the bytes are decoded, the decoded object, which may be {@code null}, is passed to the given action
+         * exactly once before this method returns {@code true}. If the bytes cannot be decoded by this decoder, the
+         * action is not called and this method returns {@code false}. The action is provided by the implementation,
+         * which may reuse the same action for every message so that decoding does not allocate.
+         * <p>
+         * It is not safe for other threads to use the ByteBuffer until this method completes. If the bytes are
+         * decoded, the buffer's limit will be unchanged and the buffer's position will be equal to the limit. If the
+         * bytes cannot be decoded by this decoder, the buffer will be in the same state as it was at the start of the
+         * method call. If the decoding fails with an exception, the state of the buffer is undefined.
+         *
+         * @implSpec The default implementation calls {@link #willDecode(ByteBuffer)} and, if that returns
+         *           {@code true}, passes the result of {@link #decode(ByteBuffer)} to the action and returns
+         *           {@code true}. Otherwise it returns {@code false}.
+         *
+         * @param bytes  the bytes to be decoded.
+         * @param action the action that receives the decoded object.
+         * @return {@code true} if the bytes were decoded and passed to the action, {@code false} if the bytes cannot be
+         *         decoded by this decoder.
+         *
+         * @throws DecodeException If the bytes are recognised by this decoder but cannot be decoded to type T
+         *
+         * @since WebSocket 2.3
+         */
+        default boolean tryDecode(ByteBuffer bytes, Consumer<? super T> action) throws DecodeException {
+            if (willDecode(bytes)) {
+                action.accept(decode(bytes));
+                return true;
+            }
+            return false;
+        }
+
     }
 
     /**
@@ -132,6 +175,40 @@ public interface Decoder {
          */
         boolean willDecode(String s);
 
+        /**
+         * Decode the given String into an object of type T if this decoder is able to do so, answering whether the
+         * String can be decoded and decoding it in a single pass. Decoders for which deciding whether the String can
+         * be decoded requires parsing it may override this method to avoid parsing the String twice. Implementations
+         * call this method, rather than {@link #willDecode(String)} followed by {@link #decode(String)}, to decode
+         * text messages. For decoders that do not override this method the two are equivalent, so implementations
+         * may continue to call {@link #willDecode(String)} and {@link #decode(String)} for them.
+         * <p>
+         * If the String is decoded, the decoded object, which may be {@code null}, is passed to the given action
+         * exactly once before this method returns {@code true}. If the String cannot be decoded by this decoder, the
+         * action is not called and this method returns {@code false}. The action is provided by the implementation,
+         * which may reuse the same action for every message so that decoding does not allocate.
+         *
+         * @implSpec The default implementation calls {@link #willDecode(String)} and, if that returns {@code true},
+         *           passes the result of {@link #decode(String)} to the action and returns {@code true}. Otherwise it
+         *           returns {@code false}.
+         *
+         * @param s      string to be decoded.
+         * @param action the action that receives the decoded object.
+         * @return {@code true} if the string was decoded and passed to the action, {@code false} if the string cannot
+         *         be decoded by this decoder.
+         *
+         * @throws DecodeException If the string is recognised by this decoder but cannot be decoded to type T
+         *
+         * @since WebSocket 2.3
+         */
+        default boolean tryDecode(String s, Consumer<? super T> action) throws DecodeException {
+            if (willDecode(s)) {
+                action.accept(decode(s));
+                return true;
+            }
+            return false;
+        }
+
     }
 
     /**
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A DecoderRouter selects the decoder for each incoming whole text or binary message directly, so that the container
+ * does not have to offer the message to each of the configured {@link Decoder.Text} or {@link Decoder.Binary}
+ * decoders in turn. A router typically inspects a discriminator in the message, such as a leading type byte of a
+ * binary message or a type field of a JSON document, or the subprotocol negotiated for the session.
+ * <p>
+ * A router is configured using {@link EndpointConfig#getDecoderRouter()}. When a router is configured and it selects
+ * a decoder for a message, the container decodes the message with that decoder alone by calling its
+ * {@code decode(...)} method, without calling {@code willDecode(...)} or {@code tryDecode(...)} on it or on any other
+ * decoder. When the router does not select a decoder, the container falls back to offering the message to each of the
+ * configured decoders in turn. Routers do not apply to {@link Decoder.TextStream} and {@link Decoder.BinaryStream}
+ * decoders.
+ * <p>
+ * The container may call a router concurrently for messages of different sessions, so implementations must be thread
+ * safe.
+ *
+ * @since WebSocket 2.3
+ */
+public interface DecoderRouter {
+
+    /**
+     * Select the decoder for the given whole text message. The selected class must be one of the
+     * {@link Decoder.Text} classes returned by {@link EndpointConfig#getDecoders()}; if it is not, the container
+     * passes a {@link DecodeException} to the error handling method of the endpoint and the message is not delivered.
+     *
+     * @implSpec The default implementation returns {@code null}.
+     *
+     * @param session the session on which the message was received.
+     * @param message the text message to be decoded.
+     * @return the class of the decoder to use, or {@code null} if the container should offer the message to each of
+     *         the configured decoders in turn.
+     */
+    default Class<? extends Decoder> route(Session session, String message) {
+        return null;
+    }
+
+    /**
+     * Select the decoder for the given whole binary message. The selected class must be one of the
+     * {@link Decoder.Binary} classes returned by {@link EndpointConfig#getDecoders()}; if it is not, the container
+     * passes a {@link DecodeException} to the error handling method of the endpoint and the message is not delivered.
+     * <p>
+     * It is not safe for other threads to use the ByteBuffer until this method completes. When the method completes,
+     * the buffer must be in the same state as it was at the start of the method call.
+     *
+     * @implSpec The default implementation returns {@code null}.
+     *
+     * @param session the session on which the message was received.
+     * @param message the binary message to be decoded.
+     * @return the class of the decoder to use, or {@code null} if the container should offer the message to each of
+     *         the configured decoders in turn.
+     */
+    default Class<? extends Decoder> route(Session session, ByteBuffer message) {
+        return null;
+    }
+}
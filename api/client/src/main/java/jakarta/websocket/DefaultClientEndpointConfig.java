@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.net.ssl.SSLContext;
 
@@ -35,17 +38,37 @@ final class DefaultClientEndpointConfig implements ClientEndpointConfig {
     private List<Class<? extends Encoder>> encoders;
     private List<Class<? extends Decoder>> decoders;
     private SSLContext sslContext;
+    private int maxSendQueueMessages;
+    private long maxSendQueueBytes;
+    private SendQueueOverflowPolicy sendQueueOverflowPolicy;
+    private BatchFlushPolicy batchFlushPolicy;
+    private DispatchMode dispatchMode;
+    private Executor dispatchExecutor;
+    private DecoderRouter decoderRouter;
     private Map<String, Object> userProperties = new HashMap<>();
+    // Immutable snapshots replaced using compareAndSet, so that neither reads nor writes lock
+    private final AtomicReference<Map<AttributeKey<?>, Object>> attributes = new AtomicReference<>(
+            Collections.emptyMap());
     private ClientEndpointConfig.Configurator clientEndpointConfigurator;
 
     DefaultClientEndpointConfig(List<String> preferredSubprotocols, List<Extension> extensions,
             List<Class<? extends Encoder>> encoders, List<Class<? extends Decoder>> decoders,
-            SSLContext sslContext, ClientEndpointConfig.Configurator clientEndpointConfigurator) {
+            SSLContext sslContext, int maxSendQueueMessages, long maxSendQueueBytes,
+            SendQueueOverflowPolicy sendQueueOverflowPolicy, BatchFlushPolicy batchFlushPolicy,
+            DispatchMode dispatchMode, Executor dispatchExecutor, DecoderRouter decoderRouter,
+            ClientEndpointConfig.Configurator clientEndpointConfigurator) {
         this.preferredSubprotocols = Collections.unmodifiableList(preferredSubprotocols);
         this.extensions = Collections.unmodifiableList(extensions);
         this.encoders = Collections.unmodifiableList(encoders);
         this.decoders = Collections.unmodifiableList(decoders);
         this.sslContext = sslContext;
+        this.maxSendQueueMessages = maxSendQueueMessages;
+        this.maxSendQueueBytes = maxSendQueueBytes;
+        this.sendQueueOverflowPolicy = sendQueueOverflowPolicy;
+        this.batchFlushPolicy = batchFlushPolicy;
+        this.dispatchMode = dispatchMode;
+        this.dispatchExecutor = dispatchExecutor;
+        this.decoderRouter = decoderRouter;
         this.clientEndpointConfigurator = clientEndpointConfigurator;
     }
 
@@ -104,6 +127,41 @@ final class DefaultClientEndpointConfig implements ClientEndpointConfig {
         return this.sslContext;
     }
 
+    @Override
+    public int getMaxSendQueueMessages() {
+        return this.maxSendQueueMessages;
+    }
+
+    @Override
+    public long getMaxSendQueueBytes() {
+        return this.maxSendQueueBytes;
+    }
+
+    @Override
+    public SendQueueOverflowPolicy getSendQueueOverflowPolicy() {
+        return this.sendQueueOverflowPolicy;
+    }
+
+    @Override
+    public BatchFlushPolicy getBatchFlushPolicy() {
+        return this.batchFlushPolicy;
+    }
+
+    @Override
+    public DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
+
+    @Override
+    public Executor getDispatchExecutor() {
+        return this.dispatchExecutor;
+    }
+
+    @Override
+    public DecoderRouter getDecoderRouter() {
+        return this.decoderRouter;
+    }
+
     /**
      * Editable map of user properties.
      */
@@ -112,6 +170,37 @@ final class DefaultClientEndpointConfig implements ClientEndpointConfig {
         return this.userProperties;
     }
 
+    @Override
+    public <T> T getAttribute(AttributeKey<T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        return key.getType().cast(this.attributes.get().get(key));
+    }
+
+    @Override
+    public <T> T setAttribute(AttributeKey<T> key, T value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        if (value != null && !key.getType().isInstance(value)) {
+            throw new IllegalArgumentException("value is not an instance of " + key.getType().getName());
+        }
+        while (true) {
+            Map<AttributeKey<?>, Object> current = this.attributes.get();
+            Map<AttributeKey<?>, Object> next = new HashMap<>(current);
+            Object previous = value == null ? next.remove(key) : next.put(key, value);
+            if (this.attributes.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return key.getType().cast(previous);
+            }
+        }
+    }
+
+    @Override
+    public Set<AttributeKey<?>> getAttributeKeys() {
+        return this.attributes.get().keySet();
+    }
+
     @Override
     public ClientEndpointConfig.Configurator getConfigurator() {
         return this.clientEndpointConfigurator;
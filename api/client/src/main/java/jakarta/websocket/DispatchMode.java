@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+/**
+ * Selects the threads on which a container invokes the callbacks of an endpoint, that is its lifecycle methods and the
+ * message handlers or methods annotated with {@link OnMessage} of its sessions.
+ *
+ * <p>
+ * Whatever the mode, the threading requirements of the specification continue to apply: the container invokes the
+ * endpoint instance of a peer with at most one thread at a time, delivers the messages from a peer in the order in
+ * which they were received, and does not interleave the parts of a message with each other or with other messages.
+ *
+ * @see EndpointConfig#getDispatchMode()
+ * @since WebSocket 2.3
+ */
+public enum DispatchMode {
+
+    /**
+     * The container chooses the threads, as in previous versions of this specification. This is the default.
+     */
+    CONTAINER,
+
+    /**
+     * Callbacks run on the thread that read the message from the network connection. This avoids handing each message
+     * over to another thread, but the connection, and possibly other connections served by the same thread, is not
+     * read while a callback runs. Callbacks of endpoints that use this mode should therefore not block.
+     */
+    IO_THREAD,
+
+    /**
+     * Callbacks run on a pool of threads that is shared by the endpoints of the container and is separate from the
+     * threads that read from network connections.
+     */
+    SHARED_POOL,
+
+    /**
+     * Callbacks run on the executor returned by {@link EndpointConfig#getDispatchExecutor()}, for example a pool
+     * dedicated to the endpoint so that endpoints that block cannot exhaust the threads used by other endpoints.
+     */
+    EXECUTOR,
+
+    /**
+     * Each callback runs on a new virtual thread, so that callbacks may block without holding a platform thread. If
+     * the Java runtime does not support virtual threads, the container uses {@link #SHARED_POOL} instead.
+     */
+    VIRTUAL_THREAD
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -25,10 +25,12 @@ import java.nio.ByteBuffer;
 /**
  * The Encoder interface defines how developers can provide a way to convert their custom objects into web socket
  * messages. The Encoder interface contains subinterfaces that allow encoding algorithms to encode custom objects to:
- * text, binary data, character stream and write to an output stream. The websocket implementation creates a new
- * instance of the encoder per endpoint instance per connection. This means that each encoder instance has at most one
- * calling thread at a time. The lifecycle of the Encoder instance is governed by the container calls to the
- * {@link Encoder#init(jakarta.websocket.EndpointConfig)} and {@link Encoder#destroy() } methods.
+ * text, binary data, character stream, write to an output stream and write to a buffer supplied by the runtime. The
+ * websocket implementation creates a new instance of the encoder per endpoint instance per connection. This means that
+ * each encoder instance has at most one calling thread at a time. Encoder classes annotated with {@link Shareable} are
+ * instead instantiated once per endpoint configuration and must be thread safe. The lifecycle of the Encoder instance
+ * is governed by the container calls to the {@link Encoder#init(jakarta.websocket.EndpointConfig)} and
+ * {@link Encoder#destroy() } methods.
  *
  * @author dannycoward
  */
@@ -127,4 +129,61 @@ public interface Encoder {
          */
         void encode(T object, OutputStream os) throws EncodeException, IOException;
     }
+
+    /**
+     * This interface may be implemented by encoding algorithms that want to write the encoded object directly into a
+     * buffer supplied by the web socket runtime, such as a pooled buffer from which the outgoing frame will be written,
+     * rather than allocating a new buffer for each message.
+     *
+     * @param <T> the type of the object this encoder can encode.
+     *
+     * @since WebSocket 2.3
+     */
+    interface BinaryBuffer<T> extends Encoder {
+        /**
+         * Encode the given object into the supplied buffer. The encoded data is written starting at the current
+         * position of the target buffer and must not be written beyond its limit. On success, the position of the
+         * target buffer is advanced past the encoded data and the number of bytes written is returned. The whole of
+         * the message must be written by a single successful call.
+         * <p>
+         * If the encoded object does not fit in the remaining space of the target buffer, the method returns a
+         * negative value, which is always less than or equal to {@code -1}, so that it cannot be confused with a
+         * successful write of zero bytes. A value between {@code -Integer.MAX_VALUE} and {@code -1} inclusive is the
+         * negated number of bytes of remaining space the encoder requires, which must be greater than the remaining
+         * space of the target buffer. {@link Integer#MIN_VALUE} indicates that the encoder requires more than
+         * {@link Integer#MAX_VALUE} bytes. The runtime discards anything written to the target buffer by that call and
+         * calls this method again with a target buffer that has at least the requested remaining space. An encoder
+         * that cannot determine the size it requires may return a larger guess, which it should compute without
+         * overflowing, for example {@code -(int) Math.min(Integer.MAX_VALUE, Math.max(1024, 2L * target.remaining()))}.
+         * If the runtime is unable to supply a buffer of the requested size, including when {@link Integer#MIN_VALUE}
+         * is returned, or if the requested size is not greater than the remaining space of the target buffer, the
+         * message is not sent and the send fails with an {@link EncodeException}.
+         * <p>
+         * The target buffer belongs to the runtime. Implementations must not retain a reference to it once this
+         * method returns.
+         *
+         * @param object the object being encoded.
+         * @param target the buffer provided by the web socket runtime to which the encoded data is written.
+         * @return the number of bytes written to the target buffer or, if the target buffer has insufficient
+         *         remaining space, the negated number of bytes of remaining space required, or
+         *         {@link Integer#MIN_VALUE} if more than {@link Integer#MAX_VALUE} bytes are required.
+         *
+         * @throws EncodeException The provided object could not be encoded
+         */
+        int encode(T object, ByteBuffer target) throws EncodeException;
+
+        /**
+         * Estimate the number of bytes required to encode the given object. The runtime may use the estimate as a
+         * hint when choosing the size of the buffer it passes to {@link #encode(Object, ByteBuffer)}. An estimate
+         * that is too small is not an error, it results in the encoder requesting a larger buffer.
+         *
+         * @implSpec The default implementation returns {@code -1}.
+         *
+         * @param object the object that is about to be encoded.
+         * @return the estimated size of the encoded object in bytes or a negative value if no estimate is available.
+         */
+        default int estimateSize(T object) {
+            return -1;
+        }
+    }
 }
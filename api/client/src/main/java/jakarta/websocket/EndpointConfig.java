@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,8 +17,11 @@
 
 package jakarta.websocket;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * The endpoint configuration contains all the information needed during the handshake process for this end point. All
@@ -55,4 +58,157 @@ public interface EndpointConfig {
      * @return a modifiable Map of application data.
      */
     Map<String, Object> getUserProperties();
+
+    /**
+     * Return the maximum number of messages that may be held in the outbound queue of a session that uses this
+     * configuration. The outbound queue holds the messages accepted by {@link RemoteEndpoint.Async} that have not yet
+     * been completely written. A negative value means that the number of messages is not limited.
+     *
+     * @implSpec The default implementation returns {@code -1}.
+     *
+     * @return the maximum number of queued messages, or a negative value if there is no limit.
+     * @see SendQueueOverflowPolicy
+     * @since WebSocket 2.3
+     */
+    default int getMaxSendQueueMessages() {
+        return -1;
+    }
+
+    /**
+     * Return the maximum total payload size in bytes of the messages that may be held in the outbound queue of a
+     * session that uses this configuration. A negative value means that the size of the queue is not limited.
+     *
+     * @implSpec The default implementation returns {@code -1}.
+     *
+     * @return the maximum number of queued bytes, or a negative value if there is no limit.
+     * @see SendQueueOverflowPolicy
+     * @since WebSocket 2.3
+     */
+    default long getMaxSendQueueBytes() {
+        return -1;
+    }
+
+    /**
+     * Return the action the container takes when an asynchronous send would take the outbound queue of a session that
+     * uses this configuration past {@link #getMaxSendQueueMessages()} or {@link #getMaxSendQueueBytes()}.
+     *
+     * @implSpec The default implementation returns {@link SendQueueOverflowPolicy#FAIL}.
+     *
+     * @return the overflow policy, never {@code null}.
+     * @since WebSocket 2.3
+     */
+    default SendQueueOverflowPolicy getSendQueueOverflowPolicy() {
+        return SendQueueOverflowPolicy.FAIL;
+    }
+
+    /**
+     * Return the initial batch flush policy of the remote endpoints of each session that uses this configuration.
+     *
+     * @implSpec The default implementation returns {@link BatchFlushPolicy#EXPLICIT}.
+     *
+     * @return the batch flush policy, never {@code null}.
+     * @see RemoteEndpoint#setBatchFlushPolicy(BatchFlushPolicy)
+     * @since WebSocket 2.3
+     */
+    default BatchFlushPolicy getBatchFlushPolicy() {
+        return BatchFlushPolicy.EXPLICIT;
+    }
+
+    /**
+     * Return the mode that selects the threads on which the container invokes the callbacks of each session that uses
+     * this configuration.
+     *
+     * @implSpec The default implementation returns {@link DispatchMode#CONTAINER}.
+     *
+     * @return the dispatch mode, never {@code null}.
+     * @since WebSocket 2.3
+     */
+    default DispatchMode getDispatchMode() {
+        return DispatchMode.CONTAINER;
+    }
+
+    /**
+     * Return the executor on which the container invokes the callbacks of each session that uses this configuration
+     * when the dispatch mode is {@link DispatchMode#EXECUTOR}. The container does not shut the executor down. If the
+     * dispatch mode is {@link DispatchMode#EXECUTOR} and this method returns {@code null}, the container fails to
+     * deploy the endpoint, or to connect the client endpoint, with a {@link DeploymentException}.
+     *
+     * @implSpec The default implementation returns {@code null}.
+     *
+     * @return the dispatch executor, or {@code null} if none has been configured.
+     * @since WebSocket 2.3
+     */
+    default Executor getDispatchExecutor() {
+        return null;
+    }
+
+    /**
+     * Return the router that selects the decoder for each incoming whole text or binary message of each session that
+     * uses this configuration. If this method returns {@code null}, the container offers each message to the
+     * configured decoders in turn.
+     *
+     * @implSpec The default implementation returns {@code null}.
+     *
+     * @return the decoder router, or {@code null} if none has been configured.
+     * @since WebSocket 2.3
+     */
+    default DecoderRouter getDecoderRouter() {
+        return null;
+    }
+
+    /**
+     * Return the value of the given attribute of this configuration. Attributes are a typed alternative to
+     * {@link #getUserProperties()}. The attributes of a configuration provide the initial attributes of each session
+     * that uses it, see {@link Session#getAttribute(AttributeKey)}.
+     *
+     * @implSpec The default implementation returns {@code null}.
+     *
+     * @param <T> the type of the attribute value.
+     * @param key the key of the attribute.
+     * @return the value of the attribute, or {@code null} if the attribute is not set.
+     * @throws IllegalArgumentException if the key is {@code null}.
+     * @since WebSocket 2.3
+     */
+    default <T> T getAttribute(AttributeKey<T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        return null;
+    }
+
+    /**
+     * Set the value of the given attribute of this configuration. Setting the value to {@code null} removes the
+     * attribute. Attributes may be read by any number of threads while they are being set.
+     *
+     * @implSpec The default implementation throws {@link IllegalArgumentException} if the key is {@code null} and
+     *           {@link UnsupportedOperationException} otherwise.
+     *
+     * @param <T>   the type of the attribute value.
+     * @param key   the key of the attribute.
+     * @param value the new value of the attribute, or {@code null} to remove it.
+     * @return the previous value of the attribute, or {@code null} if the attribute was not set.
+     * @throws IllegalArgumentException      if the key is {@code null} or if the value is not an instance of the type
+     *                                       of the key.
+     * @throws UnsupportedOperationException if this configuration does not support attributes.
+     * @since WebSocket 2.3
+     */
+    default <T> T setAttribute(AttributeKey<T> key, T value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        throw new UnsupportedOperationException("This configuration does not support attributes");
+    }
+
+    /**
+     * Return the keys of the attributes that are set on this configuration. The returned Set is a snapshot that is not
+     * affected by later changes to the attributes.
+     *
+     * @implSpec The default implementation returns an empty Set.
+     *
+     * @return the keys of the attributes that are set, an empty Set if none.
+     * @since WebSocket 2.3
+     */
+    default Set<AttributeKey<?>> getAttributeKeys() {
+        return Collections.emptySet();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -42,6 +42,7 @@ public interface MessageHandler {
      * <ul>
      * <li>{@link java.lang.String}</li>
      * <li>{@link java.io.Reader}</li>
+     * <li>{@link java.lang.Long} and {@link java.lang.Double}, see {@link OfLong} and {@link OfDouble}</li>
      * <li>any developer object for which there is a corresponding {@link Decoder.Text} or {@link Decoder.TextStream}
      * configured</li>
      * </ul>
@@ -52,6 +53,7 @@ public interface MessageHandler {
      * <li>{@link java.nio.ByteBuffer}</li>
      * <li>byte[]</li>
      * <li>{@link java.io.InputStream}</li>
+     * <li>{@link PooledBinary}</li>
      * <li>any developer object for which there is a corresponding {@link Decoder.Binary} or
      * {@link Decoder.BinaryStream} configured
      * </ul>
@@ -61,8 +63,9 @@ public interface MessageHandler {
      *
      * <p>
      * Developers should not continue to reference message objects of type {@link java.io.Reader},
-     * {@link java.nio.ByteBuffer} or {@link java.io.InputStream} after the completion of the onMessage() call, since
-     * they may be recycled by the implementation.
+     * {@link java.nio.ByteBuffer}, {@link java.io.InputStream} or {@link PooledBinary} after the completion of the
+     * onMessage() call, since they may be recycled by the implementation. A {@link PooledBinary} may only be used
+     * after that call if {@link PooledBinary#retain()} was called before it completed.
      *
      * @param <T> The type of the message object that this MessageHandler will consume.
      */
@@ -112,4 +115,75 @@ public interface MessageHandler {
          */
         void onMessage(T partialMessage, boolean last);
     }
+
+    /**
+     * This kind of handler is notified by the container on arrival of a complete text message that holds a
+     * {@code long} value. The container parses the text of the message as if by {@link Long#parseLong(String)} and
+     * passes the value to {@link #onMessage(long)} without boxing it. If the text cannot be parsed, the message is
+     * not delivered and a {@link DecodeException} is passed to the error handling method of the endpoint.
+     * <p>
+     * A handler of this kind is registered as a handler for text messages of type {@link Long}, for example using
+     * {@link Session#addMessageHandler(MessageHandler)} or {@link Session#addMessageHandler(Class, Whole)} with
+     * {@code Long.class}.
+     *
+     * @since WebSocket 2.3
+     */
+    interface OfLong extends Whole<Long> {
+
+        /**
+         * Called when a message holding a {@code long} value has been fully received.
+         *
+         * @param message the value of the message.
+         */
+        void onMessage(long message);
+
+        /**
+         * Called when a message holding a {@code long} value has been fully received, if the value has been boxed.
+         * Containers call {@link #onMessage(long)} instead.
+         *
+         * @implSpec The default implementation calls {@link #onMessage(long)} with the unboxed value.
+         *
+         * @param message the value of the message.
+         */
+        @Override
+        default void onMessage(Long message) {
+            onMessage(message.longValue());
+        }
+    }
+
+    /**
+     * This kind of handler is notified by the container on arrival of a complete text message that holds a
+     * {@code double} value. The container parses the text of the message as if by
+     * {@link Double#parseDouble(String)} and passes the value to {@link #onMessage(double)} without boxing it. If the
+     * text cannot be parsed, the message is not delivered and a {@link DecodeException} is passed to the error
+     * handling method of the endpoint.
+     * <p>
+     * A handler of this kind is registered as a handler for text messages of type {@link Double}, for example using
+     * {@link Session#addMessageHandler(MessageHandler)} or {@link Session#addMessageHandler(Class, Whole)} with
+     * {@code Double.class}.
+     *
+     * @since WebSocket 2.3
+     */
+    interface OfDouble extends Whole<Double> {
+
+        /**
+         * Called when a message holding a {@code double} value has been fully received.
+         *
+         * @param message the value of the message.
+         */
+        void onMessage(double message);
+
+        /**
+         * Called when a message holding a {@code double} value has been fully received, if the value has been boxed.
+         * Containers call {@link #onMessage(double)} instead.
+         *
+         * @implSpec The default implementation calls {@link #onMessage(double)} with the unboxed value.
+         *
+         * @param message the value of the message.
+         */
+        @Override
+        default void onMessage(Double message) {
+            onMessage(message.doubleValue());
+        }
+    }
 }
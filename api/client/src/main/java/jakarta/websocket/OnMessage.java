@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -47,6 +47,7 @@ import java.lang.annotation.Target;
  * <li>byte[] or {@link java.nio.ByteBuffer} to receive the whole message</li>
  * <li>byte[] and boolean pair, or {@link java.nio.ByteBuffer} and boolean pair to receive the message in parts</li>
  * <li>{@link java.io.InputStream} to receive the whole message as a blocking stream</li>
+ * <li>{@link PooledBinary} to receive the whole message in a buffer owned by the container (since WebSocket 2.3)</li>
  * <li>any object parameter for which the endpoint has a binary decoder ({@link Decoder.Binary} or
  * {@link Decoder.BinaryStream}).</li>
  * </ul>
@@ -76,6 +77,19 @@ import java.lang.annotation.Target;
  * above.
  *
  * <p>
+ * Since WebSocket 2.3, the return type may also be {@link java.util.concurrent.CompletionStage} or
+ * {@link java.util.concurrent.CompletableFuture} of any of the reference types above: String, ByteBuffer, byte[], the
+ * class equivalent of a Java primitive, such as {@code CompletionStage<Integer>}, or anything for which there is an
+ * encoder. Java primitives cannot be type arguments, so a stage of a primitive value is declared using its class
+ * equivalent and the value is sent as described above for class equivalents. The method returns as soon as it has
+ * started its work, releasing the container thread, and the web socket runtime sends the value with which the stage
+ * completes as the message to return to the peer, as described above. The runtime must not deliver the next message
+ * from the peer to the endpoint until the stage has completed and its value has been sent, so messages from a peer are
+ * still handled one at a time and the replies are sent in the order of the messages. If the stage completes with
+ * {@code null} no message is sent. If the stage completes exceptionally, the exception, or its cause if it is a
+ * {@link java.util.concurrent.CompletionException}, is passed to the endpoint's error handling method.
+ *
+ * <p>
  * Developers should note that if developer closes the session during the invocation of a method with a return type, the
  * method will complete but the return value will not be delivered to the remote endpoint. The send failure will be
  * passed back into the endpoint's error handling method.
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A whole binary message whose payload is held in a buffer owned by the container, typically taken from a pool of
+ * buffers that the container reuses for later messages. Applications that receive many binary messages can receive
+ * them as PooledBinary, with a {@link MessageHandler.Whole}{@code <PooledBinary>} or with a method annotated with
+ * {@link OnMessage} that has a PooledBinary parameter, so that the container does not need to allocate a new buffer
+ * for each message.
+ *
+ * <p>
+ * A PooledBinary is valid until it is released. Unless {@link #retain()} is called before the callback to which the
+ * message is delivered returns, the container releases the message when that callback returns. A retained message
+ * remains valid until the application calls {@link #release()}, which it must eventually do so that the container can
+ * reuse the buffer. Once a message has been released the container may reuse its buffer for another message, so the
+ * application must not use any buffer previously returned by {@link #getBuffer()}. The container is not required to
+ * detect such use, but {@link #getBuffer()} and {@link #retain()} throw an {@link IllegalStateException} when called
+ * on a released message.
+ *
+ * <p>
+ * The methods of a PooledBinary may be called from any thread.
+ *
+ * @since WebSocket 2.3
+ */
+public interface PooledBinary extends AutoCloseable {
+
+    /**
+     * Return a read-only view of the payload of this message. The position of the view is zero and its limit is the
+     * length of the payload. Each call returns a new view, so the position and limit of one view do not affect
+     * another.
+     *
+     * @return a read-only view of the payload.
+     * @throws IllegalStateException if this message has been released.
+     */
+    ByteBuffer getBuffer();
+
+    /**
+     * Return the length of the payload of this message in bytes. This method may also be called once the message has
+     * been released.
+     *
+     * @return the length of the payload in bytes.
+     */
+    int getPayloadLength();
+
+    /**
+     * Keep this message valid after the callback to which it was delivered returns, until {@link #release()} is
+     * called. Calling this method on a message that has already been retained has no further effect.
+     *
+     * @throws IllegalStateException if this message has been released.
+     */
+    void retain();
+
+    /**
+     * Release this message so that the container may reuse its buffer. Calling this method on a message that has
+     * already been released has no effect.
+     */
+    void release();
+
+    /**
+     * Indicates whether this message has been released, either by the application or by the container when the
+     * callback to which it was delivered returned without retaining it.
+     *
+     * @return {@code true} if this message has been released, otherwise {@code false}.
+     */
+    boolean isReleased();
+
+    /**
+     * Release this message, so that a retained message can be used in a try-with-resources statement.
+     *
+     * @implSpec The default implementation calls {@link #release()}.
+     */
+    @Override
+    default void close() {
+        release();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+/**
+ * A PreparedMessage is a whole web socket message whose payload has been fixed, and if necessary encoded, once so that
+ * it can be sent to any number of peers without repeating that work for each of them. PreparedMessages are created by
+ * the container using {@link WebSocketContainer#prepareText(String)},
+ * {@link WebSocketContainer#prepareBinary(java.nio.ByteBuffer)} or
+ * {@link WebSocketContainer#prepareObject(Object, EndpointConfig)} and are sent using
+ * {@link RemoteEndpoint.Async#sendPrepared(PreparedMessage, SendHandler)}.
+ *
+ * <p>
+ * Implementations are encouraged to build the framed form of the message, including the output of any negotiated
+ * extensions, the first time the message is sent with a given extension configuration and to reuse it for every
+ * subsequent send with the same configuration. Client containers must still mask every frame they send with a fresh
+ * masking key as required by RFC 6455, so they may only reuse the unmasked form of the message.
+ *
+ * <p>
+ * A PreparedMessage is immutable. It may be sent concurrently on any number of sessions that belong to the container
+ * that created it.
+ *
+ * @since WebSocket 2.3
+ */
+public interface PreparedMessage {
+
+    /**
+     * Indicates whether this message will be sent as a text message or as a binary message.
+     *
+     * @return {@code true} if this is a text message, {@code false} if this is a binary message.
+     */
+    boolean isText();
+
+    /**
+     * Return the length of the payload of this message in bytes. For text messages this is the length of the UTF-8
+     * encoded text. The length is that of the message before any negotiated extensions are applied.
+     *
+     * @return the length of the payload in bytes.
+     */
+    int getPayloadLength();
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 
 /**
@@ -66,7 +68,8 @@ public interface RemoteEndpoint {
      * Futures respectively. When batching is allowed, if the developer has called send methods on this RemoteEndpoint
      * without calling flushBatch(), then the implementation may not have sent all the messages the developer has asked
      * to be sent. If the parameter value is false and the implementation has a batch of unsent messages, then the
-     * implementation must immediately send the batch of unsent messages.
+     * implementation must immediately send the batch of unsent messages. The implementation also sends the batch
+     * whenever the {@link #getBatchFlushPolicy() batch flush policy} of this RemoteEndpoint requires it.
      *
      * @param allowed whether the implementation is allowed to batch messages.
      * @throws IOException if batching is being disabled and there are unsent messages this error may be thrown as the
@@ -92,6 +95,30 @@ public interface RemoteEndpoint {
      */
     void flushBatch() throws IOException;
 
+    /**
+     * Set the policy that tells the implementation when to send a batch of messages without waiting for the developer
+     * to call {@link #flushBatch()}. The policy only has an effect while batching is allowed. The initial policy of a
+     * RemoteEndpoint is the one returned by {@link EndpointConfig#getBatchFlushPolicy()} for its endpoint. If the
+     * messages already batched meet one of the conditions of the new policy, the implementation sends the batch
+     * without further delay. Implementations that do not support batching send every message without delay whatever
+     * the policy.
+     *
+     * @param policy the policy to use, {@code null} selects {@link BatchFlushPolicy#EXPLICIT}.
+     *
+     * @since WebSocket 2.3
+     */
+    void setBatchFlushPolicy(BatchFlushPolicy policy);
+
+    /**
+     * Return the policy that tells the implementation when to send a batch of messages without waiting for the
+     * developer to call {@link #flushBatch()}.
+     *
+     * @return the batch flush policy, never {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    BatchFlushPolicy getBatchFlushPolicy();
+
     /**
      * Send a Ping message containing the given application data to the remote endpoint. The corresponding Pong message
      * may be picked up using the MessageHandler.Pong handler.
@@ -151,6 +178,84 @@ public interface RemoteEndpoint {
          */
         void setSendTimeout(long timeoutmillis);
 
+        /**
+         * Return the number of bytes of outgoing data that have been accepted by the send methods of this
+         * RemoteEndpoint, including any messages held back by batching, but have not yet been written to the underlying
+         * connection. The value includes the framing overhead of any messages the container has already framed. A slow
+         * peer causes this value to grow, so developers may use it to decide whether to keep producing messages for
+         * this peer.
+         *
+         * @return the number of buffered bytes, never negative.
+         *
+         * @since WebSocket 2.3
+         */
+        long getBufferedAmount();
+
+        /**
+         * Sets the watermarks used to determine the writability of this RemoteEndpoint. This RemoteEndpoint becomes
+         * not writable when its buffered amount rises above the high watermark and becomes writable again once its
+         * buffered amount falls to or below the low watermark. The writability is advisory; messages passed to the send
+         * methods while this RemoteEndpoint is not writable are still accepted and buffered. The default watermarks
+         * are implementation specific.
+         *
+         * @param low  the low watermark in bytes.
+         * @param high the high watermark in bytes.
+         * @throws IllegalArgumentException if {@code low} is negative or if {@code high} is less than {@code low}.
+         *
+         * @see #getBufferedAmount()
+         * @see #setWritabilityListener(WritabilityListener)
+         *
+         * @since WebSocket 2.3
+         */
+        void setBufferedAmountWatermarks(long low, long high);
+
+        /**
+         * Return the low watermark of this RemoteEndpoint.
+         *
+         * @return the low watermark in bytes.
+         *
+         * @see #setBufferedAmountWatermarks(long, long)
+         *
+         * @since WebSocket 2.3
+         */
+        long getBufferedAmountLowWatermark();
+
+        /**
+         * Return the high watermark of this RemoteEndpoint.
+         *
+         * @return the high watermark in bytes.
+         *
+         * @see #setBufferedAmountWatermarks(long, long)
+         *
+         * @since WebSocket 2.3
+         */
+        long getBufferedAmountHighWatermark();
+
+        /**
+         * Indicates whether this RemoteEndpoint is currently writable. A RemoteEndpoint starts out writable, becomes
+         * not writable when its buffered amount rises above the high watermark and becomes writable again once its
+         * buffered amount falls to or below the low watermark.
+         *
+         * @return {@code true} if this RemoteEndpoint is writable, otherwise {@code false}.
+         *
+         * @see #setBufferedAmountWatermarks(long, long)
+         *
+         * @since WebSocket 2.3
+         */
+        boolean isWritable();
+
+        /**
+         * Sets the listener to be notified each time the value returned by {@link #isWritable()} changes. There is at
+         * most one listener per RemoteEndpoint; setting a listener replaces any listener set previously. The container
+         * does not notify the new listener of the current writability. Developers that need it should call
+         * {@link #isWritable()} after setting the listener.
+         *
+         * @param listener the listener, or {@code null} to remove the current listener.
+         *
+         * @since WebSocket 2.3
+         */
+        void setWritabilityListener(WritabilityListener listener);
+
         /**
          * Initiates the asynchronous transmission of a text message. This method returns before the message is
          * transmitted. Developers provide a callback to be notified when the message has been transmitted. Errors in
@@ -174,6 +279,182 @@ public interface RemoteEndpoint {
          */
         Future<Void> sendText(String text);
 
+        /**
+         * Initiates the asynchronous transmission of a text message whose characters are read from the given sequence.
+         * The container may read the characters at any point until the send completes, for example to encode them
+         * directly into its output buffers, so the developer must not modify the sequence until then. The container
+         * does not modify the sequence and does not retain a reference to it, or read from it, once the send has
+         * completed, so developers may reuse the sequence, such as a {@link StringBuilder} or a
+         * {@link java.nio.CharBuffer}, for later messages. This method returns before the message is transmitted.
+         * Developers provide a callback to be notified when the message has been transmitted. Errors in transmission
+         * are given to the developer in the SendResult object.
+         *
+         * @param text    the text being sent.
+         * @param handler the handler which will be notified of progress.
+         * @throws IllegalArgumentException if the text or the handler is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendText(CharSequence text, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a text message whose characters are read from the given sequence.
+         * The container may read the characters at any point until the send completes, for example to encode them
+         * directly into its output buffers, so the developer must not modify the sequence until then. The container
+         * does not modify the sequence and does not retain a reference to it, or read from it, once the send has
+         * completed, so developers may reuse the sequence, such as a {@link StringBuilder} or a
+         * {@link java.nio.CharBuffer}, for later messages. This method returns before the message is transmitted.
+         * Developers use the returned Future object to track progress of the transmission. The Future's get() method
+         * returns {@code null} upon successful completion. Errors in transmission are wrapped in the
+         * {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         *
+         * @param text the text being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the text is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendText(CharSequence text);
+
+        /**
+         * Initiates the asynchronous transmission of a text message that holds the given {@code long} value. The text
+         * of the message is the same as the result of {@link Long#toString(long)}, but the container may format the
+         * value directly into its output buffers without creating a String. This method returns before the message is
+         * transmitted. Developers use the returned Future object to track progress of the transmission. The Future's
+         * get() method returns {@code null} upon successful completion. Errors in transmission are wrapped in the
+         * {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         *
+         * @param value the value being sent.
+         * @return the Future object representing the send operation.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendNumber(long value);
+
+        /**
+         * Initiates the asynchronous transmission of a text message that holds the given {@code double} value. The
+         * text of the message is the same as the result of {@link Double#toString(double)}, but the container may
+         * format the value directly into its output buffers without creating a String. This method returns before the
+         * message is transmitted. Developers use the returned Future object to track progress of the transmission. The
+         * Future's get() method returns {@code null} upon successful completion. Errors in transmission are wrapped in
+         * the {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         *
+         * @param value the value being sent.
+         * @return the Future object representing the send operation.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendNumber(double value);
+
+        /**
+         * Initiates the asynchronous transmission of a text message that holds the given {@code long} value. The text
+         * of the message is the same as the result of {@link Long#toString(long)}, but the container may format the
+         * value directly into its output buffers without creating a String. This method returns before the message is
+         * transmitted. Developers provide a callback to be notified when the message has been transmitted. Errors in
+         * transmission are given to the developer in the SendResult object.
+         *
+         * @param value   the value being sent.
+         * @param handler the handler which will be notified of progress.
+         * @throws IllegalArgumentException if the handler is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendNumber(long value, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a text message that holds the given {@code double} value. The
+         * text of the message is the same as the result of {@link Double#toString(double)}, but the container may
+         * format the value directly into its output buffers without creating a String. This method returns before the
+         * message is transmitted. Developers provide a callback to be notified when the message has been transmitted.
+         * Errors in transmission are given to the developer in the SendResult object.
+         *
+         * @param value   the value being sent.
+         * @param handler the handler which will be notified of progress.
+         * @throws IllegalArgumentException if the handler is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendNumber(double value, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a text message whose payload is given as UTF-8 encoded bytes. The
+         * remaining bytes of the buffer are sent as the payload of the text message without being decoded to characters
+         * and encoded again. The container checks that the bytes are well-formed UTF-8 before sending any of them. This
+         * method returns before the message is transmitted. Developers use the returned Future object to track progress
+         * of the transmission. The Future's get() method returns {@code null} upon successful completion. Errors in
+         * transmission are wrapped in the {@link java.util.concurrent.ExecutionException} thrown when querying the
+         * Future object. If the bytes are not well-formed UTF-8, no part of the message is sent and the error is a
+         * {@link java.nio.charset.CharacterCodingException}.
+         * <p>
+         * It is not safe for other threads to use the ByteBuffer until the sending of this message is complete. If the
+         * sending of the message completes successfully, the buffer's limit will be unchanged and the buffer's position
+         * will be equal to the limit. If the sending of the message does not complete successfully, the state of the
+         * buffer is undefined.
+         *
+         * @param data the UTF-8 encoded text being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendTextUtf8(ByteBuffer data);
+
+        /**
+         * Initiates the asynchronous transmission of a text message whose payload is given as UTF-8 encoded bytes, as
+         * described in {@link #sendTextUtf8(ByteBuffer)}. If {@code validated} is {@code true}, the developer asserts
+         * that the bytes are well-formed UTF-8 and the container may send them without checking them. A peer that
+         * receives a text message that is not well-formed UTF-8 fails the connection, so developers should only do so
+         * for bytes produced by a UTF-8 encoder they trust. If {@code validated} is {@code false}, this method behaves
+         * as {@link #sendTextUtf8(ByteBuffer)}.
+         *
+         * @param data      the UTF-8 encoded text being sent.
+         * @param validated whether the developer has already ensured that the data is well-formed UTF-8.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendTextUtf8(ByteBuffer data, boolean validated);
+
+        /**
+         * Initiates the asynchronous transmission of a text message whose payload is given as UTF-8 encoded bytes. The
+         * remaining bytes of the buffer are sent as the payload of the text message without being decoded to characters
+         * and encoded again. The container checks that the bytes are well-formed UTF-8 before sending any of them. This
+         * method returns before the message is transmitted. Developers provide a callback to be notified when the
+         * message has been transmitted. Errors in transmission are given to the developer in the SendResult object. If
+         * the bytes are not well-formed UTF-8, no part of the message is sent and the error is a
+         * {@link java.nio.charset.CharacterCodingException}.
+         * <p>
+         * It is not safe for other threads to use the ByteBuffer until the sending of this message is complete. If the
+         * sending of the message completes successfully, the buffer's limit will be unchanged and the buffer's position
+         * will be equal to the limit. If the sending of the message does not complete successfully, the state of the
+         * buffer is undefined.
+         *
+         * @param data    the UTF-8 encoded text being sent, must not be {@code null}.
+         * @param handler the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if either the data or the handler are {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendTextUtf8(ByteBuffer data, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a text message whose payload is given as UTF-8 encoded bytes, as
+         * described in {@link #sendTextUtf8(ByteBuffer, SendHandler)}. If {@code validated} is {@code true}, the
+         * developer asserts that the bytes are well-formed UTF-8 and the container may send them without checking them.
+         * A peer that receives a text message that is not well-formed UTF-8 fails the connection, so developers should
+         * only do so for bytes produced by a UTF-8 encoder they trust. If {@code validated} is {@code false}, this
+         * method behaves as {@link #sendTextUtf8(ByteBuffer, SendHandler)}.
+         *
+         * @param data      the UTF-8 encoded text being sent, must not be {@code null}.
+         * @param validated whether the developer has already ensured that the data is well-formed UTF-8.
+         * @param handler   the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if either the data or the handler are {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendTextUtf8(ByteBuffer data, boolean validated, SendHandler handler);
+
         /**
          * Initiates the asynchronous transmission of a binary message. This method returns before the message is
          * transmitted. Developers use the returned Future object to track progress of the transmission. The Future's
@@ -207,6 +488,98 @@ public interface RemoteEndpoint {
          */
         void sendBinary(ByteBuffer data, SendHandler handler);
 
+        /**
+         * Initiates the asynchronous transmission of a binary message formed from the given sequence of buffers. The
+         * message payload is the concatenation of the remaining bytes of each buffer, in array order, and is
+         * transmitted to the peer as a single WebSocket message. Implementations may pass the buffers to a gathering
+         * write rather than copying them into a single buffer. This method returns before the message is transmitted.
+         * Developers use the returned Future object to track progress of the transmission. The Future's get() method
+         * returns {@code null} upon successful completion. Errors in transmission are wrapped in the
+         * {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         * <p>
+         * It is not safe for other threads to use any of the ByteBuffers until the sending of this message is
+         * complete. If the sending of the message completes successfully, the limit of each buffer will be unchanged
+         * and the position of each buffer will be equal to its limit. If the sending of the message does not complete
+         * successfully, the state of the buffers is undefined.
+         *
+         * @param data the buffers that together form the message being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the data or any of its elements is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendBinary(ByteBuffer[] data);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message formed from the given sequence of buffers. The
+         * message payload is the concatenation of the remaining bytes of each buffer, in array order, and is
+         * transmitted to the peer as a single WebSocket message. Implementations may pass the buffers to a gathering
+         * write rather than copying them into a single buffer. This method returns before the message is transmitted.
+         * Developers provide a callback to be notified when the message has been transmitted. Errors in transmission
+         * are given to the developer in the SendResult object.
+         * <p>
+         * It is not safe for other threads to use any of the ByteBuffers until the sending of this message is
+         * complete. If the sending of the message completes successfully, the limit of each buffer will be unchanged
+         * and the position of each buffer will be equal to its limit. If the sending of the message does not complete
+         * successfully, the state of the buffers is undefined.
+         *
+         * @param data    the buffers that together form the message being sent, must not be {@code null}.
+         * @param handler the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if the data, any of its elements or the handler are {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendBinary(ByteBuffer[] data, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message whose payload is the given region of a file. The
+         * {@code count} bytes of the channel starting at {@code position} are transmitted to the peer as a single
+         * WebSocket message. The container is free to split the region into frames as it sees fit and may transfer the
+         * bytes using {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, a mapped
+         * region of the file or any other means that avoids copying them through the Java heap. This method returns
+         * before the message is transmitted. Developers use the returned Future object to track progress of the
+         * transmission. The Future's get() method returns {@code null} upon successful completion. Errors in
+         * transmission, including the failure to read the region because the file has been truncated, are wrapped in
+         * the {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         * <p>
+         * The container reads the channel using absolute positions, so the position of the channel is unchanged by
+         * this method. The container does not close the channel. The developer must not close or truncate the channel
+         * until the sending of this message is complete.
+         *
+         * @param channel  the channel from which the message is read.
+         * @param position the position in the channel of the first byte of the message.
+         * @param count    the number of bytes in the message.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the channel is {@code null}, if the position or the count is negative or
+         *                                  if the region extends beyond the current size of the channel.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendBinary(FileChannel channel, long position, long count);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message whose payload is the given region of a file, as
+         * described in {@link #sendBinary(FileChannel, long, long)}. This method returns before the message is
+         * transmitted. Developers provide a callback to be notified when the message has been transmitted. Errors in
+         * transmission, including the failure to read the region because the file has been truncated, are given to
+         * the developer in the SendResult object.
+         * <p>
+         * The container reads the channel using absolute positions, so the position of the channel is unchanged by
+         * this method. The container does not close the channel. The developer must not close or truncate the channel
+         * until the sending of this message is complete.
+         *
+         * @param channel  the channel from which the message is read, must not be {@code null}.
+         * @param position the position in the channel of the first byte of the message.
+         * @param count    the number of bytes in the message.
+         * @param handler  the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if the channel or the handler is {@code null}, if the position or the count
+         *                                  is negative or if the region extends beyond the current size of the
+         *                                  channel.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendBinary(FileChannel channel, long position, long count, SendHandler handler);
+
         /**
          * Initiates the asynchronous transmission of a custom developer object. The developer will have provided an
          * encoder for this object type in the endpoint configuration. Containers will by default be able to encode java
@@ -236,6 +609,225 @@ public interface RemoteEndpoint {
          */
         void sendObject(Object data, SendHandler handler);
 
+        /**
+         * Initiates the asynchronous transmission of a text message. This method returns before the message is
+         * transmitted. Developers use the returned CompletionStage to track progress of the transmission and to compose
+         * further processing. The stage completes normally with a {@code null} value upon successful completion. If the
+         * message cannot be transmitted, the stage completes exceptionally with the cause of the failure.
+         * <p>
+         * The container may complete the stage from the thread that completed the write, so dependent actions that are
+         * not registered using one of the {@code *Async} methods of CompletionStage may be run on that thread and
+         * should not block.
+         *
+         * @param text the text being sent.
+         * @return the CompletionStage representing the send operation.
+         * @throws IllegalArgumentException if the text is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        CompletionStage<Void> sendTextAsync(String text);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message. This method returns before the message is
+         * transmitted. Developers use the returned CompletionStage to track progress of the transmission and to compose
+         * further processing. The stage completes normally with a {@code null} value upon successful completion. If the
+         * message cannot be transmitted, the stage completes exceptionally with the cause of the failure.
+         * <p>
+         * It is not safe for other threads to use the ByteBuffer until the sending of this message is complete. If the
+         * sending of the message completes successfully, the buffer's limit will be unchanged and the buffer's position
+         * will be equal to the limit. If the sending of the message does not complete successfully, the state of the
+         * buffer is undefined.
+         *
+         * @param data the data being sent.
+         * @return the CompletionStage representing the send operation.
+         * @throws IllegalArgumentException if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        CompletionStage<Void> sendBinaryAsync(ByteBuffer data);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message formed from the given sequence of buffers, as
+         * described in {@link #sendBinary(ByteBuffer[])}. This method returns before the message is transmitted.
+         * Developers use the returned CompletionStage to track progress of the transmission and to compose further
+         * processing. The stage completes normally with a {@code null} value upon successful completion. If the message
+         * cannot be transmitted, the stage completes exceptionally with the cause of the failure.
+         * <p>
+         * It is not safe for other threads to use any of the ByteBuffers until the sending of this message is complete.
+         * If the sending of the message completes successfully, the limit of each buffer will be unchanged and the
+         * position of each buffer will be equal to its limit. If the sending of the message does not complete
+         * successfully, the state of the buffers is undefined.
+         *
+         * @param data the buffers that together form the message being sent.
+         * @return the CompletionStage representing the send operation.
+         * @throws IllegalArgumentException if the data or any of its elements is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        CompletionStage<Void> sendBinaryAsync(ByteBuffer[] data);
+
+        /**
+         * Initiates the asynchronous transmission of a custom developer object. Containers will by default be able to
+         * encode java primitive types and their object equivalents, otherwise the developer must have provided an
+         * encoder for the object type in the endpoint configuration. A developer-provided encoder for a Java primitive
+         * type and its object equivalent overrides the container default encoder. This method returns before the
+         * message is transmitted. Developers use the returned CompletionStage to track progress of the transmission and
+         * to compose further processing. The stage completes normally with a {@code null} value upon successful
+         * completion. If the message cannot be transmitted, the stage completes exceptionally with the cause of the
+         * failure. If the object cannot be encoded, the stage completes exceptionally with the {@link EncodeException}.
+         *
+         * @param data the object being sent.
+         * @return the CompletionStage representing the send operation.
+         * @throws IllegalArgumentException if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        CompletionStage<Void> sendObjectAsync(Object data);
+
+        /**
+         * Initiates the asynchronous transmission of a prepared message. This method returns before the message is
+         * transmitted. Developers use the returned Future object to track progress of the transmission. The Future's
+         * get() method returns {@code null} upon successful completion. Errors in transmission are wrapped in the
+         * {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         *
+         * @param message the prepared message being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the message is {@code null} or was not created by the container of this
+         *                                  session.
+         *
+         * @since WebSocket 2.3
+         */
+        Future<Void> sendPrepared(PreparedMessage message);
+
+        /**
+         * Initiates the asynchronous transmission of a prepared message. This method returns before the message is
+         * transmitted. Developers provide a callback to be notified when the message has been transmitted. Errors in
+         * transmission are given to the developer in the SendResult object.
+         * <p>
+         * Sending a prepared message does not repeat the encoding of its payload and, where the implementation is able
+         * to, reuses the frame built for an earlier send of the same message. See {@link PreparedMessage}.
+         *
+         * @param message the prepared message being sent, must not be {@code null}.
+         * @param handler the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if either the message or the handler are {@code null}, or if the message was
+         *                                  not created by the container of this session.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendPrepared(PreparedMessage message, SendHandler handler);
+
+    }
+
+    /**
+     * This representation of the peer of a web socket conversation sends messages asynchronously and conflates them by
+     * key: only the most recent message sent with a given key is of interest to the peer. It is intended for streams of
+     * updates, such as prices or presence information, where a slow peer should receive the latest value for each key
+     * rather than every intermediate value. Instances are obtained from the Session using
+     * {@link Session#getConflatingRemote()}.
+     *
+     * <p>
+     * Each message is sent with a key. Keys are compared using {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}. If a message sent with a key equal to that of a message previously sent through this
+     * RemoteEndpoint is still queued, and the container has not yet started to write the queued message, the new
+     * message replaces the queued message and takes its place in the outgoing queue. The send of the replaced message
+     * completes successfully without the message being sent. Otherwise the new message is queued in the same way as a
+     * message sent using {@link RemoteEndpoint.Async}.
+     *
+     * <p>
+     * Messages sent using this RemoteEndpoint share the connection, and therefore the outgoing queue, with messages
+     * sent using {@link Session#getAsyncRemote()} and {@link Session#getBasicRemote()}. Messages that are not replaced
+     * are transmitted in the order in which they were sent. Custom developer objects are encoded using the encoders in
+     * the endpoint configuration. The container may defer encoding an object until it is about to write the message, in
+     * which case an object whose message is replaced is never encoded.
+     *
+     * @since WebSocket 2.3
+     */
+    interface Conflating extends RemoteEndpoint {
+
+        /**
+         * Initiates the asynchronous transmission of a text message that replaces any queued message sent with an equal
+         * key. This method returns before the message is transmitted. Developers use the returned Future object to
+         * track progress of the transmission. The Future's get() method returns {@code null} upon successful
+         * completion, including when the message is replaced by a later message with an equal key. Errors in
+         * transmission are wrapped in the {@link java.util.concurrent.ExecutionException} thrown when querying the
+         * Future object.
+         *
+         * @param key  the key that identifies the value the message carries.
+         * @param text the text being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the key or the text is {@code null}.
+         */
+        Future<Void> sendText(Object key, String text);
+
+        /**
+         * Initiates the asynchronous transmission of a text message that replaces any queued message sent with an equal
+         * key. This method returns before the message is transmitted. Developers provide a callback to be notified when
+         * the message has been transmitted or has been replaced by a later message with an equal key. Errors in
+         * transmission are given to the developer in the SendResult object.
+         *
+         * @param key     the key that identifies the value the message carries.
+         * @param text    the text being sent.
+         * @param handler the handler which will be notified of progress.
+         * @throws IllegalArgumentException if the key, the text or the handler is {@code null}.
+         */
+        void sendText(Object key, String text, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message that replaces any queued message sent with an
+         * equal key. This method returns before the message is transmitted. Developers use the returned Future object
+         * to track progress of the transmission. The Future's get() method returns {@code null} upon successful
+         * completion, including when the message is replaced by a later message with an equal key. Errors in
+         * transmission are wrapped in the {@link java.util.concurrent.ExecutionException} thrown when querying the
+         * Future object.
+         *
+         * @param key  the key that identifies the value the message carries.
+         * @param data the data being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the key or the data is {@code null}.
+         */
+        Future<Void> sendBinary(Object key, ByteBuffer data);
+
+        /**
+         * Initiates the asynchronous transmission of a binary message that replaces any queued message sent with an
+         * equal key. This method returns before the message is transmitted. Developers provide a callback to be
+         * notified when the message has been transmitted or has been replaced by a later message with an equal key.
+         * Errors in transmission are given to the developer in the SendResult object.
+         *
+         * @param key     the key that identifies the value the message carries.
+         * @param data    the data being sent.
+         * @param handler the handler which will be notified of progress.
+         * @throws IllegalArgumentException if the key, the data or the handler is {@code null}.
+         */
+        void sendBinary(Object key, ByteBuffer data, SendHandler handler);
+
+        /**
+         * Initiates the asynchronous transmission of a custom developer object that replaces any queued message sent
+         * with an equal key. The object is encoded in the same way as by
+         * {@link RemoteEndpoint.Async#sendObject(Object)}. Developers use the returned Future object to track progress
+         * of the transmission. The Future's get() method returns {@code null} upon successful completion, including
+         * when the message is replaced by a later message with an equal key. Errors in encoding or transmission are
+         * wrapped in the {@link java.util.concurrent.ExecutionException} thrown when querying the Future object.
+         *
+         * @param key  the key that identifies the value the message carries.
+         * @param data the object being sent.
+         * @return the Future object representing the send operation.
+         * @throws IllegalArgumentException if the key or the data is {@code null}.
+         */
+        Future<Void> sendObject(Object key, Object data);
+
+        /**
+         * Initiates the asynchronous transmission of a custom developer object that replaces any queued message sent
+         * with an equal key. The object is encoded in the same way as by {@link RemoteEndpoint.Async#sendObject(Object,
+         * SendHandler)}. Developers are notified when the message has been transmitted or has been replaced by a later
+         * message with an equal key through the supplied callback object. Errors in encoding or transmission are given
+         * to the developer in the SendResult object.
+         *
+         * @param key     the key that identifies the value the message carries.
+         * @param data    the object being sent.
+         * @param handler the handler that will be notified of progress, must not be {@code null}.
+         * @throws IllegalArgumentException if the key, the data or the handler is {@code null}.
+         */
+        void sendObject(Object key, Object data, SendHandler handler);
     }
 
     /**
@@ -263,6 +855,87 @@ public interface RemoteEndpoint {
          */
         void sendText(String text) throws IOException;
 
+        /**
+         * Send a text message whose characters are read from the given sequence, blocking until all of the message has
+         * been transmitted. The container may encode the characters directly from the sequence rather than first
+         * copying them into a String. The developer must not modify the sequence while this method is running. The
+         * container does not modify the sequence and does not retain a reference to it, or read from it, once this
+         * method has returned, so developers may reuse the sequence, such as a {@link StringBuilder} or a
+         * {@link java.nio.CharBuffer}, for later messages.
+         *
+         * @param text the message to be sent.
+         * @throws IOException              if there is a problem delivering the message.
+         * @throws IllegalArgumentException if the text is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendText(CharSequence text) throws IOException;
+
+        /**
+         * Send a text message that holds the given {@code long} value, blocking until all of the message has been
+         * transmitted. The text of the message is the same as the result of {@link Long#toString(long)}, but the
+         * container may format the value directly into its output buffers without creating a String.
+         *
+         * @param value the value to be sent.
+         * @throws IOException if there is a problem delivering the message.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendNumber(long value) throws IOException;
+
+        /**
+         * Send a text message that holds the given {@code double} value, blocking until all of the message has been
+         * transmitted. The text of the message is the same as the result of {@link Double#toString(double)}, but the
+         * container may format the value directly into its output buffers without creating a String.
+         *
+         * @param value the value to be sent.
+         * @throws IOException if there is a problem delivering the message.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendNumber(double value) throws IOException;
+
+        /**
+         * Send a text message whose payload is given as UTF-8 encoded bytes, blocking until all of the message has been
+         * transmitted. The remaining bytes of the buffer are sent as the payload of the text message without being
+         * decoded to characters and encoded again. The container checks that the bytes are well-formed UTF-8 before
+         * sending any of them.
+         * <p>
+         * It is not safe for other threads to use the ByteBuffer until the sending of this message is complete. If the
+         * sending of the message completes successfully, the buffer's limit will be unchanged and the buffer's position
+         * will be equal to the limit. If the sending of the message does not complete successfully, the state of the
+         * buffer is undefined.
+         *
+         * @param data the UTF-8 encoded text of the message to be sent.
+         * @throws java.nio.charset.CharacterCodingException if the data is not well-formed UTF-8, in which case no part
+         *                                                   of the message is sent.
+         * @throws IOException                               if there is a problem delivering the message.
+         * @throws IllegalArgumentException                  if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendTextUtf8(ByteBuffer data) throws IOException;
+
+        /**
+         * Send a text message whose payload is given as UTF-8 encoded bytes, blocking until all of the message has been
+         * transmitted, as described in {@link #sendTextUtf8(ByteBuffer)}. If {@code validated} is {@code true}, the
+         * developer asserts that the bytes are well-formed UTF-8 and the container may send them without checking
+         * them. A peer that receives a text message that is not well-formed UTF-8 fails the connection, so developers
+         * should only do so for bytes produced by a UTF-8 encoder they trust. If {@code validated} is {@code false},
+         * this method behaves as {@link #sendTextUtf8(ByteBuffer)}.
+         *
+         * @param data      the UTF-8 encoded text of the message to be sent.
+         * @param validated whether the developer has already ensured that the data is well-formed UTF-8.
+         * @throws java.nio.charset.CharacterCodingException if {@code validated} is {@code false} and the data is not
+         *                                                   well-formed UTF-8, in which case no part of the message is
+         *                                                   sent.
+         * @throws IOException                               if there is a problem delivering the message.
+         * @throws IllegalArgumentException                  if the data is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendTextUtf8(ByteBuffer data, boolean validated) throws IOException;
+
         /**
          * Send a binary message, returning when all of the message has been transmitted.
          * <p>
@@ -278,6 +951,48 @@ public interface RemoteEndpoint {
          */
         void sendBinary(ByteBuffer data) throws IOException;
 
+        /**
+         * Send a binary message formed from the given sequence of buffers, returning when all of the message has been
+         * transmitted. The message payload is the concatenation of the remaining bytes of each buffer, in array order,
+         * and is transmitted to the peer as a single WebSocket message. Implementations may pass the buffers to a
+         * gathering write rather than copying them into a single buffer.
+         * <p>
+         * It is not safe for other threads to use any of the ByteBuffers until the sending of this message is complete.
+         * If the sending of the message completes successfully, the limit of each buffer will be unchanged and the
+         * position of each buffer will be equal to its limit. If the sending of the message does not complete
+         * successfully, the state of the buffers is undefined.
+         *
+         * @param data the buffers that together form the message to be sent.
+         * @throws IOException              if there is a problem delivering the message.
+         * @throws IllegalArgumentException if the data or any of its elements is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendBinary(ByteBuffer[] data) throws IOException;
+
+        /**
+         * Send a binary message whose payload is the given region of a file, returning when all of the message has been
+         * transmitted. The {@code count} bytes of the channel starting at {@code position} are transmitted to the peer
+         * as a single WebSocket message. The container is free to split the region into frames as it sees fit and may
+         * transfer the bytes using
+         * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, a mapped region of the
+         * file or any other means that avoids copying them through the Java heap.
+         * <p>
+         * The container reads the channel using absolute positions, so the position of the channel is unchanged by
+         * this method. The container does not close the channel. The developer must not close or truncate the channel
+         * until this method has returned.
+         *
+         * @param channel  the channel from which the message is read.
+         * @param position the position in the channel of the first byte of the message.
+         * @param count    the number of bytes in the message.
+         * @throws IOException              if there is a problem reading the channel or delivering the message.
+         * @throws IllegalArgumentException if the channel is {@code null}, if the position or the count is negative or
+         *                                  if the region extends beyond the current size of the channel.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendBinary(FileChannel channel, long position, long count) throws IOException;
+
         /**
          * Send a text message in parts, blocking until all of the message has been transmitted. The runtime reads the
          * message in order. Non-final parts of the message are sent with isLast set to false. The final part must be
@@ -290,6 +1005,22 @@ public interface RemoteEndpoint {
          */
         void sendText(String partialMessage, boolean isLast) throws IOException;
 
+        /**
+         * Send a text message in parts, blocking until all of the part has been transmitted, reading the characters of
+         * each part from the given sequence. The runtime reads the message in order. Non-final parts of the message are
+         * sent with isLast set to false. The final part must be sent with isLast set to true. The container does not
+         * modify the sequence and does not retain a reference to it, or read from it, once this method has returned, so
+         * developers may reuse the same sequence for every part of the message.
+         *
+         * @param partialMessage the parts of the message being sent.
+         * @param isLast         Whether the partial message being sent is the last part of the message.
+         * @throws IOException              if there is a problem delivering the message fragment.
+         * @throws IllegalArgumentException if the partialMessage is {@code null}.
+         *
+         * @since WebSocket 2.3
+         */
+        void sendText(CharSequence partialMessage, boolean isLast) throws IOException;
+
         /**
          * Send a binary message in parts, blocking until all of the message has been transmitted. The runtime reads the
          * message in order. Non-final parts are sent with isLast set to false. The final piece must be sent with isLast
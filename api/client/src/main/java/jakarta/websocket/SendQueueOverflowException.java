@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+import java.io.IOException;
+
+/**
+ * A SendQueueOverflowException indicates that an asynchronous send was not accepted because the outbound queue of the
+ * session had reached one of its configured limits.
+ *
+ * @see SendQueueOverflowPolicy
+ * @since WebSocket 2.3
+ */
+public class SendQueueOverflowException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a SendQueueOverflowException with the given message.
+     *
+     * @param message a description of the limit that was reached.
+     */
+    public SendQueueOverflowException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a SendQueueOverflowException with the given message and cause.
+     *
+     * @param message a description of the limit that was reached.
+     * @param cause   the cause of the problem.
+     */
+    public SendQueueOverflowException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
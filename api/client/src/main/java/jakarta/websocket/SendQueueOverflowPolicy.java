@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+/**
+ * The action a container takes when an asynchronous send would take the outbound queue of a session past one of the
+ * limits given by {@link EndpointConfig#getMaxSendQueueMessages()} or {@link EndpointConfig#getMaxSendQueueBytes()}.
+ *
+ * <p>
+ * The outbound queue of a session holds every message that has been accepted by one of the send methods of
+ * {@link RemoteEndpoint.Async} but has not yet been completely written to the network. A message is always accepted
+ * when the queue is empty, whatever its size.
+ *
+ * @since WebSocket 2.3
+ */
+public enum SendQueueOverflowPolicy {
+
+    /**
+     * The new message is not queued. Its send completes with a {@link SendQueueOverflowException}, either as the
+     * exception of the {@link SendResult} passed to the {@link SendHandler} or as the cause of the
+     * {@link java.util.concurrent.ExecutionException} thrown by the {@link java.util.concurrent.Future}.
+     */
+    FAIL,
+
+    /**
+     * The oldest queued messages that the container has not yet started to write are discarded until the new message
+     * fits. The sends of the discarded messages complete successfully without the messages being sent. If the new
+     * message still does not fit once every such message has been discarded, it is handled as for {@link #FAIL}.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new message is discarded. Its send completes successfully without the message being sent.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The new message is handled as for {@link #FAIL} and the container then closes the session with the close code
+     * {@link CloseReason.CloseCodes#TRY_AGAIN_LATER}.
+     */
+    CLOSE
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,6 +24,7 @@ import java.security.Principal;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A Web Socket session represents a conversation between two web socket endpoints. As soon as the websocket handshake
@@ -219,6 +220,83 @@ public interface Session extends Closeable {
      */
     int getMaxTextMessageBufferSize();
 
+    /**
+     * Suspends the delivery of incoming messages to this session. Once this method returns, the container does not
+     * start to deliver another message, or another part of a partial message, to any message handler or method
+     * annotated with {@link OnMessage} of this session until {@link #resumeIncoming()} is called. A delivery that is in
+     * progress when this method is called, including the one from which it is called, is allowed to complete.
+     *
+     * <p>
+     * While incoming messages are suspended, the container stops reading from the underlying connection once it has
+     * buffered an implementation specific amount of incoming data, so that the peer is slowed down by the flow control
+     * of the transport rather than the container buffering an unbounded number of messages. As a consequence, control
+     * frames sent by the peer, such as pings and close frames, may not be processed until delivery is resumed. The
+     * session is not considered inactive for the purposes of {@link #getMaxIdleTimeout()} while incoming messages are
+     * suspended.
+     *
+     * <p>
+     * Calling this method while incoming messages are already suspended has no effect; calls are not counted. Any demand
+     * granted by {@link #requestIncoming(long)} that has not been used yet is discarded. Sending messages is not
+     * affected.
+     *
+     * @throws IllegalStateException if the session is closed.
+     *
+     * @since WebSocket 2.3
+     */
+    void suspendIncoming();
+
+    /**
+     * Resumes the delivery of incoming messages to this session after a call to {@link #suspendIncoming()}. Messages
+     * received while delivery was suspended are delivered in the order in which they were received. Calling this method
+     * while incoming messages are not suspended has no effect. This method may be called from any thread, including
+     * from a message handler of this session.
+     *
+     * @throws IllegalStateException if the session is closed.
+     *
+     * @since WebSocket 2.3
+     */
+    void resumeIncoming();
+
+    /**
+     * Indicates whether the delivery of incoming messages to this session is currently suspended.
+     *
+     * @return {@code true} if {@link #suspendIncoming()} has been called and {@link #resumeIncoming()} has not been
+     *         called since, whether or not demand granted by {@link #requestIncoming(long)} is outstanding, otherwise
+     *         {@code false}.
+     *
+     * @since WebSocket 2.3
+     */
+    boolean isIncomingSuspended();
+
+    /**
+     * Permits the delivery of {@code n} more incoming messages to this session while the delivery of incoming messages
+     * is suspended. Once the messages have been delivered the session remains suspended until more messages are
+     * requested or {@link #resumeIncoming()} is called. Together with {@link #suspendIncoming()} this gives incoming
+     * messages the same demand semantics as {@code java.util.concurrent.Flow.Subscription.request(long)}, so that a
+     * session can be adapted to a reactive streams publisher with back pressure that reaches the peer.
+     *
+     * <p>
+     * Each invocation of a message handler or of a method annotated with {@link OnMessage} consumes one unit of demand;
+     * a partial message handler therefore consumes one unit for each part. Demand is cumulative. If the outstanding
+     * demand would exceed {@link Long#MAX_VALUE} it is set to {@link Long#MAX_VALUE} and treated as unbounded. While no
+     * demand is outstanding the container stops reading from the underlying connection as described for
+     * {@link #suspendIncoming()}.
+     *
+     * <p>
+     * The argument is checked before the state of the session, so this method always throws an
+     * {@link IllegalArgumentException} if {@code n} is zero or negative, whether or not incoming messages are
+     * suspended and whether or not the session is closed. Otherwise, calling this method while incoming messages are
+     * not suspended has no effect. This method may be called from any thread, including from a message handler of this
+     * session.
+     *
+     * @param n the number of additional messages that may be delivered, must be positive.
+     * @throws IllegalArgumentException if {@code n} is zero or negative, even if incoming messages are not suspended.
+     * @throws IllegalStateException if the session is closed.
+     *
+     * @since WebSocket 2.3
+     */
+    void requestIncoming(long n);
+
     /**
      * Return a reference a RemoteEndpoint object representing the peer of this conversation that is able to send
      * messages asynchronously to the peer.
@@ -235,6 +313,15 @@ public interface Session extends Closeable {
      */
     RemoteEndpoint.Basic getBasicRemote();
 
+    /**
+     * Return a reference a RemoteEndpoint object representing the peer of this conversation that is able to send
+     * messages asynchronously to the peer, replacing any queued message that was sent with the same key.
+     *
+     * @return the remote endpoint.
+     * @since WebSocket 2.3
+     */
+    RemoteEndpoint.Conflating getConflatingRemote();
+
     /**
      * Returns a string containing the unique identifier assigned to this session. The identifier is assigned by the web
      * socket implementation and is implementation dependent.
@@ -339,4 +426,87 @@ public interface Session extends Closeable {
      * @return the set of sessions, open at the time of return.
      */
     Set<Session> getOpenSessions();
+
+    /**
+     * Perform the given action for each open web socket session that represents a connection to the same endpoint to
+     * which this session represents a connection, including this session. Unlike {@link #getOpenSessions()}, this
+     * method does not copy the sessions into a new collection and is intended for use when broadcasting to a large
+     * number of peers.
+     * <p>
+     * The traversal is weakly consistent. Each session that is open for the whole of the traversal is passed to the
+     * action exactly once. Sessions that are opened or closed while the traversal is in progress may or may not be
+     * passed to the action. No session is passed to the action more than once and the traversal never throws
+     * {@link java.util.ConcurrentModificationException}. As with {@link #getOpenSessions()}, a session passed to the
+     * action may have closed by the time the action runs. Developers should use session.isOpen() to check.
+     * <p>
+     * Any exception thrown by the action is propagated to the caller and ends the traversal.
+     *
+     * @param action the action to perform for each open session.
+     * @throws IllegalArgumentException if the action is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    void forEachOpenSession(Consumer<? super Session> action);
+
+    /**
+     * Return the value of the given attribute of this session. Attributes are a typed alternative to
+     * {@link #getUserProperties()}. How attributes are stored is left to the container. Attributes may be read and
+     * written by any number of threads concurrently and reading an attribute does not block.
+     * <p>
+     * For server sessions, the initial attributes of the session are the attributes returned by
+     * {@link EndpointConfig#getAttributeKeys()} and {@link EndpointConfig#getAttribute(AttributeKey)} for the
+     * {@code jakarta.websocket.server.ServerEndpointConfig} at the point the
+     * {@code jakarta.websocket.server.ServerEndpointConfig.Configurator#modifyHandshake()} method exits.
+     * <p>
+     * For client sessions, the initial attributes of the session are the attributes of the {@link ClientEndpointConfig}
+     * passed to {@link WebSocketContainer#connectToServer(Class, ClientEndpointConfig, URI)} or
+     * {@link WebSocketContainer#connectToServer(Endpoint, ClientEndpointConfig, URI)}.
+     * <p>
+     * Later changes to the attributes of the configuration do not affect the session, and changes to the attributes of
+     * the session do not affect the configuration.
+     *
+     * @param <T> the type of the attribute value.
+     * @param key the key of the attribute.
+     * @return the value of the attribute, or {@code null} if the attribute is not set.
+     * @throws IllegalArgumentException if the key is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    <T> T getAttribute(AttributeKey<T> key);
+
+    /**
+     * Set the value of the given attribute of this session. Setting the value to {@code null} removes the attribute.
+     *
+     * @param <T>   the type of the attribute value.
+     * @param key   the key of the attribute.
+     * @param value the new value of the attribute, or {@code null} to remove it.
+     * @return the previous value of the attribute, or {@code null} if the attribute was not set.
+     * @throws IllegalArgumentException if the key is {@code null} or if the value is not an instance of the type of the
+     *                                  key.
+     *
+     * @since WebSocket 2.3
+     */
+    <T> T setAttribute(AttributeKey<T> key, T value);
+
+    /**
+     * Remove the given attribute from this session.
+     *
+     * @param <T> the type of the attribute value.
+     * @param key the key of the attribute.
+     * @return the previous value of the attribute, or {@code null} if the attribute was not set.
+     * @throws IllegalArgumentException if the key is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    <T> T removeAttribute(AttributeKey<T> key);
+
+    /**
+     * Return the traffic statistics of this session. The returned object is a live view of statistics maintained by
+     * the container, so the same object may be retained and read repeatedly, including after this session has closed.
+     *
+     * @return the statistics of this session.
+     *
+     * @since WebSocket 2.3
+     */
+    SessionStatistics getStatistics();
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket;
+
+/**
+ * The traffic statistics of a {@link Session}, obtained using {@link Session#getStatistics()}. The statistics are
+ * maintained by the container, which is the only party that sees the frames, control messages and extension output of
+ * the connection.
+ *
+ * <p>
+ * A SessionStatistics is a live view: each method returns the current value of its statistic. The values returned by
+ * different methods are not a consistent snapshot of the session. Containers are expected to maintain the statistics
+ * without locking, for example using {@link java.util.concurrent.atomic.LongAdder}, so that keeping them does not
+ * slow down the session, and reading a statistic never blocks. The methods of this interface may be called from any
+ * thread, including after the session has closed, in which case they return the final values.
+ *
+ * <p>
+ * Apart from {@link #getQueuedMessages()}, {@link #getLastReadTime()} and {@link #getLastWriteTime()}, every statistic
+ * is a counter that starts at zero when the session is opened and never decreases.
+ *
+ * @since WebSocket 2.3
+ */
+public interface SessionStatistics {
+
+    /**
+     * Return the number of whole text and binary messages received. A message received in several frames is counted
+     * once, when its last frame has been received.
+     *
+     * @return the number of messages received.
+     */
+    long getMessagesReceived();
+
+    /**
+     * Return the number of whole text and binary messages sent. A message sent in several parts is counted once, when
+     * its last part has been written.
+     *
+     * @return the number of messages sent.
+     */
+    long getMessagesSent();
+
+    /**
+     * Return the number of payload bytes of the text and binary messages received, after any negotiated extensions
+     * have been applied. For text messages this is the length of the UTF-8 encoded text.
+     *
+     * @return the number of payload bytes received.
+     */
+    long getBytesReceived();
+
+    /**
+     * Return the number of payload bytes of the text and binary messages sent, before any negotiated extensions are
+     * applied. For text messages this is the length of the UTF-8 encoded text.
+     *
+     * @return the number of payload bytes sent.
+     */
+    long getBytesSent();
+
+    /**
+     * Return the number of bytes of web socket frames, data and control frames alike, read from the connection. This
+     * includes the frame headers and reflects the output of any negotiated extensions, such as compression.
+     *
+     * @return the number of bytes read from the connection.
+     */
+    long getWireBytesReceived();
+
+    /**
+     * Return the number of bytes of web socket frames, data and control frames alike, written to the connection. This
+     * includes the frame headers and reflects the output of any negotiated extensions, such as compression.
+     *
+     * @return the number of bytes written to the connection.
+     */
+    long getWireBytesSent();
+
+    /**
+     * Return the number of web socket frames, data and control frames alike, received.
+     *
+     * @return the number of frames received.
+     */
+    long getFramesReceived();
+
+    /**
+     * Return the number of web socket frames, data and control frames alike, sent.
+     *
+     * @return the number of frames sent.
+     */
+    long getFramesSent();
+
+    /**
+     * Return the number of ping messages received.
+     *
+     * @return the number of pings received.
+     */
+    long getPingsReceived();
+
+    /**
+     * Return the number of ping messages sent.
+     *
+     * @return the number of pings sent.
+     */
+    long getPingsSent();
+
+    /**
+     * Return the number of pong messages received, whether in response to a ping or unsolicited.
+     *
+     * @return the number of pongs received.
+     */
+    long getPongsReceived();
+
+    /**
+     * Return the number of pong messages sent, including those the container sends automatically in response to a
+     * ping.
+     *
+     * @return the number of pongs sent.
+     */
+    long getPongsSent();
+
+    /**
+     * Return the number of messages currently held in the outbound queue of the session, that is messages accepted by
+     * {@link RemoteEndpoint.Async} that have not yet been completely written. The number of bytes held in the queue is
+     * returned by {@link RemoteEndpoint.Async#getBufferedAmount()}.
+     *
+     * @return the current depth of the outbound queue.
+     */
+    long getQueuedMessages();
+
+    /**
+     * Return the time at which data was last read from the connection, in milliseconds since the epoch as returned by
+     * {@link System#currentTimeMillis()}.
+     *
+     * @return the time of the last read, or {@code -1} if nothing has been read since the session was opened.
+     */
+    long getLastReadTime();
+
+    /**
+     * Return the time at which data was last written to the connection, in milliseconds since the epoch as returned by
+     * {@link System#currentTimeMillis()}.
+     *
+     * @return the time of the last write, or {@code -1} if nothing has been written since the session was opened.
+     */
+    long getLastWriteTime();
+
+    /**
+     * Return the total time in nanoseconds the container has spent invoking the message handlers and the onMessage,
+     * onOpen, onClose and onError methods of the endpoint for this session.
+     *
+     * @return the total dispatch time in nanoseconds.
+     */
+    long getDispatchTimeNanos();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Shareable annotation marks an {@link Encoder} or {@link Decoder} implementation class as safe to be shared by
+ * all the sessions of an endpoint. Instead of creating a new instance of the class for each connection, the
+ * implementation creates a single instance of a shareable class per endpoint configuration, and uses it for every
+ * session that uses that configuration.
+ * <p>
+ * The implementation calls {@link Encoder#init(EndpointConfig)} or {@link Decoder#init(EndpointConfig)} on the shared
+ * instance once, with the endpoint configuration, before it is first used. For server endpoints, the implementation
+ * calls {@link Encoder#destroy()} or {@link Decoder#destroy()} once when the endpoint is removed from service, for
+ * example when the application is undeployed, rather than when each session closes. For client endpoints, the
+ * implementation may destroy the shared instance once no open session uses the configuration, in which case a new
+ * instance is created and initialized if the configuration is used again.
+ * <p>
+ * A shareable encoder or decoder may be called by many threads at the same time and must therefore be thread safe.
+ * The annotation is not inherited: a subclass of a shareable class is only shareable if it is annotated itself.
+ *
+ * @since WebSocket 2.3
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Shareable {
+}
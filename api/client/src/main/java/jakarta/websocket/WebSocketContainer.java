@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,6 +19,7 @@ package jakarta.websocket;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Set;
 
 /**
@@ -182,4 +183,73 @@ public interface WebSocketContainer {
      * @return the set of extensions.
      */
     Set<Extension> getInstalledExtensions();
+
+    /**
+     * Create a text message that may be sent to any number of sessions of this container using
+     * {@link RemoteEndpoint.Async#sendPrepared(PreparedMessage, SendHandler)}.
+     *
+     * @param text the text of the message.
+     * @return the prepared message.
+     * @throws IllegalArgumentException if the text is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    PreparedMessage prepareText(String text);
+
+    /**
+     * Create a binary message that may be sent to any number of sessions of this container using
+     * {@link RemoteEndpoint.Async#sendPrepared(PreparedMessage, SendHandler)}. The payload of the message is a copy of
+     * the remaining bytes of the supplied buffer. The position and limit of the buffer are not changed and the buffer
+     * may be reused once this method returns.
+     *
+     * @param data the payload of the message.
+     * @return the prepared message.
+     * @throws IllegalArgumentException if the data is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    PreparedMessage prepareBinary(ByteBuffer data);
+
+    /**
+     * Create a message from a custom developer object that may be sent to any number of sessions of this container
+     * using {@link RemoteEndpoint.Async#sendPrepared(PreparedMessage, SendHandler)}. The object is encoded once, when
+     * this method is called, using the encoders of the supplied configuration. Containers will by default be able to
+     * encode java primitive types and their object equivalents, otherwise an encoder for the object type must be
+     * present in the configuration. The message is a text message if a text encoder was used and a binary message
+     * otherwise.
+     *
+     * @param data   the object to encode.
+     * @param config the configuration that provides the encoders.
+     * @return the prepared message.
+     * @throws EncodeException          if there was a problem encoding the data object.
+     * @throws IllegalArgumentException if either the data or the config are {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    PreparedMessage prepareObject(Object data, EndpointConfig config) throws EncodeException;
+
+    /**
+     * Add a listener that this container notifies of the handshakes, messages, sends, closes and errors of all its
+     * sessions, including the sessions that are already open. The listener is notified in addition to the listeners
+     * returned by {@link WebSocketMetricsListener#getInstalledListeners()} when this container was created. Adding a
+     * listener that has already been added has no effect.
+     *
+     * @param listener the listener to add.
+     * @throws IllegalArgumentException if the listener is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    void addMetricsListener(WebSocketMetricsListener listener);
+
+    /**
+     * Remove a listener added using {@link #addMetricsListener(WebSocketMetricsListener)}. The listener may still be
+     * notified of events that were being reported when this method was called. Removing a listener that has not been
+     * added has no effect.
+     *
+     * @param listener the listener to remove.
+     * @throws IllegalArgumentException if the listener is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    void removeMetricsListener(WebSocketMetricsListener listener);
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * A listener that the container notifies of the handshakes, messages, sends, closes and errors of its sessions, so
+ * that metrics can be collected in the same way on any container without wrapping each {@link Endpoint} and
+ * {@link SendHandler}.
+ *
+ * <p>
+ * Listeners are registered in one of two ways. Listeners installed with the
+ * <a href="https://docs.oracle.com/javase/8/docs/api/java/util/ServiceLoader.html">ServiceLoader</a>, by listing their
+ * fully qualified class names in a "META-INF/services/jakarta.websocket.WebSocketMetricsListener" file, are returned by
+ * {@link #getInstalledListeners()} and are notified by every container that is created once they are installed.
+ * Listeners added using {@link WebSocketContainer#addMetricsListener(WebSocketMetricsListener)} are notified by that
+ * container only.
+ *
+ * <p>
+ * The methods of this interface are designed so that notifying a listener does not allocate: they take the objects
+ * the container already holds, primitive values and constants. The container invokes them synchronously on the thread
+ * that observed the event, which may be any container thread, so implementations must be thread safe, must return
+ * quickly and must not block. An exception thrown by a listener is ignored by the container and does not affect the
+ * session.
+ *
+ * <p>
+ * Each method has a default implementation that does nothing, so a listener only needs to implement the methods for
+ * the events it is interested in.
+ *
+ * @since WebSocket 2.3
+ */
+public interface WebSocketMetricsListener {
+
+    /**
+     * The type of a web socket message reported to a {@link WebSocketMetricsListener}.
+     */
+    enum MessageType {
+        /**
+         * A text message.
+         */
+        TEXT,
+        /**
+         * A binary message.
+         */
+        BINARY,
+        /**
+         * A ping message.
+         */
+        PING,
+        /**
+         * A pong message.
+         */
+        PONG
+    }
+
+    /**
+     * Called when an opening handshake starts. For server endpoints this is once the request has been matched to an
+     * endpoint; for client endpoints this is before the handshake request is sent.
+     *
+     * @param config the configuration of the endpoint for which the handshake is performed.
+     */
+    default void onHandshakeStart(EndpointConfig config) {
+    }
+
+    /**
+     * Called when an opening handshake ends, whether it succeeded or failed. If it succeeded, this method is called
+     * before the onOpen method of the endpoint.
+     *
+     * <p>
+     * The status code is the HTTP status code of the handshake response: the code sent by the server for server
+     * endpoints and the code received from the server for client endpoints. It is 101 (Switching Protocols) if the
+     * handshake succeeded and 0 if no response was sent or received, for example because the connection failed. If the
+     * handshake failed, the failure is the exception that describes why, which for client endpoints is the exception
+     * thrown to the application by the connectToServer method.
+     *
+     * @param config        the configuration of the endpoint for which the handshake was performed.
+     * @param session       the new session if the handshake succeeded, {@code null} if it failed.
+     * @param durationNanos the time in nanoseconds from the start to the end of the handshake.
+     * @param statusCode    the HTTP status code of the handshake response, 0 if there was no response.
+     * @param failure       the cause of the failure if the handshake failed, {@code null} if it succeeded.
+     */
+    default void onHandshakeEnd(EndpointConfig config, Session session, long durationNanos, int statusCode,
+            Throwable failure) {
+    }
+
+    /**
+     * Called when a whole message has been received, before it is dispatched to the endpoint. A message received in
+     * several frames is reported once, when its last frame has been received.
+     *
+     * @param session the session that received the message.
+     * @param type    the type of the message.
+     * @param size    the payload size of the message in bytes, after any negotiated extensions have been applied.
+     */
+    default void onMessageReceived(Session session, MessageType type, long size) {
+    }
+
+    /**
+     * Called when the transmission of a message completes, whether it succeeded or failed. This includes messages sent
+     * using {@link RemoteEndpoint.Basic}, {@link RemoteEndpoint.Async}, pings and pongs.
+     *
+     * @param session      the session on which the message was sent.
+     * @param type         the type of the message.
+     * @param size         the payload size of the message in bytes, before any negotiated extensions are applied.
+     * @param latencyNanos the time in nanoseconds from the call that initiated the send to the completion of the send.
+     * @param success      {@code true} if the message was sent, {@code false} if the send failed.
+     */
+    default void onSendComplete(Session session, MessageType type, long size, long latencyNanos, boolean success) {
+    }
+
+    /**
+     * Called when a session is closed, before the onClose method of the endpoint.
+     *
+     * @param session   the session that was closed.
+     * @param closeCode the close code, as returned by {@link CloseReason.CloseCode#getCode()}.
+     */
+    default void onClose(Session session, int closeCode) {
+    }
+
+    /**
+     * Called when the container reports an error to the onError method of the endpoint, before that method is
+     * called.
+     *
+     * @param session the session on which the error occurred.
+     * @param error   the error.
+     */
+    default void onError(Session session, Throwable error) {
+    }
+
+    /**
+     * Return the listeners installed with the ServiceLoader, in the order they are listed in the
+     * "META-INF/services/jakarta.websocket.WebSocketMetricsListener" files visible to the thread context class loader.
+     * Containers call this method when they are created and notify the returned listeners for as long as they exist.
+     * Each call creates new instances of the listeners.
+     *
+     * @return an unmodifiable list of the installed listeners, an empty list if none are installed.
+     *
+     * @throws ServiceConfigurationError If there is a problem loading one of the installed listeners.
+     */
+    static List<WebSocketMetricsListener> getInstalledListeners() {
+        List<WebSocketMetricsListener> listeners = new ArrayList<>();
+        for (WebSocketMetricsListener listener : ServiceLoader.load(WebSocketMetricsListener.class)) {
+            listeners.add(listener);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+}
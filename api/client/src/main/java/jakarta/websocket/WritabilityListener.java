@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.websocket;
+
+/**
+ * A callback object that is notified when the writability of a {@link RemoteEndpoint.Async} changes as the amount of
+ * outgoing data it has buffered crosses its high and low watermarks. See
+ * {@link RemoteEndpoint.Async#setBufferedAmountWatermarks(long, long)}.
+ *
+ * @since WebSocket 2.3
+ */
+public interface WritabilityListener {
+
+    /**
+     * Called each time the writability of the remote endpoint changes. Calls for a given remote endpoint alternate
+     * between {@code false} and {@code true} and are never made concurrently. The container may make this call on any
+     * thread, including the thread that is writing to the underlying connection, so implementations should return
+     * promptly and must not block waiting for messages to be sent.
+     *
+     * @param writable {@code false} if the amount of buffered data has risen above the high watermark, {@code true} if
+     *                 it has since fallen to or below the low watermark.
+     */
+    void onWritabilityChanged(boolean writable);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ * Copyright (c) 2021, 2026 Contributors to the Eclipse Foundation
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,4 +17,5 @@ module jakarta.websocket.client {
     exports jakarta.websocket;
     
     uses jakarta.websocket.ContainerProvider;
+    uses jakarta.websocket.WebSocketMetricsListener;
 }
\ No newline at end of file
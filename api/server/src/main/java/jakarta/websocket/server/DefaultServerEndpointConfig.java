@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,10 +21,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import jakarta.websocket.AttributeKey;
+import jakarta.websocket.BatchFlushPolicy;
 import jakarta.websocket.Decoder;
+import jakarta.websocket.DecoderRouter;
+import jakarta.websocket.DispatchMode;
 import jakarta.websocket.Encoder;
 import jakarta.websocket.Endpoint;
 import jakarta.websocket.Extension;
+import jakarta.websocket.SendQueueOverflowPolicy;
 
 /**
  * The DefaultServerEndpointConfig is a concrete class that embodies all the configuration parameters for an endpoint
@@ -40,19 +48,39 @@ final class DefaultServerEndpointConfig implements ServerEndpointConfig {
     private List<Extension> extensions;
     private List<Class<? extends Encoder>> encoders;
     private List<Class<? extends Decoder>> decoders;
+    private int maxSendQueueMessages;
+    private long maxSendQueueBytes;
+    private SendQueueOverflowPolicy sendQueueOverflowPolicy;
+    private BatchFlushPolicy batchFlushPolicy;
+    private DispatchMode dispatchMode;
+    private Executor dispatchExecutor;
+    private DecoderRouter decoderRouter;
     private Map<String, Object> userProperties = new HashMap<>();
+    // Immutable snapshots replaced using compareAndSet, so that neither reads nor writes lock
+    private final AtomicReference<Map<AttributeKey<?>, Object>> attributes = new AtomicReference<>(
+            Collections.emptyMap());
     private ServerEndpointConfig.Configurator serverEndpointConfigurator;
 
     // The builder ensures nothing except configurator can be {@code null}.
     DefaultServerEndpointConfig(Class<?> endpointClass, String path, List<String> subprotocols,
             List<Extension> extensions, List<Class<? extends Encoder>> encoders,
-            List<Class<? extends Decoder>> decoders, ServerEndpointConfig.Configurator serverEndpointConfigurator) {
+            List<Class<? extends Decoder>> decoders, int maxSendQueueMessages, long maxSendQueueBytes,
+            SendQueueOverflowPolicy sendQueueOverflowPolicy, BatchFlushPolicy batchFlushPolicy,
+            DispatchMode dispatchMode, Executor dispatchExecutor, DecoderRouter decoderRouter,
+            ServerEndpointConfig.Configurator serverEndpointConfigurator) {
         this.path = path;
         this.endpointClass = endpointClass;
         this.subprotocols = Collections.unmodifiableList(subprotocols);
         this.extensions = Collections.unmodifiableList(extensions);
         this.encoders = Collections.unmodifiableList(encoders);
         this.decoders = Collections.unmodifiableList(decoders);
+        this.maxSendQueueMessages = maxSendQueueMessages;
+        this.maxSendQueueBytes = maxSendQueueBytes;
+        this.sendQueueOverflowPolicy = sendQueueOverflowPolicy;
+        this.batchFlushPolicy = batchFlushPolicy;
+        this.dispatchMode = dispatchMode;
+        this.dispatchExecutor = dispatchExecutor;
+        this.decoderRouter = decoderRouter;
         if (serverEndpointConfigurator == null) {
             this.serverEndpointConfigurator = ServerEndpointConfig.Configurator.fetchContainerDefaultConfigurator();
         } else {
@@ -102,6 +130,41 @@ final class DefaultServerEndpointConfig implements ServerEndpointConfig {
         return this.decoders;
     }
 
+    @Override
+    public int getMaxSendQueueMessages() {
+        return this.maxSendQueueMessages;
+    }
+
+    @Override
+    public long getMaxSendQueueBytes() {
+        return this.maxSendQueueBytes;
+    }
+
+    @Override
+    public SendQueueOverflowPolicy getSendQueueOverflowPolicy() {
+        return this.sendQueueOverflowPolicy;
+    }
+
+    @Override
+    public BatchFlushPolicy getBatchFlushPolicy() {
+        return this.batchFlushPolicy;
+    }
+
+    @Override
+    public DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
+
+    @Override
+    public Executor getDispatchExecutor() {
+        return this.dispatchExecutor;
+    }
+
+    @Override
+    public DecoderRouter getDecoderRouter() {
+        return this.decoderRouter;
+    }
+
     /**
      * Return the path of this server configuration. The path is a relative URI or URI-template.
      *
@@ -130,6 +193,37 @@ final class DefaultServerEndpointConfig implements ServerEndpointConfig {
         return this.userProperties;
     }
 
+    @Override
+    public <T> T getAttribute(AttributeKey<T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        return key.getType().cast(this.attributes.get().get(key));
+    }
+
+    @Override
+    public <T> T setAttribute(AttributeKey<T> key, T value) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        if (value != null && !key.getType().isInstance(value)) {
+            throw new IllegalArgumentException("value is not an instance of " + key.getType().getName());
+        }
+        while (true) {
+            Map<AttributeKey<?>, Object> current = this.attributes.get();
+            Map<AttributeKey<?>, Object> next = new HashMap<>(current);
+            Object previous = value == null ? next.remove(key) : next.put(key, value);
+            if (this.attributes.compareAndSet(current, Collections.unmodifiableMap(next))) {
+                return key.getType().cast(previous);
+            }
+        }
+    }
+
+    @Override
+    public Set<AttributeKey<?>> getAttributeKeys() {
+        return this.attributes.get().keySet();
+    }
+
     @Override
     public final List<String> getSubprotocols() {
         return this.subprotocols;
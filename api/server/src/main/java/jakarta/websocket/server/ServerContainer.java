@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -92,4 +92,46 @@ public interface ServerContainer extends WebSocketContainer {
      */
     public void upgradeHttpToWebSocket(Object httpServletRequest, Object httpServletResponse, ServerEndpointConfig sec,
             Map<String,String> pathParameters) throws IOException, DeploymentException;
+
+    /**
+     * Return the open session with the given id that represents a connection to any of the endpoints deployed in this
+     * ServerContainer. Implementations are expected to index open sessions by id so that the cost of this lookup does
+     * not depend on the number of open sessions.
+     * <p>
+     * The returned session may close at any point after the return of this method. Developers should use
+     * session.isOpen() to check.
+     *
+     * @param id the id of the session, as returned by {@link Session#getId()}.
+     * @return the open session with the given id, or {@code null} if there is no such open session.
+     * @throws IllegalArgumentException if the id is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    public Session getSession(String id);
+
+    /**
+     * Return the session group with the given name, creating an empty group if this ServerContainer does not have a
+     * group with that name. Session groups are shared by all the endpoints deployed in this ServerContainer and remain
+     * available, even when they have no members, until they are removed using {@link #removeSessionGroup(String)}.
+     *
+     * @param name the name of the group.
+     * @return the session group with the given name.
+     * @throws IllegalArgumentException if the name is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    public SessionGroup getSessionGroup(String name);
+
+    /**
+     * Remove the session group with the given name from this ServerContainer. The members of the group are not closed.
+     * Sessions may no longer join the removed group and a subsequent call to {@link #getSessionGroup(String)} with the
+     * same name returns a new, empty group.
+     *
+     * @param name the name of the group.
+     * @return {@code true} if a group with the given name was removed, otherwise {@code false}.
+     * @throws IllegalArgumentException if the name is {@code null}.
+     *
+     * @since WebSocket 2.3
+     */
+    public boolean removeSessionGroup(String name);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,11 +21,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Executor;
+import jakarta.websocket.BatchFlushPolicy;
 import jakarta.websocket.Decoder;
+import jakarta.websocket.DecoderRouter;
+import jakarta.websocket.DispatchMode;
 import jakarta.websocket.Encoder;
 import jakarta.websocket.EndpointConfig;
 import jakarta.websocket.Extension;
 import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.SendQueueOverflowPolicy;
 
 /**
  * The ServerEndpointConfig is a special kind of endpoint configuration object that contains web socket configuration
@@ -251,6 +256,13 @@ public interface ServerEndpointConfig extends EndpointConfig {
         private List<Extension> extensions = Collections.emptyList();
         private List<Class<? extends Encoder>> encoders = Collections.emptyList();
         private List<Class<? extends Decoder>> decoders = Collections.emptyList();
+        private int maxSendQueueMessages = -1;
+        private long maxSendQueueBytes = -1;
+        private SendQueueOverflowPolicy sendQueueOverflowPolicy = SendQueueOverflowPolicy.FAIL;
+        private BatchFlushPolicy batchFlushPolicy = BatchFlushPolicy.EXPLICIT;
+        private DispatchMode dispatchMode = DispatchMode.CONTAINER;
+        private Executor dispatchExecutor = null;
+        private DecoderRouter decoderRouter = null;
         private ServerEndpointConfig.Configurator serverEndpointConfigurator;
 
         /**
@@ -279,7 +291,9 @@ public interface ServerEndpointConfig extends EndpointConfig {
          */
         public ServerEndpointConfig build() {
             return new DefaultServerEndpointConfig(this.endpointClass, this.path, this.subprotocols, this.extensions,
-                    this.encoders, this.decoders, this.serverEndpointConfigurator);
+                    this.encoders, this.decoders, this.maxSendQueueMessages, this.maxSendQueueBytes,
+                    this.sendQueueOverflowPolicy, this.batchFlushPolicy, this.dispatchMode, this.dispatchExecutor,
+                    this.decoderRouter, this.serverEndpointConfigurator);
         }
 
         private Builder(Class<?> endpointClass, String path) {
@@ -348,6 +362,108 @@ public interface ServerEndpointConfig extends EndpointConfig {
             return this;
         }
 
+        /**
+         * Sets the maximum number of messages that may be held in the outbound queue of each session that uses the
+         * configuration object built by this builder. A negative value, the default, means that the number of messages
+         * is not limited.
+         *
+         * @param maxSendQueueMessages the maximum number of queued messages
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder maxSendQueueMessages(int maxSendQueueMessages) {
+            this.maxSendQueueMessages = maxSendQueueMessages;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total payload size in bytes of the messages that may be held in the outbound queue of each
+         * session that uses the configuration object built by this builder. A negative value, the default, means that
+         * the size of the queue is not limited.
+         *
+         * @param maxSendQueueBytes the maximum number of queued bytes
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder maxSendQueueBytes(long maxSendQueueBytes) {
+            this.maxSendQueueBytes = maxSendQueueBytes;
+            return this;
+        }
+
+        /**
+         * Sets the action the container takes when an asynchronous send would take the outbound queue of a session
+         * past one of its limits.
+         *
+         * @param sendQueueOverflowPolicy the overflow policy, {@code null} selects
+         *                                {@link SendQueueOverflowPolicy#FAIL}
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder sendQueueOverflowPolicy(SendQueueOverflowPolicy sendQueueOverflowPolicy) {
+            this.sendQueueOverflowPolicy = (sendQueueOverflowPolicy == null) ? SendQueueOverflowPolicy.FAIL
+                    : sendQueueOverflowPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the initial batch flush policy of the remote endpoints of each session that uses the configuration
+         * this builder will build.
+         *
+         * @param batchFlushPolicy the batch flush policy, {@code null} selects {@link BatchFlushPolicy#EXPLICIT}
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder batchFlushPolicy(BatchFlushPolicy batchFlushPolicy) {
+            this.batchFlushPolicy = (batchFlushPolicy == null) ? BatchFlushPolicy.EXPLICIT : batchFlushPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the mode that selects the threads on which the container invokes the callbacks of each session that
+         * uses the configuration this builder will build.
+         *
+         * @param dispatchMode the dispatch mode, {@code null} selects {@link DispatchMode#CONTAINER}
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder dispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = (dispatchMode == null) ? DispatchMode.CONTAINER : dispatchMode;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which the container invokes the callbacks of each session that uses the configuration
+         * this builder will build when the dispatch mode is {@link DispatchMode#EXECUTOR}.
+         *
+         * @param dispatchExecutor the dispatch executor, or {@code null} for none
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder dispatchExecutor(Executor dispatchExecutor) {
+            this.dispatchExecutor = dispatchExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the router that selects the decoder for each incoming whole text or binary message of each session
+         * that uses the configuration this builder will build.
+         *
+         * @param decoderRouter the decoder router, or {@code null} for none
+         * @return this builder instance
+         *
+         * @since WebSocket 2.3
+         */
+        public ServerEndpointConfig.Builder decoderRouter(DecoderRouter decoderRouter) {
+            this.decoderRouter = decoderRouter;
+            return this;
+        }
+
     }
 
 }
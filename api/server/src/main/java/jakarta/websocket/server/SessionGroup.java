@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.websocket.server;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import jakarta.websocket.EncodeException;
+import jakarta.websocket.PreparedMessage;
+import jakarta.websocket.Session;
+
+/**
+ * A named group of open sessions, such as the subscribers of a topic, to which messages may be broadcast. Session
+ * groups are owned by the {@link ServerContainer} and are obtained using
+ * {@link ServerContainer#getSessionGroup(String)}. A group may hold sessions of any of the endpoints deployed in the
+ * container.
+ *
+ * <p>
+ * A session is removed from every group of which it is a member when it is closed, before the onClose method of its
+ * endpoint is called. Developers do not need to track group membership in order to remove a session from its groups.
+ *
+ * <p>
+ * Because the container owns the group, implementations are free to choose membership structures suited to
+ * concurrent access, such as striped or copy-on-write structures, and to prepare a broadcast message once and send
+ * the same framed message to every member. All methods of a SessionGroup may be called concurrently by any number of
+ * threads.
+ *
+ * @since WebSocket 2.3
+ */
+public interface SessionGroup {
+
+    /**
+     * Return the name of this group.
+     *
+     * @return the name of this group.
+     */
+    String getName();
+
+    /**
+     * Add the given session to this group.
+     *
+     * @param session the session to add.
+     * @return {@code true} if the session was added, {@code false} if it was already a member of this group.
+     * @throws IllegalArgumentException if the session is {@code null} or does not belong to the container that owns
+     *                                  this group.
+     * @throws IllegalStateException    if the session is closed or if this group has been removed using
+     *                                  {@link ServerContainer#removeSessionGroup(String)}.
+     */
+    boolean join(Session session);
+
+    /**
+     * Remove the given session from this group.
+     *
+     * @param session the session to remove.
+     * @return {@code true} if the session was removed, {@code false} if it was not a member of this group.
+     * @throws IllegalArgumentException if the session is {@code null}.
+     */
+    boolean leave(Session session);
+
+    /**
+     * Indicates whether the given session is a member of this group.
+     *
+     * @param session the session to look for.
+     * @return {@code true} if the session is a member of this group, otherwise {@code false}.
+     * @throws IllegalArgumentException if the session is {@code null}.
+     */
+    boolean contains(Session session);
+
+    /**
+     * Return the number of sessions that are members of this group. The value may change at any point after the return
+     * of this method.
+     *
+     * @return the number of members.
+     */
+    int size();
+
+    /**
+     * Perform the given action for each member of this group without copying the members into a new collection. The
+     * traversal is weakly consistent in the same way as {@link Session#forEachOpenSession(Consumer)}: each session that
+     * is a member for the whole of the traversal is passed to the action exactly once, sessions that join or leave
+     * while the traversal is in progress may or may not be passed to the action, and no session is passed to the action
+     * more than once. Any exception thrown by the action is propagated to the caller and ends the traversal.
+     *
+     * @param action the action to perform for each member.
+     * @throws IllegalArgumentException if the action is {@code null}.
+     */
+    void forEachSession(Consumer<? super Session> action);
+
+    /**
+     * Initiates the asynchronous transmission of a message to every member of this group. A String is sent as a text
+     * message, a {@link java.nio.ByteBuffer} is sent as a binary message whose payload is a copy of the remaining bytes
+     * of the buffer and a {@link PreparedMessage} is sent as it is. Any other object is encoded using the encoders of
+     * the endpoint configuration of the members, as for
+     * {@link jakarta.websocket.RemoteEndpoint.Async#sendObject(Object)}, at most once for each distinct endpoint
+     * configuration among the members.
+     * <p>
+     * This method returns before the message is transmitted and never blocks waiting for a member. The message is sent
+     * to the sessions that are members when this method is called. Each send is subject to the same queuing as a send
+     * made using the asynchronous remote endpoint of the member, and the failure of the send to one member does not
+     * affect the sends to the other members. The stage completes normally with a {@code null} value once the message
+     * has been sent to every member. If the message could not be sent to one or more members, the stage completes
+     * exceptionally with the cause of one of those failures once every send has completed. If the object cannot be
+     * encoded, nothing is sent and the stage completes exceptionally with the {@link EncodeException}.
+     *
+     * @param data the message to send.
+     * @return the CompletionStage representing the broadcast.
+     * @throws IllegalArgumentException if the data is {@code null}, or if it is a {@link PreparedMessage} that was not
+     *                                  created by the container that owns this group.
+     */
+    CompletionStage<Void> broadcast(Object data);
+}
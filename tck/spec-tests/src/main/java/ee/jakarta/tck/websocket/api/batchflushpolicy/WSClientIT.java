@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.api.batchflushpolicy;
+
+import java.lang.System.Logger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import jakarta.websocket.BatchFlushPolicy;
+import jakarta.websocket.ClientEndpointConfig;
+
+@Tag("websocket")
+@Tag("platform")
+@Tag("web")
+
+public class WSClientIT {
+
+	private static final Logger logger = System.getLogger(WSClientIT.class.getName());
+
+	/* Run test */
+	/*
+	 * @testName: explicitTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Test that BatchFlushPolicy.EXPLICIT and a policy built
+	 * without any condition have no enabled condition and are equal
+	 */
+	@Test
+	public void explicitTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().build();
+		for (BatchFlushPolicy p : new BatchFlushPolicy[] { BatchFlushPolicy.EXPLICIT, policy }) {
+			if (p.getMaxBytes() != -1 || p.getMaxMessages() != -1 || p.getMaxDelayMicros() != -1
+					|| p.isFlushAtEndOfDispatch()) {
+				log.append("Policy has an enabled condition: " + p + "|");
+				passed = false;
+			}
+		}
+		if (!BatchFlushPolicy.EXPLICIT.equals(policy) || BatchFlushPolicy.EXPLICIT.hashCode() != policy.hashCode()) {
+			log.append("Policy built without any condition is not equal to EXPLICIT|");
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: builderTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Test that the conditions set on BatchFlushPolicy.Builder
+	 * are returned by the policy it builds
+	 */
+	@Test
+	public void builderTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxBytes(65536L).maxMessages(32)
+				.maxDelayMicros(500L).flushAtEndOfDispatch(true).build();
+		if (policy.getMaxBytes() != 65536L) {
+			log.append("getMaxBytes() returned " + policy.getMaxBytes() + "|");
+			passed = false;
+		}
+		if (policy.getMaxMessages() != 32) {
+			log.append("getMaxMessages() returned " + policy.getMaxMessages() + "|");
+			passed = false;
+		}
+		if (policy.getMaxDelayMicros() != 500L) {
+			log.append("getMaxDelayMicros() returned " + policy.getMaxDelayMicros() + "|");
+			passed = false;
+		}
+		if (!policy.isFlushAtEndOfDispatch()) {
+			log.append("isFlushAtEndOfDispatch() returned false|");
+			passed = false;
+		}
+		if (BatchFlushPolicy.EXPLICIT.equals(policy)) {
+			log.append("Policy is equal to EXPLICIT|");
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: disabledConditionTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Test that zero and negative values disable the size and
+	 * message count conditions
+	 */
+	@Test
+	public void disabledConditionTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		for (int value : new int[] { 0, -5 }) {
+			BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxBytes(value).maxMessages(value).build();
+			if (!BatchFlushPolicy.EXPLICIT.equals(policy)) {
+				log.append("Value " + value + " did not disable the conditions: " + policy + "|");
+				passed = false;
+			}
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: maxDelayMicrosTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Test that a maximum delay of zero is kept as an enabled
+	 * condition and that a negative maximum delay is rejected with
+	 * IllegalArgumentException
+	 */
+	@Test
+	public void maxDelayMicrosTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxDelayMicros(0L).build();
+		if (policy.getMaxDelayMicros() != 0L) {
+			log.append("getMaxDelayMicros() returned " + policy.getMaxDelayMicros() + " instead of 0|");
+			passed = false;
+		}
+		if (BatchFlushPolicy.EXPLICIT.equals(policy)) {
+			log.append("Policy with a zero delay is equal to EXPLICIT|");
+			passed = false;
+		}
+
+		for (long value : new long[] { -1L, Long.MIN_VALUE }) {
+			try {
+				BatchFlushPolicy.Builder.create().maxDelayMicros(value);
+				log.append("maxDelayMicros(" + value + ") did not throw IllegalArgumentException|");
+				passed = false;
+			} catch (IllegalArgumentException iae) {
+				// Expected
+			}
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: endpointConfigTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Test that the BatchFlushPolicy of an endpoint
+	 * configuration is EXPLICIT unless set on the builder, and that setting
+	 * null selects EXPLICIT
+	 */
+	@Test
+	public void endpointConfigTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxDelayMicros(1000L).build();
+		ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().build();
+		if (!BatchFlushPolicy.EXPLICIT.equals(cfg.getBatchFlushPolicy())) {
+			log.append("Default policy is " + cfg.getBatchFlushPolicy() + "|");
+			passed = false;
+		}
+		cfg = ClientEndpointConfig.Builder.create().batchFlushPolicy(policy).build();
+		if (!policy.equals(cfg.getBatchFlushPolicy())) {
+			log.append("Policy set on the builder is returned as " + cfg.getBatchFlushPolicy() + "|");
+			passed = false;
+		}
+		cfg = ClientEndpointConfig.Builder.create().batchFlushPolicy(policy).batchFlushPolicy(null).build();
+		if (!BatchFlushPolicy.EXPLICIT.equals(cfg.getBatchFlushPolicy())) {
+			log.append("Null policy is returned as " + cfg.getBatchFlushPolicy() + "|");
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+}
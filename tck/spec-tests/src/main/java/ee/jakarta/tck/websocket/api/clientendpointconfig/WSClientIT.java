@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -24,7 +24,9 @@ import java.lang.System.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -32,10 +34,14 @@ import org.junit.jupiter.api.Test;
 import ee.jakarta.tck.websocket.common.TCKExtension;
 import jakarta.websocket.ClientEndpointConfig;
 import jakarta.websocket.ClientEndpointConfig.Configurator;
+import jakarta.websocket.AttributeKey;
 import jakarta.websocket.Decoder;
+import jakarta.websocket.DecoderRouter;
+import jakarta.websocket.DispatchMode;
 import jakarta.websocket.Encoder;
 import jakarta.websocket.Extension;
 import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.SendQueueOverflowPolicy;
 
 @Tag("websocket")
 @Tag("platform")
@@ -1082,6 +1088,360 @@ public class WSClientIT {
 		}
 	}
 
+	/*
+	 * @testName: sendQueueDefaultsTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that a configuration built without send queue
+	 * limits has no limits and uses SendQueueOverflowPolicy.FAIL
+	 */
+	@Test
+	public void sendQueueDefaultsTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().build();
+
+			if (cfg.getMaxSendQueueMessages() >= 0) {
+				log.append("getMaxSendQueueMessages() returned " + cfg.getMaxSendQueueMessages() + "|");
+				passed = false;
+			}
+			if (cfg.getMaxSendQueueBytes() >= 0) {
+				log.append("getMaxSendQueueBytes() returned " + cfg.getMaxSendQueueBytes() + "|");
+				passed = false;
+			}
+			if (cfg.getSendQueueOverflowPolicy() != SendQueueOverflowPolicy.FAIL) {
+				log.append("getSendQueueOverflowPolicy() returned " + cfg.getSendQueueOverflowPolicy() + "|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: sendQueueLimitsTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that the send queue limits and overflow policy set
+	 * on the builder are returned by the configuration
+	 */
+	@Test
+	public void sendQueueLimitsTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			for (SendQueueOverflowPolicy policy : SendQueueOverflowPolicy.values()) {
+				ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().maxSendQueueMessages(16)
+						.maxSendQueueBytes(1L << 33).sendQueueOverflowPolicy(policy).build();
+
+				if (cfg.getMaxSendQueueMessages() != 16) {
+					log.append("getMaxSendQueueMessages() returned " + cfg.getMaxSendQueueMessages() + "|");
+					passed = false;
+				}
+				if (cfg.getMaxSendQueueBytes() != (1L << 33)) {
+					log.append("getMaxSendQueueBytes() returned " + cfg.getMaxSendQueueBytes() + "|");
+					passed = false;
+				}
+				if (cfg.getSendQueueOverflowPolicy() != policy) {
+					log.append("getSendQueueOverflowPolicy() returned " + cfg.getSendQueueOverflowPolicy()
+							+ " instead of " + policy + "|");
+					passed = false;
+				}
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: sendQueueNullPolicyTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that passing null to sendQueueOverflowPolicy()
+	 * selects SendQueueOverflowPolicy.FAIL
+	 */
+	@Test
+	public void sendQueueNullPolicyTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create()
+					.sendQueueOverflowPolicy(SendQueueOverflowPolicy.DROP_OLDEST).sendQueueOverflowPolicy(null).build();
+
+			if (cfg.getSendQueueOverflowPolicy() != SendQueueOverflowPolicy.FAIL) {
+				log.append("getSendQueueOverflowPolicy() returned " + cfg.getSendQueueOverflowPolicy() + "|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: dispatchDefaultsTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that a configuration built without a dispatch mode
+	 * uses DispatchMode.CONTAINER and has no dispatch executor
+	 */
+	@Test
+	public void dispatchDefaultsTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().build();
+
+			if (cfg.getDispatchMode() != DispatchMode.CONTAINER) {
+				log.append("getDispatchMode() returned " + cfg.getDispatchMode() + "|");
+				passed = false;
+			}
+			if (cfg.getDispatchExecutor() != null) {
+				log.append("getDispatchExecutor() returned " + cfg.getDispatchExecutor() + "|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: dispatchModeTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that the dispatch mode and dispatch executor set on
+	 * the builder are returned by the configuration
+	 */
+	@Test
+	public void dispatchModeTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			Executor executor = Runnable::run;
+			for (DispatchMode mode : DispatchMode.values()) {
+				ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().dispatchMode(mode)
+						.dispatchExecutor(executor).build();
+
+				if (cfg.getDispatchMode() != mode) {
+					log.append("getDispatchMode() returned " + cfg.getDispatchMode() + " instead of " + mode + "|");
+					passed = false;
+				}
+				if (cfg.getDispatchExecutor() != executor) {
+					log.append("getDispatchExecutor() returned " + cfg.getDispatchExecutor() + "|");
+					passed = false;
+				}
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: dispatchNullModeTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that passing null to dispatchMode() selects
+	 * DispatchMode.CONTAINER
+	 */
+	@Test
+	public void dispatchNullModeTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().dispatchMode(DispatchMode.IO_THREAD)
+					.dispatchMode(null).build();
+
+			if (cfg.getDispatchMode() != DispatchMode.CONTAINER) {
+				log.append("getDispatchMode() returned " + cfg.getDispatchMode() + "|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: decoderRouterTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that a configuration built without a decoder router
+	 * has none, and that the decoder router set on the builder is returned by
+	 * the configuration
+	 */
+	@Test
+	public void decoderRouterTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			DecoderRouter router = new DecoderRouter() {
+			};
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().build();
+
+			if (cfg.getDecoderRouter() != null) {
+				log.append("getDecoderRouter() returned " + cfg.getDecoderRouter() + " by default|");
+				passed = false;
+			}
+
+			cfg = ClientEndpointConfig.Builder.create().decoderRouter(router).build();
+			if (cfg.getDecoderRouter() != router) {
+				log.append("getDecoderRouter() returned " + cfg.getDecoderRouter() + "|");
+				passed = false;
+			}
+
+			cfg = ClientEndpointConfig.Builder.create().decoderRouter(router).decoderRouter(null).build();
+			if (cfg.getDecoderRouter() != null) {
+				log.append("getDecoderRouter() returned " + cfg.getDecoderRouter() + " after decoderRouter(null)|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
+	/*
+	 * @testName: attributeTest
+	 * 
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: Check that a configuration has no attributes by default,
+	 * that setAttribute returns the previous value, that getAttribute and
+	 * getAttributeKeys reflect the attributes set, that setting null removes
+	 * an attribute and that a null key or a value of the wrong type is rejected
+	 */
+	@Test
+	public void attributeTest() throws Exception {
+		boolean passed = true;
+		StringBuffer log = new StringBuffer();
+
+		try {
+			AttributeKey<String> name = AttributeKey.create("name", String.class);
+			AttributeKey<Integer> count = AttributeKey.create("count", Integer.class);
+			ClientEndpointConfig cfg = ClientEndpointConfig.Builder.create().build();
+
+			if (cfg.getAttribute(name) != null || !cfg.getAttributeKeys().isEmpty()) {
+				log.append("Attributes set by default: " + cfg.getAttributeKeys() + "|");
+				passed = false;
+			}
+
+			String initial = cfg.setAttribute(name, "first");
+			String previous = cfg.setAttribute(name, "second");
+			if (initial != null || !"first".equals(previous) || !"second".equals(cfg.getAttribute(name))) {
+				log.append("setAttribute returned " + initial + " and " + previous + ", getAttribute returned "
+						+ cfg.getAttribute(name) + "|");
+				passed = false;
+			}
+
+			cfg.setAttribute(count, 42);
+			if (!Integer.valueOf(42).equals(cfg.getAttribute(count))
+					|| !cfg.getAttributeKeys().equals(Set.of(name, count))) {
+				log.append("getAttribute returned " + cfg.getAttribute(count) + ", getAttributeKeys returned "
+						+ cfg.getAttributeKeys() + "|");
+				passed = false;
+			}
+
+			previous = cfg.setAttribute(name, null);
+			if (!"second".equals(previous) || cfg.getAttribute(name) != null
+					|| !cfg.getAttributeKeys().equals(Set.of(count))) {
+				log.append("setAttribute(key, null) did not remove the attribute: " + cfg.getAttributeKeys() + "|");
+				passed = false;
+			}
+
+			try {
+				cfg.getAttribute(null);
+				log.append("getAttribute(null) did not throw IllegalArgumentException|");
+				passed = false;
+			} catch (IllegalArgumentException iae) {
+				// expected
+			}
+
+			try {
+				@SuppressWarnings({ "unchecked", "rawtypes" })
+				AttributeKey<Object> raw = (AttributeKey) count;
+				cfg.setAttribute(raw, "not an Integer");
+				log.append("setAttribute with a value of the wrong type did not throw IllegalArgumentException|");
+				passed = false;
+			} catch (IllegalArgumentException iae) {
+				// expected
+			}
+			if (!Integer.valueOf(42).equals(cfg.getAttribute(count))) {
+				log.append("Rejected value replaced the attribute: " + cfg.getAttribute(count) + "|");
+				passed = false;
+			}
+		} catch (Exception e) {
+			log.append(e.getMessage());
+			passed = false;
+		}
+
+		logger.log(Logger.Level.INFO,log.toString());
+
+		if (passed == false) {
+			throw new Exception("Test failed: " + log.toString());
+		}
+	}
+
 	public void cleanup() {
 	}
 }
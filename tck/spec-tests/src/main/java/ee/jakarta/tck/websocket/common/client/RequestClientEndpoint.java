@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.common.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+/**
+ * A client endpoint that sends one text or binary request at a time and waits
+ * for the text reply
+ */
+public class RequestClientEndpoint extends Endpoint {
+
+	private final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+
+	private volatile Session session;
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		this.session = session;
+		session.addMessageHandler(String.class, new MessageHandler.Whole<String>() {
+			@Override
+			public void onMessage(String message) {
+				replies.add(message);
+			}
+		});
+	}
+
+	public Session getSession() {
+		return session;
+	}
+
+	public String request(String message, long timeout) throws IOException, InterruptedException {
+		session.getBasicRemote().sendText(message);
+		return reply(message, timeout);
+	}
+
+	public String request(ByteBuffer message, long timeout) throws IOException, InterruptedException {
+		session.getBasicRemote().sendBinary(message);
+		return reply("binary message", timeout);
+	}
+
+	private String reply(String message, long timeout) throws IOException, InterruptedException {
+		String reply = replies.poll(timeout, TimeUnit.SECONDS);
+		if (reply == null)
+			throw new IOException("No reply to " + message + " within " + timeout + " seconds");
+		return reply;
+	}
+}
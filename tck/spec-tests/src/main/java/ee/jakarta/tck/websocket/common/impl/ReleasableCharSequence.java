@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.common.impl;
+
+/**
+ * A CharSequence to be passed to a send method, that the test releases once
+ * the send has completed. A released sequence no longer holds the original
+ * text and remembers whether anything has read from it, so that a container
+ * that keeps the sequence after the send completes is detected.
+ */
+public class ReleasableCharSequence implements CharSequence {
+	private final StringBuilder text;
+
+	private volatile boolean released = false;
+
+	private volatile boolean readAfterRelease = false;
+
+	public ReleasableCharSequence(String text) {
+		this.text = new StringBuilder(text);
+	}
+
+	/**
+	 * Replaces every character of the text, the way an application would
+	 * reuse its buffer for the next message
+	 */
+	public synchronized void release() {
+		released = true;
+		for (int i = 0; i != text.length(); i++)
+			text.setCharAt(i, '#');
+	}
+
+	public boolean isReadAfterRelease() {
+		return readAfterRelease;
+	}
+
+	private void read() {
+		if (released)
+			readAfterRelease = true;
+	}
+
+	@Override
+	public synchronized int length() {
+		read();
+		return text.length();
+	}
+
+	@Override
+	public synchronized char charAt(int index) {
+		read();
+		return text.charAt(index);
+	}
+
+	@Override
+	public synchronized CharSequence subSequence(int start, int end) {
+		read();
+		return text.substring(start, end);
+	}
+
+	@Override
+	public synchronized String toString() {
+		read();
+		return text.toString();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.common.impl;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.PongMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies to each text, binary and pong message with its content as text.
+ * Deployments that need it add this class to their archive.
+ */
+@ServerEndpoint("/client")
+public class WSCOtherSideServer {
+
+	private static final Logger logger = System.getLogger(WSCOtherSideServer.class.getName());
+
+	@OnMessage
+	public String onMessage(PongMessage pong) {
+		return IOUtil.byteBufferToString(pong.getApplicationData());
+	}
+
+	@OnMessage
+	public String onMessage(String msg) {
+		return msg;
+	}
+
+	@OnMessage
+	public String onMessage(ByteBuffer buffer) {
+		String msg = IOUtil.byteBufferToString(buffer);
+		return onMessage(msg);
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.common.stringbean;
+
+import java.nio.ByteBuffer;
+
+import jakarta.websocket.EncodeException;
+import jakarta.websocket.Encoder.BinaryBuffer;
+import jakarta.websocket.EndpointConfig;
+
+public class StringBeanBinaryBufferEncoder implements BinaryBuffer<StringBean> {
+
+	@Override
+	public void init(EndpointConfig config) {
+	}
+
+	@Override
+	public int encode(StringBean bean, ByteBuffer target) throws EncodeException {
+		byte[] bytes = bean.get().getBytes();
+		if (target.remaining() < bytes.length)
+			return -bytes.length;
+		target.put(bytes);
+		return bytes.length;
+	}
+
+	@Override
+	public int estimateSize(StringBean bean) {
+		return bean.get().getBytes().length;
+	}
+
+	@Override
+	public void destroy() {
+	}
+}
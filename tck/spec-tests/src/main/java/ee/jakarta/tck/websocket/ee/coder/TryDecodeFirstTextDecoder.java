@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.coder;
+
+import java.util.function.Consumer;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextDecoder;
+import jakarta.websocket.DecodeException;
+
+/**
+ * Claims every message through willDecode but declines every message through
+ * tryDecode, so it must not be used by an implementation that calls tryDecode.
+ */
+public class TryDecodeFirstTextDecoder extends StringBeanTextDecoder {
+
+	@Override
+	public StringBean decode(String s) throws DecodeException {
+		Logger.onCode(getClass());
+		return super.decode(s);
+	}
+
+	@Override
+	public boolean willDecode(String s) {
+		Logger.onWillCode(getClass());
+		return true;
+	}
+
+	@Override
+	public boolean tryDecode(String s, Consumer<? super StringBean> action) throws DecodeException {
+		return false;
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.coder;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanBinaryDecoder;
+import jakarta.websocket.DecodeException;
+
+/**
+ * Declines every message through willDecode but decodes every message through
+ * tryDecode, so it must be used by an implementation that calls tryDecode.
+ */
+public class TryDecodeSecondBinaryDecoder extends StringBeanBinaryDecoder {
+
+	@Override
+	public boolean willDecode(ByteBuffer arg0) {
+		Logger.onWillCode(getClass());
+		return false;
+	}
+
+	@Override
+	public boolean tryDecode(ByteBuffer arg0, Consumer<? super StringBean> action) throws DecodeException {
+		Logger.onCode(getClass());
+		action.accept(super.decode(arg0));
+		return true;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.coder;
+
+import ee.jakarta.tck.websocket.common.client.AnnotatedClientEndpoint;
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanClientEndpoint;
+import jakarta.websocket.ClientEndpoint;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.OnClose;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+
+@ClientEndpoint(decoders = { TryDecodeFirstTextDecoder.class, TryDecodeSecondTextDecoder.class })
+public class WSCEndpointWithTextTryDecoders extends AnnotatedClientEndpoint<StringBean> {
+
+	public WSCEndpointWithTextTryDecoders() {
+		super(new StringBeanClientEndpoint());
+	}
+
+	@Override
+	@OnMessage
+	public void onMessage(StringBean msg) {
+		super.onMessage(msg);
+	}
+
+	@Override
+	@OnOpen
+	public void onOpen(Session session, EndpointConfig config) {
+		super.onOpen(session, config);
+	}
+
+	@Override
+	@OnClose
+	public void onClose(Session session, CloseReason closeReason) {
+		super.onClose(session, closeReason);
+	}
+
+	@Override
+	@OnError
+	public void onError(Session session, Throwable t) {
+		super.onError(session, t);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,8 @@
 package ee.jakarta.tck.websocket.ee.coder;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit5.ArquillianExtension;
@@ -39,6 +41,7 @@ import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
 import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextStreamDecoder;
 import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextStreamEncoder;
 import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.Decoder;
 
 @ExtendWith(ArquillianExtension.class)
 public class WSClientIT extends WebSocketCommonClient {
@@ -468,6 +471,95 @@ public class WSClientIT extends WebSocketCommonClient {
 		invokeGetCode(WillDecodeSecondTextDecoder.class);
 	}
 
+	/*
+	 * @testName: binaryDecoderTryDecodeTest
+	 *
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: test that the implementation uses tryDecode rather than
+	 * willDecode and decode to choose and call the binary decoder
+	 *
+	 * ServerEndpoint.decoders
+	 */
+	@Test
+	public void binaryDecoderTryDecodeTest() throws Exception {
+		invokeClear();
+		invokeBinaryDecoderEcho("binarytrydecode");
+		setProperty(Property.UNEXPECTED_RESPONSE_MATCH, TryDecodeFirstBinaryDecoder.class.getName());
+		invokeGetCode(TryDecodeSecondBinaryDecoder.class);
+	}
+
+	/*
+	 * @testName: textDecoderTryDecodeTest
+	 *
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: test that the implementation uses tryDecode rather than
+	 * willDecode and decode to choose and call the text decoder
+	 *
+	 * ServerEndpoint.decoders
+	 */
+	@Test
+	public void textDecoderTryDecodeTest() throws Exception {
+		invokeClear();
+		invokeEcho("texttrydecode");
+		setProperty(Property.UNEXPECTED_RESPONSE_MATCH, TryDecodeFirstTextDecoder.class.getName());
+		invokeGetCode(TryDecodeSecondTextDecoder.class);
+	}
+
+	/*
+	 * @testName: defaultTryDecodeTest
+	 *
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: test that the default tryDecode of text and binary
+	 * decoders is equivalent to willDecode followed by decode, and that a
+	 * message decoded to null is told apart from a message that is declined
+	 */
+	@Test
+	public void defaultTryDecodeTest() throws Exception {
+		List<StringBean> decoded = new ArrayList<>();
+		assertTrue(new StringBeanTextDecoder().tryDecode(ECHO, decoded::add),
+				"StringBeanTextDecoder.tryDecode did not decode the message");
+		assertTrue(new WillDecodeSecondTextDecoder().tryDecode(ECHO, decoded::add),
+				"WillDecodeSecondTextDecoder.tryDecode did not decode the message");
+		assertFalse(new WillDecodeFirstTextDecoder().tryDecode(ECHO, decoded::add),
+				"WillDecodeFirstTextDecoder.tryDecode unexpectedly decoded the message");
+		assertEqualsInt(2, decoded.size(), "Unexpected number of decoded messages", decoded);
+		for (StringBean bean : decoded)
+			assertEquals(ECHO, bean.get(), "Unexpected decoded message");
+
+		decoded.clear();
+		ByteBuffer bytes = ByteBuffer.wrap(ECHO.getBytes());
+		assertTrue(new StringBeanBinaryDecoder().tryDecode(bytes, decoded::add),
+				"StringBeanBinaryDecoder.tryDecode did not decode the message");
+		assertEquals(bytes.limit(), bytes.position(), "The buffer has not been consumed");
+
+		bytes = ByteBuffer.wrap(ECHO.getBytes());
+		assertFalse(new WillDecodeFirstBinaryDecoder().tryDecode(bytes, decoded::add),
+				"WillDecodeFirstBinaryDecoder.tryDecode unexpectedly decoded the message");
+		assertEquals(0, bytes.position(), "The buffer has been changed");
+		assertEqualsInt(1, decoded.size(), "Unexpected number of decoded messages", decoded);
+		assertEquals(ECHO, decoded.get(0).get(), "Unexpected decoded message");
+
+		decoded.clear();
+		Decoder.Text<StringBean> nullDecoder = new Decoder.Text<StringBean>() {
+			@Override
+			public StringBean decode(String s) {
+				return null;
+			}
+
+			@Override
+			public boolean willDecode(String s) {
+				return true;
+			}
+		};
+		assertTrue(nullDecoder.tryDecode(ECHO, decoded::add), "A message decoded to null was declined");
+		assertEqualsInt(1, decoded.size(), "Unexpected number of decoded messages", decoded);
+		assertTrue(decoded.get(0) == null, "Unexpected decoded message", decoded);
+		logMsg("The default tryDecode is equivalent to willDecode and decode as expected");
+	}
+
 	// ====================================================================
 	/*
 	 * @testName: textEncoderInitDestroyOnClientTest
@@ -876,6 +968,24 @@ public class WSClientIT extends WebSocketCommonClient {
 		assertCode(WillDecodeSecondTextDecoder.class);
 	}
 
+	/*
+	 * @testName: textDecoderTryDecodeOnClientTest
+	 *
+	 * @assertion_ids:
+	 *
+	 * @test_Strategy: test that the implementation uses tryDecode rather than
+	 * willDecode and decode to choose and call the text decoder
+	 * ClientEndpoint.decoders
+	 */
+	@Test
+	public void textDecoderTryDecodeOnClientTest() throws Exception {
+		clientClear();
+		setAnnotatedClientEndpointInstance(new WSCEndpointWithTextTryDecoders());
+		invoke("simpleecho", ECHO, ECHO);
+		assertNotCode(TryDecodeFirstTextDecoder.class);
+		assertCode(TryDecodeSecondTextDecoder.class);
+	}
+
 	// //////////////////////////////////////////////////////////////////
 	private void invokeClear() throws Exception {
 		invokeLogger("clearall", "clearall");
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.decoderrouter;
+
+import java.nio.ByteBuffer;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanBinaryDecoder;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextDecoder;
+import jakarta.websocket.Decoder;
+import jakarta.websocket.DecoderRouter;
+import jakarta.websocket.Session;
+
+/**
+ * Routes messages starting with {@link #ALPHA} and {@link #BETA} to the
+ * decoders of that name, messages starting with {@link #UNCONFIGURED} to a
+ * decoder that is not configured for the endpoint and leaves other messages to
+ * the configured decoders.
+ */
+public class TagRouter implements DecoderRouter {
+
+	public static final String ALPHA = "alpha";
+
+	public static final String BETA = "beta";
+
+	public static final String UNCONFIGURED = "unconfigured";
+
+	public static final String OTHER = "other";
+
+	@Override
+	public Class<? extends Decoder> route(Session session, String message) {
+		if (message.startsWith(ALPHA))
+			return AlphaTextDecoder.class;
+		if (message.startsWith(BETA))
+			return BetaTextDecoder.class;
+		if (message.startsWith(UNCONFIGURED))
+			return StringBeanTextDecoder.class;
+		return null;
+	}
+
+	@Override
+	public Class<? extends Decoder> route(Session session, ByteBuffer message) {
+		// The first byte is the discriminator, read without moving the position
+		if (!message.hasRemaining())
+			return null;
+		switch (message.get(message.position())) {
+		case 'a':
+			return AlphaBinaryDecoder.class;
+		case 'b':
+			return BetaBinaryDecoder.class;
+		case 'u':
+			return StringBeanBinaryDecoder.class;
+		default:
+			return null;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.decoderrouter;
+
+import static ee.jakarta.tck.websocket.ee.decoderrouter.TagRouter.BETA;
+import static ee.jakarta.tck.websocket.ee.decoderrouter.TagRouter.OTHER;
+import static ee.jakarta.tck.websocket.ee.decoderrouter.TagRouter.UNCONFIGURED;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanClientEndpoint;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.DecodeException;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final String MESSAGE = " message";
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_decoderrouter_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class), "ee.jakarta.tck.websocket.ee.decoderrouter");
+		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_decoderrouter_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: routedTextOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message is decoded by the decoder selected by the
+	 * DecoderRouter of the server endpoint rather than by the first decoder
+	 * that would decode it.
+	 */
+	@Test
+	public void routedTextOnServerTest() throws Exception {
+		invoke("text", BETA + MESSAGE, BetaTextDecoder.class.getSimpleName() + ":" + BETA + MESSAGE);
+	}
+
+	/*
+	 * @testName: unroutedTextOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message for which the DecoderRouter of the server
+	 * endpoint selects no decoder is decoded by the first configured decoder
+	 * that will decode it.
+	 */
+	@Test
+	public void unroutedTextOnServerTest() throws Exception {
+		invoke("text", OTHER + MESSAGE, AlphaTextDecoder.class.getSimpleName() + ":" + OTHER + MESSAGE);
+	}
+
+	/*
+	 * @testName: unconfiguredRouteOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message for which the DecoderRouter of the server
+	 * endpoint selects a decoder that is not configured for the endpoint is not
+	 * delivered and a DecodeException is passed to the error handling method.
+	 */
+	@Test
+	public void unconfiguredRouteOnServerTest() throws Exception {
+		invoke("text", UNCONFIGURED + MESSAGE, DecodeException.class.getName());
+	}
+
+	/*
+	 * @testName: routedBinaryOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A binary message is decoded by the decoder selected by the
+	 * DecoderRouter of the server endpoint rather than by the first decoder
+	 * that would decode it, and the router does not consume the message.
+	 */
+	@Test
+	public void routedBinaryOnServerTest() throws Exception {
+		invokeBinary(BETA + MESSAGE, BetaBinaryDecoder.class.getSimpleName() + ":" + BETA + MESSAGE);
+	}
+
+	/*
+	 * @testName: unroutedBinaryOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A binary message for which the DecoderRouter of the server
+	 * endpoint selects no decoder is decoded by the first configured decoder
+	 * that will decode it.
+	 */
+	@Test
+	public void unroutedBinaryOnServerTest() throws Exception {
+		invokeBinary(OTHER + MESSAGE, AlphaBinaryDecoder.class.getSimpleName() + ":" + OTHER + MESSAGE);
+	}
+
+	/*
+	 * @testName: routedProgrammaticOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message is decoded by the decoder selected by the
+	 * DecoderRouter of the ServerEndpointConfig of a programmatic endpoint.
+	 */
+	@Test
+	public void routedProgrammaticOnServerTest() throws Exception {
+		invoke("programmatic", BETA + MESSAGE, BetaTextDecoder.class.getSimpleName() + ":" + BETA + MESSAGE);
+	}
+
+	/*
+	 * @testName: routedTextOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message is decoded by the decoder selected by the
+	 * DecoderRouter of the ClientEndpointConfig of a client endpoint.
+	 */
+	@Test
+	public void routedTextOnClientTest() throws Exception {
+		setClientEndpoint(StringBeanClientEndpoint.class);
+		setClientEndpointConfig(ClientEndpointConfig.Builder.create()
+				.decoders(Arrays.asList(AlphaTextDecoder.class, BetaTextDecoder.class))
+				.decoderRouter(new TagRouter()).build());
+		invoke("echo", BETA + MESSAGE, BetaTextDecoder.class.getSimpleName() + ":" + BETA + MESSAGE);
+	}
+
+	/*
+	 * @testName: unroutedTextOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message for which the DecoderRouter of the
+	 * ClientEndpointConfig selects no decoder is decoded by the first configured
+	 * decoder that will decode it.
+	 */
+	@Test
+	public void unroutedTextOnClientTest() throws Exception {
+		setClientEndpoint(StringBeanClientEndpoint.class);
+		setClientEndpointConfig(ClientEndpointConfig.Builder.create()
+				.decoders(Arrays.asList(AlphaTextDecoder.class, BetaTextDecoder.class))
+				.decoderRouter(new TagRouter()).build());
+		invoke("echo", OTHER + MESSAGE, AlphaTextDecoder.class.getSimpleName() + ":" + OTHER + MESSAGE);
+	}
+
+	// Private -----------------------------------------
+	private void invokeBinary(String message, String search) throws Exception {
+		setEntity(ByteBuffer.wrap(message.getBytes()));
+		setProperty(Property.REQUEST, buildRequest("binary"));
+		setProperty(Property.SEARCH_STRING, search);
+		invoke();
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.dispatchmode;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.websocket.DispatchMode;
+
+/**
+ * Checks the messages delivered to the endpoint of one peer: the callbacks do
+ * not overlap, each message is delivered after the previous one and its parts
+ * are not interleaved with the parts of other messages. Each message consists
+ * of {@link #MESSAGE} followed by its index, which the sender may split into
+ * parts.
+ */
+public class DispatchChecker {
+
+	static final String[] RESPONSE = { "OK", "FAIL" };
+
+	static final String MESSAGE = "message:";
+
+	static final int MESSAGES = 10;
+
+	/**
+	 * Time spent in each callback, so that an overlapping callback is noticed
+	 */
+	static final long CALLBACK_MILLIS = 20L;
+
+	static final String THREAD_PREFIX = "tck-dispatch-";
+
+	private static final AtomicInteger threads = new AtomicInteger();
+
+	/**
+	 * Thread.isVirtual(), or null when the Java runtime does not support
+	 * virtual threads
+	 */
+	private static final Method IS_VIRTUAL = isVirtualMethod();
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	private final StringBuilder parts = new StringBuilder();
+
+	private final DispatchMode mode;
+
+	private volatile String failure = null;
+
+	private int next = 0;
+
+	public DispatchChecker(DispatchMode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * Create an executor for the endpoints that use DispatchMode.EXECUTOR,
+	 * whose threads are recognised by their name. The caller shuts it down.
+	 */
+	static ExecutorService newExecutor() {
+		return Executors.newFixedThreadPool(2, r -> {
+			Thread thread = new Thread(r, THREAD_PREFIX + threads.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @return true when the Java runtime supports virtual threads, in which
+	 *         case DispatchMode.VIRTUAL_THREAD callbacks run on virtual threads
+	 */
+	static boolean virtualThreadsSupported() {
+		return IS_VIRTUAL != null;
+	}
+
+	/**
+	 * @return true when the last part of the last message has been delivered
+	 */
+	public boolean delivered(String part, boolean last) {
+		if (!running.compareAndSet(false, true))
+			fail("Received " + part + " while another callback for the same peer was running");
+		try {
+			Thread thread = Thread.currentThread();
+			if (mode == DispatchMode.EXECUTOR && !thread.getName().startsWith(THREAD_PREFIX))
+				fail("Received " + part + " on thread " + thread.getName() + " instead of the dispatch executor");
+			if (mode == DispatchMode.VIRTUAL_THREAD && virtualThreadsSupported() && !isVirtual(thread))
+				fail("Received " + part + " on thread " + thread + " which is not a virtual thread");
+			parts.append(part);
+			try {
+				Thread.sleep(CALLBACK_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (!last)
+				return false;
+			String msg = parts.toString();
+			parts.setLength(0);
+			if (!msg.equals(MESSAGE + next))
+				fail("Received " + msg + " instead of " + MESSAGE + next);
+			return ++next == MESSAGES;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public String getResult() {
+		return failure == null ? RESPONSE[0] : failure;
+	}
+
+	private void fail(String message) {
+		if (failure == null)
+			failure = message;
+	}
+
+	private static boolean isVirtual(Thread thread) {
+		try {
+			return (Boolean) IS_VIRTUAL.invoke(thread);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/*
+	 * Thread.isVirtual() exists from Java 19, but virtual threads may only be
+	 * created without preview features from Java 21, so creating a builder is
+	 * tried as well
+	 */
+	private static Method isVirtualMethod() {
+		try {
+			Thread.class.getMethod("ofVirtual").invoke(null);
+			return Thread.class.getMethod("isVirtual");
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.dispatchmode;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * Creates the executor of the server endpoints that use DispatchMode.EXECUTOR
+ * when the application starts and shuts it down when the application stops
+ */
+@WebListener
+public class DispatchExecutorListener implements ServletContextListener {
+
+	private static volatile ExecutorService executor;
+
+	/**
+	 * The dispatch executor used by {@link AppConfig}. The endpoint
+	 * configurations are created before the listeners are notified, so they
+	 * are given this executor, which hands each task to the executor of the
+	 * running application.
+	 */
+	static final Executor EXECUTOR = command -> {
+		ExecutorService current = executor;
+		if (current == null)
+			throw new RejectedExecutionException("The application is not running");
+		current.execute(command);
+	};
+
+	/**
+	 * Receives notification that the web application initialization process is
+	 * starting.
+	 *
+	 * @param sce The ServletContextEvent
+	 */
+	@Override
+	public void contextInitialized(ServletContextEvent sce) {
+		executor = DispatchChecker.newExecutor();
+	}
+
+	/**
+	 * Receives notification that the servlet context is about to be shut down.
+	 * 
+	 * @param sce The servlet context event
+	 */
+	@Override
+	public void contextDestroyed(ServletContextEvent sce) {
+		ExecutorService current = executor;
+		executor = null;
+		if (current != null)
+			current.shutdownNow();
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.dispatchmode;
+
+import static ee.jakarta.tck.websocket.ee.dispatchmode.DispatchChecker.MESSAGE;
+import static ee.jakarta.tck.websocket.ee.dispatchmode.DispatchChecker.MESSAGES;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Sends {@link DispatchChecker#MESSAGES} messages in a row, each in two parts,
+ * whatever it receives.
+ */
+@ServerEndpoint("/burst")
+public class WSCBurstServer {
+
+	@OnMessage
+	public void onMessage(String msg, Session session) throws IOException {
+		for (int i = 0; i != MESSAGES; i++) {
+			session.getBasicRemote().sendText(MESSAGE, false);
+			session.getBasicRemote().sendText(String.valueOf(i), true);
+		}
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.dispatchmode;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.DispatchMode;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+/**
+ * Programmatic endpoint deployed by {@link AppConfig} with
+ * DispatchMode.EXECUTOR and {@link DispatchExecutorListener#EXECUTOR}
+ */
+public class WSCExecutorServer extends Endpoint {
+
+	static final String PATH = "/executor";
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		DispatchChecker checker = new DispatchChecker(DispatchMode.EXECUTOR);
+		session.addMessageHandler(String.class, new MessageHandler.Partial<String>() {
+			@Override
+			public void onMessage(String part, boolean last) {
+				if (checker.delivered(part, last))
+					sendText(session, checker.getResult());
+			}
+		});
+	}
+
+	@Override
+	public void onError(Session session, Throwable t) {
+		t.printStackTrace(); // Write to error log, too
+		sendText(session, "Exception: " + IOUtil.printStackTrace(t));
+	}
+
+	private static void sendText(Session session, String text) {
+		try {
+			session.getBasicRemote().sendText(text);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
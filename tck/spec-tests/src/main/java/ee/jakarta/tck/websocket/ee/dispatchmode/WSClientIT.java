@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.dispatchmode;
+
+import static ee.jakarta.tck.websocket.ee.dispatchmode.DispatchChecker.MESSAGE;
+import static ee.jakarta.tck.websocket.ee.dispatchmode.DispatchChecker.MESSAGES;
+import static ee.jakarta.tck.websocket.ee.dispatchmode.DispatchChecker.RESPONSE;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.DispatchMode;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_dispatchmode_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class), "ee.jakarta.tck.websocket.ee.dispatchmode");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_dispatchmode_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: dispatchIoThreadOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a server endpoint
+	 * with DispatchMode.IO_THREAD in order, one callback at a time, and the
+	 * parts of a message are not interleaved with other messages.
+	 */
+	@Test
+	public void dispatchIoThreadOnServerTest() throws Exception {
+		sendOnServer("iothread");
+	}
+
+	/*
+	 * @testName: dispatchIoThreadOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a client endpoint
+	 * with DispatchMode.IO_THREAD in order and one callback at a time.
+	 */
+	@Test
+	public void dispatchIoThreadOnClientTest() throws Exception {
+		receiveOnClient(DispatchMode.IO_THREAD);
+	}
+
+	/*
+	 * @testName: dispatchSharedPoolOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a server endpoint
+	 * with DispatchMode.SHARED_POOL in order, one callback at a time, and the
+	 * parts of a message are not interleaved with other messages.
+	 */
+	@Test
+	public void dispatchSharedPoolOnServerTest() throws Exception {
+		sendOnServer("sharedpool");
+	}
+
+	/*
+	 * @testName: dispatchSharedPoolOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a client endpoint
+	 * with DispatchMode.SHARED_POOL in order and one callback at a time.
+	 */
+	@Test
+	public void dispatchSharedPoolOnClientTest() throws Exception {
+		receiveOnClient(DispatchMode.SHARED_POOL);
+	}
+
+	/*
+	 * @testName: dispatchExecutorOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a server endpoint
+	 * with DispatchMode.EXECUTOR on the threads of the dispatch executor, in
+	 * order, one callback at a time, and the parts of a message are not
+	 * interleaved with other messages.
+	 */
+	@Test
+	public void dispatchExecutorOnServerTest() throws Exception {
+		sendOnServer(WSCExecutorServer.PATH.substring(1));
+	}
+
+	/*
+	 * @testName: dispatchExecutorOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a client endpoint
+	 * with DispatchMode.EXECUTOR on the threads of the dispatch executor, in
+	 * order and one callback at a time.
+	 */
+	@Test
+	public void dispatchExecutorOnClientTest() throws Exception {
+		receiveOnClient(DispatchMode.EXECUTOR);
+	}
+
+	/*
+	 * @testName: dispatchVirtualThreadOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a server endpoint
+	 * with DispatchMode.VIRTUAL_THREAD in order, one callback at a time, and the
+	 * parts of a message are not interleaved with other messages. When the Java
+	 * runtime supports virtual threads, each callback runs on a virtual thread.
+	 */
+	@Test
+	public void dispatchVirtualThreadOnServerTest() throws Exception {
+		sendOnServer("virtualthread");
+	}
+
+	/*
+	 * @testName: dispatchVirtualThreadOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Messages sent in parts are delivered to a client endpoint
+	 * with DispatchMode.VIRTUAL_THREAD in order and one callback at a time.
+	 * When the Java runtime supports virtual threads, each callback runs on a
+	 * virtual thread.
+	 */
+	@Test
+	public void dispatchVirtualThreadOnClientTest() throws Exception {
+		receiveOnClient(DispatchMode.VIRTUAL_THREAD);
+	}
+
+	// /////////////////////////////////////////////////////////////////////////
+	private void sendOnServer(String endpoint) throws Exception {
+		setClientCallback(new EndpointCallback() {
+			@Override
+			public void onOpen(Session session, EndpointConfig config) {
+				try {
+					// the last message is the entity sent by invoke
+					for (int i = 0; i != MESSAGES - 1; i++) {
+						session.getBasicRemote().sendText(MESSAGE, false);
+						session.getBasicRemote().sendText(String.valueOf(i), true);
+					}
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		invoke(endpoint, MESSAGE + (MESSAGES - 1), RESPONSE[0]);
+	}
+
+	private void receiveOnClient(DispatchMode mode) throws Exception {
+		final DispatchChecker checker = new DispatchChecker(mode);
+		ExecutorService executor = mode == DispatchMode.EXECUTOR ? DispatchChecker.newExecutor() : null;
+		try {
+			setClientCallback(new EndpointCallback() {
+				@Override
+				public void onMessage(Object o) {
+					checker.delivered(o.toString(), true);
+				}
+			});
+			setClientEndpointConfig(
+					ClientEndpointConfig.Builder.create().dispatchMode(mode).dispatchExecutor(executor).build());
+			setCountDownLatchCount(MESSAGES);
+			invoke("burst", "anything", MESSAGE + (MESSAGES - 1));
+		} finally {
+			if (executor != null)
+				executor.shutdown();
+		}
+		assertEquals(RESPONSE[0], checker.getResult(), mode, "did not endup as expected");
+		logMsg(mode, "works as expected");
+	}
+}
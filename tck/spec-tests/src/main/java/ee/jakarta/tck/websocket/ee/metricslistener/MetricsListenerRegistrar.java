@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.metricslistener;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import jakarta.websocket.server.ServerContainer;
+
+/**
+ * Adds {@link RecordingMetricsListener#SERVER} to the ServerContainer of this
+ * application and makes the ServerContainer available to the endpoints
+ */
+@WebListener
+public class MetricsListenerRegistrar implements ServletContextListener {
+
+	private static volatile ServerContainer serverContainer;
+
+	public static ServerContainer getServerContainer() {
+		return serverContainer;
+	}
+
+	/**
+	 * Receives notification that the web application initialization process is
+	 * starting.
+	 *
+	 * @param sce The ServletContextEvent
+	 */
+	@Override
+	public void contextInitialized(ServletContextEvent sce) {
+		serverContainer = (ServerContainer) sce.getServletContext()
+				.getAttribute("jakarta.websocket.server.ServerContainer");
+		serverContainer.addMetricsListener(RecordingMetricsListener.SERVER);
+	}
+
+	/**
+	 * Receives notification that the servlet context is about to be shut down.
+	 * 
+	 * @param sce The servlet context event
+	 */
+	@Override
+	public void contextDestroyed(ServletContextEvent sce) {
+		serverContainer.removeMetricsListener(RecordingMetricsListener.SERVER);
+		serverContainer = null;
+	}
+}
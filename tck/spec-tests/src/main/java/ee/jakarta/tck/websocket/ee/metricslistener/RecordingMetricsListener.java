@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.metricslistener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+import jakarta.websocket.WebSocketMetricsListener;
+
+/**
+ * Counts the events it is notified of
+ */
+public class RecordingMetricsListener implements WebSocketMetricsListener {
+
+	/**
+	 * The listener added to the ServerContainer by
+	 * {@link MetricsListenerRegistrar}
+	 */
+	public static final RecordingMetricsListener SERVER = new RecordingMetricsListener();
+
+	public static final String HANDSHAKE_STARTS = "handshakeStarts";
+
+	public static final String HANDSHAKE_ENDS = "handshakeEnds";
+
+	public static final String HANDSHAKE_FAILURES = "handshakeFailures";
+
+	public static final String HANDSHAKES_WITHOUT_CAUSE = "handshakesWithoutCause";
+
+	public static final String LAST_HANDSHAKE_STATUS = "lastHandshakeStatus";
+
+	public static final String TEXT_RECEIVED = "textReceived";
+
+	public static final String BINARY_RECEIVED = "binaryReceived";
+
+	public static final String BYTES_RECEIVED = "bytesReceived";
+
+	public static final String SENDS_COMPLETED = "sendsCompleted";
+
+	public static final String SEND_FAILURES = "sendFailures";
+
+	public static final String NEGATIVE_LATENCIES = "negativeLatencies";
+
+	public static final String CLOSES = "closes";
+
+	public static final String LAST_CLOSE_CODE = "lastCloseCode";
+
+	public static final String ERRORS = "errors";
+
+	private final LongAdder handshakeStarts = new LongAdder();
+
+	private final LongAdder handshakeEnds = new LongAdder();
+
+	private final LongAdder handshakeFailures = new LongAdder();
+
+	private final LongAdder handshakesWithoutCause = new LongAdder();
+
+	private volatile int lastHandshakeStatus = -1;
+
+	private final LongAdder textReceived = new LongAdder();
+
+	private final LongAdder binaryReceived = new LongAdder();
+
+	private final LongAdder bytesReceived = new LongAdder();
+
+	private final LongAdder sendsCompleted = new LongAdder();
+
+	private final LongAdder sendFailures = new LongAdder();
+
+	private final LongAdder negativeLatencies = new LongAdder();
+
+	private final LongAdder closes = new LongAdder();
+
+	private volatile int lastCloseCode = -1;
+
+	private final LongAdder errors = new LongAdder();
+
+	@Override
+	public void onHandshakeStart(EndpointConfig config) {
+		handshakeStarts.increment();
+	}
+
+	@Override
+	public void onHandshakeEnd(EndpointConfig config, Session session, long durationNanos, int statusCode,
+			Throwable failure) {
+		lastHandshakeStatus = statusCode;
+		handshakeEnds.increment();
+		if (session == null) {
+			handshakeFailures.increment();
+			if (failure == null)
+				handshakesWithoutCause.increment();
+		}
+	}
+
+	@Override
+	public void onMessageReceived(Session session, MessageType type, long size) {
+		if (type == MessageType.TEXT)
+			textReceived.increment();
+		else if (type == MessageType.BINARY)
+			binaryReceived.increment();
+		bytesReceived.add(size);
+	}
+
+	@Override
+	public void onSendComplete(Session session, MessageType type, long size, long latencyNanos, boolean success) {
+		sendsCompleted.increment();
+		if (!success)
+			sendFailures.increment();
+		if (latencyNanos < 0)
+			negativeLatencies.increment();
+	}
+
+	@Override
+	public void onClose(Session session, int closeCode) {
+		lastCloseCode = closeCode;
+		closes.increment();
+	}
+
+	@Override
+	public void onError(Session session, Throwable error) {
+		errors.increment();
+	}
+
+	public Map<String, Long> read() {
+		Map<String, Long> values = new LinkedHashMap<>();
+		values.put(HANDSHAKE_STARTS, handshakeStarts.sum());
+		values.put(HANDSHAKE_ENDS, handshakeEnds.sum());
+		values.put(HANDSHAKE_FAILURES, handshakeFailures.sum());
+		values.put(HANDSHAKES_WITHOUT_CAUSE, handshakesWithoutCause.sum());
+		values.put(LAST_HANDSHAKE_STATUS, (long) lastHandshakeStatus);
+		values.put(TEXT_RECEIVED, textReceived.sum());
+		values.put(BINARY_RECEIVED, binaryReceived.sum());
+		values.put(BYTES_RECEIVED, bytesReceived.sum());
+		values.put(SENDS_COMPLETED, sendsCompleted.sum());
+		values.put(SEND_FAILURES, sendFailures.sum());
+		values.put(NEGATIVE_LATENCIES, negativeLatencies.sum());
+		values.put(CLOSES, closes.sum());
+		values.put(LAST_CLOSE_CODE, (long) lastCloseCode);
+		values.put(ERRORS, errors.sum());
+		return values;
+	}
+
+	public static String format(Map<String, Long> values) {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Long> entry : values.entrySet()) {
+			if (sb.length() != 0)
+				sb.append(' ');
+			sb.append(entry.getKey()).append('=').append(entry.getValue());
+		}
+		return sb.toString();
+	}
+
+	public static Map<String, Long> parse(String text) {
+		Map<String, Long> values = new LinkedHashMap<>();
+		for (String field : text.split(" ")) {
+			int equals = field.indexOf('=');
+			values.put(field.substring(0, equals), Long.valueOf(field.substring(equals + 1)));
+		}
+		return values;
+	}
+
+	/**
+	 * Return the difference between the values of the given event count
+	 */
+	public static long delta(Map<String, Long> earlier, Map<String, Long> later, String count) {
+		return later.get(count) - earlier.get(count);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.metricslistener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.WebSocketMetricsListener;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies to:
+ * <ul>
+ * <li>{@link #REPORT} with the counts of {@link RecordingMetricsListener#SERVER}</li>
+ * <li>{@link #ECHO} followed by any text with the same message</li>
+ * <li>a binary message with {@link #BINARY}</li>
+ * <li>{@link #THROW} by throwing an exception, reported by the onError method</li>
+ * <li>{@link #INSTALLED} with the class names of the installed listeners</li>
+ * <li>{@link #REMOVE} and {@link #ADD} after removing or adding
+ * {@link RecordingMetricsListener#SERVER}</li>
+ * </ul>
+ */
+@ServerEndpoint("/metrics")
+public class WSCMetricsServer {
+
+	public static final String REPORT = "report";
+
+	public static final String ECHO = "echo:";
+
+	public static final String BINARY = "binary";
+
+	public static final String THROW = "throw";
+
+	public static final String INSTALLED = "installed";
+
+	public static final String REMOVE = "remove";
+
+	public static final String ADD = "add";
+
+	@OnMessage
+	public String onMessage(String message) {
+		if (message.equals(REPORT))
+			return RecordingMetricsListener.format(RecordingMetricsListener.SERVER.read());
+		if (message.startsWith(ECHO))
+			return message;
+		if (message.equals(THROW))
+			throw new IllegalStateException("Thrown to test WebSocketMetricsListener.onError");
+		if (message.equals(INSTALLED)) {
+			List<String> names = new ArrayList<>();
+			for (WebSocketMetricsListener listener : WebSocketMetricsListener.getInstalledListeners())
+				names.add(listener.getClass().getName());
+			return names.toString();
+		}
+		if (message.equals(REMOVE)) {
+			MetricsListenerRegistrar.getServerContainer().removeMetricsListener(RecordingMetricsListener.SERVER);
+			return REMOVE;
+		}
+		if (message.equals(ADD)) {
+			MetricsListenerRegistrar.getServerContainer().addMetricsListener(RecordingMetricsListener.SERVER);
+			return ADD;
+		}
+		return "Unexpected message " + message;
+	}
+
+	@OnMessage
+	public String onMessage(ByteBuffer message) {
+		return BINARY;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
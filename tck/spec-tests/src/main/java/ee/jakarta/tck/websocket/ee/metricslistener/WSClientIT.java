@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.metricslistener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.RequestClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.SessionUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.WebSocketContainer;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final int CLOSE_CODE = 4000;
+
+	private static final int SWITCHING_PROTOCOLS = 101;
+
+	private static final int NOT_FOUND = 404;
+
+	private final List<RequestClientEndpoint> endpoints = new ArrayList<>();
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_metricslistener_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class, InstalledMetricsListener.class),
+				"ee.jakarta.tck.websocket.ee.metricslistener");
+		archive.addClasses(IOUtil.class);
+
+		final JavaArchive listenerJar = ShrinkWrap
+				.create(JavaArchive.class, "wsc_ee_jakarta_websocket_metricslistener_lib.jar")
+				.addClasses(InstalledMetricsListener.class);
+		InputStream inStream = WSClientIT.class.getClassLoader().getResourceAsStream(
+				"ee/jakarta/tck/websocket/ee/metricslistener/jakarta.websocket.WebSocketMetricsListener");
+		ByteArrayAsset listener = new ByteArrayAsset(inStream);
+		listenerJar.addAsManifestResource(listener, "services/jakarta.websocket.WebSocketMetricsListener");
+		archive.addAsLibrary(listenerJar);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_metricslistener_web");
+	}
+
+	@AfterEach
+	public void closeSessions() throws Exception {
+		for (RequestClientEndpoint endpoint : endpoints)
+			if (endpoint.getSession().isOpen())
+				endpoint.getSession().close();
+		endpoints.clear();
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: handshakeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to the ServerContainer
+	 * is notified of the start and the successful end of the opening handshake
+	 * of a new session, with the 101 status code of the response.
+	 */
+	@Test
+	public void handshakeTest() throws Exception {
+		RequestClientEndpoint observer = open();
+		Map<String, Long> before = report(observer);
+		open();
+		Map<String, Long> after = report(observer);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.HANDSHAKE_STARTS) >= 1,
+				"Handshake start not reported", before, after);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.HANDSHAKE_ENDS) >= 1,
+				"Handshake end not reported", before, after);
+		assertEquals(0L, RecordingMetricsListener.delta(before, after, RecordingMetricsListener.HANDSHAKE_FAILURES),
+				"Successful handshake reported as failed");
+		assertEquals((long) SWITCHING_PROTOCOLS, after.get(RecordingMetricsListener.LAST_HANDSHAKE_STATUS),
+				"Unexpected handshake status code reported");
+	}
+
+	/*
+	 * @testName: messageReceivedTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to the ServerContainer
+	 * is notified of each text and binary message received with its type and
+	 * its size.
+	 */
+	@Test
+	public void messageReceivedTest() throws Exception {
+		RequestClientEndpoint endpoint = open();
+		Map<String, Long> before = report(endpoint);
+		String text = WSCMetricsServer.ECHO + "metrics";
+		assertEquals(text, endpoint.request(text, _ws_wait), "Unexpected echo");
+		ByteBuffer binary = ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+		assertEquals(WSCMetricsServer.BINARY, endpoint.request(binary, _ws_wait), "Unexpected reply");
+		Map<String, Long> after = report(endpoint);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.TEXT_RECEIVED) >= 2,
+				"Text messages not reported", before, after);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.BINARY_RECEIVED) >= 1,
+				"Binary message not reported", before, after);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.BYTES_RECEIVED) >= text
+				.length() + 8, "Message sizes not reported", before, after);
+	}
+
+	/*
+	 * @testName: sendCompleteTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to the ServerContainer
+	 * is notified of the successful completion of each message sent with a
+	 * latency that is not negative.
+	 */
+	@Test
+	public void sendCompleteTest() throws Exception {
+		RequestClientEndpoint endpoint = open();
+		Map<String, Long> before = report(endpoint);
+		for (int i = 0; i < 3; i++)
+			endpoint.request(WSCMetricsServer.ECHO + i, _ws_wait);
+		Map<String, Long> after = report(endpoint);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.SENDS_COMPLETED) >= 3,
+				"Completed sends not reported", before, after);
+		assertEquals(0L, RecordingMetricsListener.delta(before, after, RecordingMetricsListener.SEND_FAILURES),
+				"Successful sends reported as failed");
+		assertEquals(0L, after.get(RecordingMetricsListener.NEGATIVE_LATENCIES), "Negative send latency reported");
+	}
+
+	/*
+	 * @testName: closeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to the ServerContainer
+	 * is notified when a session closes with the close code sent by the peer.
+	 */
+	@Test
+	public void closeTest() throws Exception {
+		RequestClientEndpoint observer = open();
+		RequestClientEndpoint closing = open();
+		Map<String, Long> before = report(observer);
+		closing.getSession()
+				.close(new CloseReason(CloseReason.CloseCodes.getCloseCode(CLOSE_CODE), "Testing metrics"));
+		SessionUtil.waitUntilClosed(closing.getSession(), _ws_wait, TimeUnit.SECONDS);
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(_ws_wait);
+		Map<String, Long> after = report(observer);
+		while (RecordingMetricsListener.delta(before, after, RecordingMetricsListener.CLOSES) < 1
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(100);
+			after = report(observer);
+		}
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.CLOSES) >= 1,
+				"Close not reported", before, after);
+		assertEquals((long) CLOSE_CODE, after.get(RecordingMetricsListener.LAST_CLOSE_CODE),
+				"Unexpected close code reported");
+	}
+
+	/*
+	 * @testName: errorTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to the ServerContainer
+	 * is notified of an error thrown by an endpoint.
+	 */
+	@Test
+	public void errorTest() throws Exception {
+		RequestClientEndpoint endpoint = open();
+		Map<String, Long> before = report(endpoint);
+		String reply = endpoint.request(WSCMetricsServer.THROW, _ws_wait);
+		assertTrue(reply.startsWith("Exception: "), "Error not reported to onError", reply);
+		Map<String, Long> after = report(endpoint);
+		assertTrue(RecordingMetricsListener.delta(before, after, RecordingMetricsListener.ERRORS) >= 1,
+				"Error not reported", before, after);
+	}
+
+	/*
+	 * @testName: removeMetricsListenerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Once removed from the ServerContainer a
+	 * WebSocketMetricsListener is no longer notified of messages received.
+	 */
+	@Test
+	public void removeMetricsListenerTest() throws Exception {
+		RequestClientEndpoint endpoint = open();
+		assertEquals(WSCMetricsServer.REMOVE, endpoint.request(WSCMetricsServer.REMOVE, _ws_wait),
+				"Listener not removed");
+		try {
+			Map<String, Long> before = report(endpoint);
+			for (int i = 0; i < 3; i++)
+				endpoint.request(WSCMetricsServer.ECHO + i, _ws_wait);
+			Map<String, Long> after = report(endpoint);
+			assertEquals(0L, RecordingMetricsListener.delta(before, after, RecordingMetricsListener.TEXT_RECEIVED),
+					"Removed listener notified of messages received");
+		} finally {
+			assertEquals(WSCMetricsServer.ADD, endpoint.request(WSCMetricsServer.ADD, _ws_wait),
+					"Listener not added again");
+		}
+	}
+
+	/*
+	 * @testName: clientMetricsListenerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to a client
+	 * WebSocketContainer is notified of the handshake, the messages sent and
+	 * the messages received by the sessions of that container.
+	 */
+	@Test
+	public void clientMetricsListenerTest() throws Exception {
+		WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+		RecordingMetricsListener listener = new RecordingMetricsListener();
+		container.addMetricsListener(listener);
+		try {
+			RequestClientEndpoint endpoint = open(container);
+			String text = WSCMetricsServer.ECHO + "client";
+			assertEquals(text, endpoint.request(text, _ws_wait), "Unexpected echo");
+			Map<String, Long> counts = listener.read();
+			assertTrue(counts.get(RecordingMetricsListener.HANDSHAKE_STARTS) >= 1, "Handshake start not reported",
+					counts);
+			assertTrue(counts.get(RecordingMetricsListener.HANDSHAKE_ENDS) >= 1, "Handshake end not reported",
+					counts);
+			assertEquals((long) SWITCHING_PROTOCOLS, counts.get(RecordingMetricsListener.LAST_HANDSHAKE_STATUS),
+					"Unexpected handshake status code reported", counts);
+			assertTrue(counts.get(RecordingMetricsListener.SENDS_COMPLETED) >= 1, "Completed send not reported",
+					counts);
+			assertTrue(counts.get(RecordingMetricsListener.TEXT_RECEIVED) >= 1, "Text message not reported", counts);
+			assertTrue(counts.get(RecordingMetricsListener.BYTES_RECEIVED) >= text.length(),
+					"Message size not reported", counts);
+		} finally {
+			container.removeMetricsListener(listener);
+		}
+	}
+
+	/*
+	 * @testName: clientHandshakeFailureTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A WebSocketMetricsListener added to a client
+	 * WebSocketContainer is notified of the end of a handshake to a path where
+	 * no endpoint is deployed, with the 404 status code of the response and the
+	 * cause of the failure.
+	 */
+	@Test
+	public void clientHandshakeFailureTest() throws Exception {
+		WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+		RecordingMetricsListener listener = new RecordingMetricsListener();
+		container.addMetricsListener(listener);
+		try {
+			boolean thrown = false;
+			try {
+				container.connectToServer(new RequestClientEndpoint(), ClientEndpointConfig.Builder.create().build(),
+						new URI(buildRequest("nonexistent")));
+			} catch (DeploymentException | IOException e) {
+				thrown = true;
+			}
+			assertTrue(thrown, "Connecting to a path without an endpoint did not fail");
+			Map<String, Long> counts = listener.read();
+			assertTrue(counts.get(RecordingMetricsListener.HANDSHAKE_FAILURES) >= 1, "Handshake failure not reported",
+					counts);
+			assertEquals(0L, counts.get(RecordingMetricsListener.HANDSHAKES_WITHOUT_CAUSE),
+					"Handshake failure reported without a cause", counts);
+			assertEquals((long) NOT_FOUND, counts.get(RecordingMetricsListener.LAST_HANDSHAKE_STATUS),
+					"Unexpected handshake status code reported", counts);
+		} finally {
+			container.removeMetricsListener(listener);
+		}
+	}
+
+	/*
+	 * @testName: getInstalledListenersTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: WebSocketMetricsListener.getInstalledListeners() returns
+	 * the listener declared in
+	 * META-INF/services/jakarta.websocket.WebSocketMetricsListener of a library
+	 * of the application.
+	 */
+	@Test
+	public void getInstalledListenersTest() throws Exception {
+		RequestClientEndpoint endpoint = open();
+		String installed = endpoint.request(WSCMetricsServer.INSTALLED, _ws_wait);
+		assertTrue(installed.contains(InstalledMetricsListener.class.getName()), "Installed listener not found",
+				installed);
+	}
+
+	/*
+	 * @testName: nullListenerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: WebSocketContainer.addMetricsListener(null) and
+	 * WebSocketContainer.removeMetricsListener(null) throw
+	 * IllegalArgumentException.
+	 */
+	@Test
+	public void nullListenerTest() throws Exception {
+		WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+		boolean thrown = false;
+		try {
+			container.addMetricsListener(null);
+		} catch (IllegalArgumentException iae) {
+			thrown = true;
+		}
+		assertTrue(thrown, "addMetricsListener(null) did not throw IllegalArgumentException");
+
+		thrown = false;
+		try {
+			container.removeMetricsListener(null);
+		} catch (IllegalArgumentException iae) {
+			thrown = true;
+		}
+		assertTrue(thrown, "removeMetricsListener(null) did not throw IllegalArgumentException");
+	}
+
+	private RequestClientEndpoint open() throws Exception {
+		return open(ContainerProvider.getWebSocketContainer());
+	}
+
+	private RequestClientEndpoint open(WebSocketContainer container) throws Exception {
+		RequestClientEndpoint endpoint = new RequestClientEndpoint();
+		container.connectToServer(endpoint, ClientEndpointConfig.Builder.create().build(),
+				new URI(buildRequest("metrics")));
+		endpoints.add(endpoint);
+		return endpoint;
+	}
+
+	private Map<String, Long> report(RequestClientEndpoint endpoint) throws Exception {
+		return RecordingMetricsListener.parse(endpoint.request(WSCMetricsServer.REPORT, _ws_wait));
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.numbermessage;
+
+import ee.jakarta.tck.websocket.common.client.ClientEndpoint;
+import jakarta.websocket.MessageHandler;
+
+/**
+ * Records the values delivered through onMessage(double) with the {@link #PRIMITIVE}
+ * prefix and the values delivered boxed with the {@link #BOXED} prefix
+ */
+public class DoubleClientEndpoint extends ClientEndpoint<Double> implements MessageHandler.OfDouble {
+
+	public static final String PRIMITIVE = "double:";
+
+	public static final String BOXED = "Double:";
+
+	private boolean primitive = false;
+
+	@Override
+	public void onMessage(double message) {
+		primitive = true;
+		try {
+			onMessage(Double.valueOf(message));
+		} finally {
+			primitive = false;
+		}
+	}
+
+	@Override
+	protected void appendMessage(Double message) {
+		getMessageBuilder().append(primitive ? PRIMITIVE : BOXED).append(message);
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.numbermessage;
+
+import ee.jakarta.tck.websocket.common.client.ClientEndpoint;
+import jakarta.websocket.MessageHandler;
+
+/**
+ * Records the values delivered through onMessage(long) with the {@link #PRIMITIVE}
+ * prefix and the values delivered boxed with the {@link #BOXED} prefix
+ */
+public class LongClientEndpoint extends ClientEndpoint<Long> implements MessageHandler.OfLong {
+
+	public static final String PRIMITIVE = "long:";
+
+	public static final String BOXED = "Long:";
+
+	private boolean primitive = false;
+
+	@Override
+	public void onMessage(long message) {
+		primitive = true;
+		try {
+			onMessage(Long.valueOf(message));
+		} finally {
+			primitive = false;
+		}
+	}
+
+	@Override
+	protected void appendMessage(Long message) {
+		getMessageBuilder().append(primitive ? PRIMITIVE : BOXED).append(message);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.numbermessage;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies to each even number with half of the number, sent with
+ * RemoteEndpoint.Async#sendNumber(long), and to each odd number with a quarter
+ * of the number, sent with RemoteEndpoint.Async#sendNumber(double)
+ */
+@ServerEndpoint("/asyncnumberfuture")
+public class WSCAsyncNumberFutureServer {
+
+	@OnOpen
+	public void onOpen(Session session) {
+		session.addMessageHandler(new MessageHandler.OfLong() {
+			@Override
+			public void onMessage(long message) {
+				if (message % 2 == 0)
+					session.getAsyncRemote().sendNumber(message / 2);
+				else
+					session.getAsyncRemote().sendNumber(message / 4.0);
+			}
+		});
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
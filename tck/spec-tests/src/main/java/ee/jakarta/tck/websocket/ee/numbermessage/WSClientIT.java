@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.numbermessage;
+
+import java.io.IOException;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.DecodeException;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_numbermessage_web.war");
+		archive.addPackages(true,
+				Filters.exclude(WSClientIT.class, LongClientEndpoint.class, DoubleClientEndpoint.class),
+				"ee.jakarta.tck.websocket.ee.numbermessage");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_numbermessage_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: ofLongOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message holding a number is delivered to a
+	 * MessageHandler.OfLong of a server endpoint, and the number returned by
+	 * RemoteEndpoint.Basic.sendNumber(long) is received as text.
+	 */
+	@Test
+	public void ofLongOnServerTest() throws Exception {
+		invoke("oflong", "41", "42");
+	}
+
+	/*
+	 * @testName: ofLongMaxValueOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message holding a number that does not fit in an
+	 * int or a double without loss is delivered exactly to a
+	 * MessageHandler.OfLong of a server endpoint and sent exactly by
+	 * RemoteEndpoint.Basic.sendNumber(long).
+	 */
+	@Test
+	public void ofLongMaxValueOnServerTest() throws Exception {
+		invoke("oflong", String.valueOf(Long.MAX_VALUE - 1), String.valueOf(Long.MAX_VALUE));
+	}
+
+	/*
+	 * @testName: ofLongNotANumberOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message that does not hold a number is not
+	 * delivered to a MessageHandler.OfLong of a server endpoint and a
+	 * DecodeException is passed to the error handling method.
+	 */
+	@Test
+	public void ofLongNotANumberOnServerTest() throws Exception {
+		invoke("oflong", "forty-one", DecodeException.class.getName());
+	}
+
+	/*
+	 * @testName: ofDoubleOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message holding a number is delivered to a
+	 * MessageHandler.OfDouble of a server endpoint, and the number returned by
+	 * RemoteEndpoint.Basic.sendNumber(double) is received in the form of
+	 * Double.toString(double).
+	 */
+	@Test
+	public void ofDoubleOnServerTest() throws Exception {
+		invoke("ofdouble", "1.25", Double.toString(2.5));
+	}
+
+	/*
+	 * @testName: sendNumberAsyncOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The number sent by
+	 * RemoteEndpoint.Async.sendNumber(double, SendHandler) is received in the
+	 * form of Double.toString(double).
+	 */
+	@Test
+	public void sendNumberAsyncOnServerTest() throws Exception {
+		invoke("asyncnumber", "10", Double.toString(2.5));
+	}
+
+	/*
+	 * @testName: sendNumberFutureLongOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A number sent by a server endpoint with
+	 * RemoteEndpoint.Async.sendNumber(long) is received in the form of
+	 * Long.toString(long).
+	 */
+	@Test
+	public void sendNumberFutureLongOnServerTest() throws Exception {
+		invoke("asyncnumberfuture", "-84", Long.toString(-42));
+	}
+
+	/*
+	 * @testName: sendNumberFutureDoubleOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A number sent by a server endpoint with
+	 * RemoteEndpoint.Async.sendNumber(double) is received in the form of
+	 * Double.toString(double).
+	 */
+	@Test
+	public void sendNumberFutureDoubleOnServerTest() throws Exception {
+		invoke("asyncnumberfuture", "9", Double.toString(2.25));
+	}
+
+	/*
+	 * @testName: ofLongOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message holding a number is delivered to
+	 * onMessage(long) of a MessageHandler.OfLong of a client endpoint.
+	 */
+	@Test
+	public void ofLongOnClientTest() throws Exception {
+		setClientEndpoint(LongClientEndpoint.class);
+		invoke("echo", String.valueOf(Long.MIN_VALUE), LongClientEndpoint.PRIMITIVE + Long.MIN_VALUE);
+	}
+
+	/*
+	 * @testName: ofDoubleOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A text message holding a number is delivered to
+	 * onMessage(double) of a MessageHandler.OfDouble of a client endpoint.
+	 */
+	@Test
+	public void ofDoubleOnClientTest() throws Exception {
+		setClientEndpoint(DoubleClientEndpoint.class);
+		invoke("echo", "-0.125", DoubleClientEndpoint.PRIMITIVE + (-0.125));
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.pooledbinary;
+
+import java.nio.ByteBuffer;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.PooledBinary;
+
+/**
+ * Checks the PooledBinary messages delivered to an endpoint. The payload of
+ * each message names what is done with it; a message that is kept beyond its
+ * callback is checked when the next message, or {@link #finish()}, comes.
+ */
+public class PooledBinaryChecker {
+
+	static final String[] RESPONSE = { "OK", "FAIL" };
+
+	/** the payload is read, the view is read-only and views are independent */
+	static final String READ = "read";
+
+	/** the message is released by the application during the callback */
+	static final String RELEASE = "release";
+
+	/** the message is kept without retain() and must be released */
+	static final String CALLBACK = "callback";
+
+	/** the message is retained and must stay valid until released */
+	static final String RETAIN = "retain";
+
+	/** ends the sequence of messages */
+	static final String CHECK = "check";
+
+	private PooledBinary kept = null;
+
+	private String keptPayload = null;
+
+	private String failure = null;
+
+	public void onMessage(PooledBinary message) {
+		checkKept();
+		String payload = read(message);
+		switch (payload) {
+		case RELEASE:
+			message.release();
+			checkReleased(message, payload);
+			// releasing twice has no effect
+			message.release();
+			break;
+		case RETAIN:
+			message.retain();
+			// fall through
+		case CALLBACK:
+			kept = message;
+			keptPayload = payload;
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * @return {@link #RESPONSE}[0] or the description of the first failure
+	 */
+	public String finish() {
+		checkKept();
+		return failure == null ? RESPONSE[0] : failure;
+	}
+
+	private void checkKept() {
+		if (kept == null)
+			return;
+		if (CALLBACK.equals(keptPayload)) {
+			checkReleased(kept, keptPayload);
+		} else {
+			if (kept.isReleased())
+				fail("Retained message " + keptPayload + " was released by the container");
+			else if (!keptPayload.equals(read(kept)))
+				fail("Retained message " + keptPayload + " was modified");
+			kept.release();
+			checkReleased(kept, keptPayload);
+		}
+		kept = null;
+	}
+
+	private String read(PooledBinary message) {
+		ByteBuffer view = message.getBuffer();
+		if (!view.isReadOnly())
+			fail("getBuffer() returned a writable buffer");
+		if (view.position() != 0 || view.remaining() != message.getPayloadLength())
+			fail("getBuffer() returned a view with position " + view.position() + " and " + view.remaining()
+					+ " remaining bytes for a payload of " + message.getPayloadLength() + " bytes");
+		// views are independent of each other
+		view.position(view.limit());
+		return IOUtil.byteBufferToString(message.getBuffer());
+	}
+
+	private void checkReleased(PooledBinary message, String payload) {
+		if (!message.isReleased())
+			fail("Message " + payload + " was not released");
+		try {
+			message.getBuffer();
+			fail("getBuffer() did not throw IllegalStateException on released message " + payload);
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		try {
+			message.retain();
+			fail("retain() did not throw IllegalStateException on released message " + payload);
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		if (message.getPayloadLength() != payload.length())
+			fail("getPayloadLength() returned " + message.getPayloadLength() + " on released message " + payload);
+	}
+
+	private void fail(String message) {
+		if (failure == null)
+			failure = message;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.pooledbinary;
+
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.CHECK;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.PooledBinary;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Checks the binary messages it receives as PooledBinary and replies to the
+ * text message {@link PooledBinaryChecker#CHECK} with the result. Any other
+ * text message is sent back as a binary message followed by a binary
+ * {@link PooledBinaryChecker#CHECK}.
+ */
+@ServerEndpoint("/pooled")
+public class WSCPooledBinaryServer {
+
+	private final PooledBinaryChecker checker = new PooledBinaryChecker();
+
+	@OnMessage
+	public void onMessage(PooledBinary message) {
+		checker.onMessage(message);
+	}
+
+	@OnMessage
+	public void onMessage(String msg, Session session) throws IOException {
+		if (CHECK.equals(msg)) {
+			session.getBasicRemote().sendText(checker.finish());
+		} else {
+			session.getBasicRemote().sendBinary(ByteBuffer.wrap(msg.getBytes()));
+			session.getBasicRemote().sendBinary(ByteBuffer.wrap(CHECK.getBytes()));
+		}
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
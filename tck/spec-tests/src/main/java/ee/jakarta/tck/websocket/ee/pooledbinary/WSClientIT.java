@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.pooledbinary;
+
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.CALLBACK;
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.CHECK;
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.READ;
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.RELEASE;
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.RESPONSE;
+import static ee.jakarta.tck.websocket.ee.pooledbinary.PooledBinaryChecker.RETAIN;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.PooledBinary;
+import jakarta.websocket.Session;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_pooledbinary_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class, PooledBinaryClientEndpoint.class),
+				"ee.jakarta.tck.websocket.ee.pooledbinary");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_pooledbinary_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: pooledBinaryReadOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The payload of a PooledBinary is read from a read-only view
+	 * returned by getBuffer(), and each call to getBuffer() returns a new view.
+	 */
+	@Test
+	public void pooledBinaryReadOnServerTest() throws Exception {
+		sendOnServer(READ);
+	}
+
+	/*
+	 * @testName: pooledBinaryReadOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The payload of a PooledBinary is read from a read-only view
+	 * returned by getBuffer(), and each call to getBuffer() returns a new view.
+	 */
+	@Test
+	public void pooledBinaryReadOnClientTest() throws Exception {
+		receiveOnClient(READ);
+	}
+
+	/*
+	 * @testName: pooledBinaryReleaseOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary released by the application during the
+	 * callback is released, getBuffer() and retain() throw
+	 * IllegalStateException and a second release() has no effect.
+	 */
+	@Test
+	public void pooledBinaryReleaseOnServerTest() throws Exception {
+		sendOnServer(RELEASE);
+	}
+
+	/*
+	 * @testName: pooledBinaryReleaseOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary released by the application during the
+	 * callback is released, getBuffer() and retain() throw
+	 * IllegalStateException and a second release() has no effect.
+	 */
+	@Test
+	public void pooledBinaryReleaseOnClientTest() throws Exception {
+		receiveOnClient(RELEASE);
+	}
+
+	/*
+	 * @testName: pooledBinaryCallbackOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary that is not retained is released by the
+	 * container when the callback returns, after which getBuffer() and retain()
+	 * throw IllegalStateException.
+	 */
+	@Test
+	public void pooledBinaryCallbackOnServerTest() throws Exception {
+		sendOnServer(CALLBACK);
+	}
+
+	/*
+	 * @testName: pooledBinaryCallbackOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary that is not retained is released by the
+	 * container when the callback returns, after which getBuffer() and retain()
+	 * throw IllegalStateException.
+	 */
+	@Test
+	public void pooledBinaryCallbackOnClientTest() throws Exception {
+		receiveOnClient(CALLBACK);
+	}
+
+	/*
+	 * @testName: pooledBinaryRetainOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary retained during the callback is still valid
+	 * when the next message is delivered, and once released getBuffer() and
+	 * retain() throw IllegalStateException.
+	 */
+	@Test
+	public void pooledBinaryRetainOnServerTest() throws Exception {
+		sendOnServer(RETAIN);
+	}
+
+	/*
+	 * @testName: pooledBinaryRetainOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PooledBinary retained during the callback is still valid
+	 * when the next message is delivered, and once released getBuffer() and
+	 * retain() throw IllegalStateException.
+	 */
+	@Test
+	public void pooledBinaryRetainOnClientTest() throws Exception {
+		receiveOnClient(RETAIN);
+	}
+
+	// /////////////////////////////////////////////////////////////////////////
+	private void sendOnServer(final String op) throws Exception {
+		setClientCallback(new EndpointCallback() {
+			@Override
+			public void onOpen(Session session, EndpointConfig config) {
+				try {
+					session.getBasicRemote().sendBinary(ByteBuffer.wrap(op.getBytes()));
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		invoke("pooled", CHECK, RESPONSE[0]);
+	}
+
+	private void receiveOnClient(String op) throws Exception {
+		final PooledBinaryChecker checker = new PooledBinaryChecker();
+		setClientCallback(new EndpointCallback() {
+			@Override
+			public void onMessage(Object o) {
+				checker.onMessage((PooledBinary) o);
+			}
+		});
+		setClientEndpoint(PooledBinaryClientEndpoint.class);
+		setCountDownLatchCount(2);
+		invoke("pooled", op, op + CHECK);
+		assertEquals(RESPONSE[0], checker.finish(), "PooledBinary", op, "did not endup as expected");
+		logMsg("PooledBinary", op, "works as expected");
+	}
+}
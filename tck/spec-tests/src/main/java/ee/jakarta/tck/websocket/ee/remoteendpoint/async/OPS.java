@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,9 +17,12 @@
 package ee.jakarta.tck.websocket.ee.remoteendpoint.async;
 
 public enum OPS {
-	POKE, TIMEOUT, //
+	POKE, TIMEOUT, WATERMARKS, WATERMARKSTHROWS, BUFFEREDAMOUNT, //
 	SENDBINARY, SENDBINARYTHROWS, SENDBINARYEXECUTIONEXCEPTION, //
 	SENDBINARYHANDLER, SENDBINARYHANDLERTHROWSONDATA, SENDBINARYHANDLERTHROWSONHANDLER, //
+	SENDBINARYGATHER, SENDBINARYGATHERTHROWS, //
+	SENDBINARYGATHERHANDLER, SENDBINARYGATHERHANDLERTHROWSONDATA, SENDBINARYGATHERHANDLERTHROWSONHANDLER, //
+	SENDBINARYFILE, SENDBINARYFILEHANDLER, SENDBINARYFILETHROWS, SENDBINARYFILERANGETHROWS, //
 	SENDOBJECT, SENDOBJECTTHROWS, SENDOBJECTEXECUTIONEXCEPTION, //
 	SENDOBJECTHANDLER, SENDOBJECTHANDLERTHROWSONDATA, SENDOBJECTHANDLERTHROWSONHANDLER,
 	SENDOBJECTHANDLEREXECUTIONEXCEPTION, //
@@ -27,6 +30,11 @@ public enum OPS {
 	SENDOBJECT_FLOAT, SENDOBJECT_DOUBLE, SENDOBJECT_BOOL, SENDOBJECT_CHAR, //
 	SENDTEXT, SENDTEXTTHROWS, //
 	SENDTEXTHANDLER, SENDTEXTHANDLERTHROWSONDATA, SENDTEXTHANDLERTHROWSONHANDLER, //
-	BATCHING_ALLOWED, SEND_PING, SEND_PONG, SEND_PING_THROWS, SEND_PONG_THROWS, //
+	SENDTEXTCHARSEQUENCE, SENDTEXTCHARSEQUENCEHANDLER, SENDTEXTCHARSEQUENCETHROWS, //
+	SENDTEXTUTF8, SENDTEXTUTF8VALIDATED, SENDTEXTUTF8HANDLER, SENDTEXTUTF8THROWS, SENDTEXTUTF8INVALID, //
+	SENDTEXTASYNC, SENDTEXTASYNCTHROWS, SENDBINARYASYNC, SENDBINARYASYNCTHROWS, SENDBINARYGATHERASYNC, //
+	SENDOBJECTASYNC, SENDOBJECTASYNCTHROWS, SENDOBJECTASYNCEXCEPTION, //
+	BATCHING_ALLOWED, BATCHFLUSHPOLICY, BATCHFLUSHDELAY, BATCHFLUSHMESSAGES, BATCHFLUSHBYTES, //
+	BATCHFLUSHENDOFDISPATCH, SEND_PING, SEND_PONG, SEND_PING_THROWS, SEND_PONG_THROWS, //
 	IDLE /* let ping make no idle timeout */, PING_4_TIMES, PONG_4_TIMES
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -65,6 +65,10 @@ public class PokingEndpointCallback extends SendMessageCallback {
 		switch (ops) {
 		case SENDBINARY:
 		case SENDBINARYHANDLER:
+		case SENDBINARYGATHER:
+		case SENDBINARYGATHERHANDLER:
+		case SENDBINARYFILE:
+		case SENDBINARYFILEHANDLER:
 		case SENDOBJECT:
 		case SENDOBJECT_BOOL:
 		case SENDOBJECT_BYTE:
@@ -77,7 +81,21 @@ public class PokingEndpointCallback extends SendMessageCallback {
 		case SENDOBJECTHANDLER:
 		case SENDTEXT:
 		case SENDTEXTHANDLER:
+		case SENDTEXTCHARSEQUENCE:
+		case SENDTEXTCHARSEQUENCEHANDLER:
+		case SENDTEXTUTF8:
+		case SENDTEXTUTF8VALIDATED:
+		case SENDTEXTUTF8HANDLER:
+		case SENDTEXTASYNC:
+		case BUFFEREDAMOUNT:
+		case SENDBINARYASYNC:
+		case SENDBINARYGATHERASYNC:
+		case SENDOBJECTASYNC:
 		case BATCHING_ALLOWED:
+		case BATCHFLUSHDELAY:
+		case BATCHFLUSHMESSAGES:
+		case BATCHFLUSHBYTES:
+		case BATCHFLUSHENDOFDISPATCH:
 		case SEND_PONG:
 			if (pokeCnt++ <= pokeMax)
 				session.getBasicRemote().sendText(OPS.POKE.name());
@@ -88,6 +106,12 @@ public class PokingEndpointCallback extends SendMessageCallback {
 		case SENDBINARYHANDLERTHROWSONDATA:
 		case SENDBINARYHANDLERTHROWSONHANDLER:
 			//
+		case SENDBINARYGATHERTHROWS:
+		case SENDBINARYGATHERHANDLERTHROWSONDATA:
+		case SENDBINARYGATHERHANDLERTHROWSONHANDLER:
+		case SENDBINARYFILETHROWS:
+		case SENDBINARYFILERANGETHROWS:
+			//
 		case SENDOBJECTHANDLEREXECUTIONEXCEPTION:
 		case SENDOBJECTHANDLERTHROWSONDATA:
 		case SENDOBJECTHANDLERTHROWSONHANDLER:
@@ -99,9 +123,20 @@ public class PokingEndpointCallback extends SendMessageCallback {
 			//
 		case SENDTEXTHANDLERTHROWSONDATA:
 		case SENDTEXTHANDLERTHROWSONHANDLER:
+		case SENDTEXTCHARSEQUENCETHROWS:
+		case SENDTEXTUTF8THROWS:
+		case SENDTEXTUTF8INVALID:
+			//
+		case SENDTEXTASYNCTHROWS:
+		case SENDBINARYASYNCTHROWS:
+		case SENDOBJECTASYNCTHROWS:
+		case SENDOBJECTASYNCEXCEPTION:
 			//
 		case POKE:
 		case TIMEOUT:
+		case WATERMARKS:
+		case WATERMARKSTHROWS:
+		case BATCHFLUSHPOLICY:
 			//
 		case SEND_PING:
 		case SEND_PING_THROWS:
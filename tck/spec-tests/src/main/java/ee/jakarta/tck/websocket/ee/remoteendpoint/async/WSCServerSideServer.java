@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,12 +20,23 @@ package ee.jakarta.tck.websocket.ee.remoteendpoint.async;
 import java.io.IOException;
 import java.lang.System.Logger;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import ee.jakarta.tck.websocket.common.impl.ReleasableCharSequence;
 import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
 import ee.jakarta.tck.websocket.common.stringbean.StringBean;
 import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
 import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.BatchFlushPolicy;
 import jakarta.websocket.OnError;
 import jakarta.websocket.OnMessage;
 import jakarta.websocket.PongMessage;
@@ -43,6 +54,14 @@ public class WSCServerSideServer {
 
 	static final long SECONDS = 10;
 
+	static final long BATCH_DELAY_MICROS = 200_000L;
+
+	static final long BATCH_TOLERANCE_MILLIS = 2_000L;
+
+	static final long RELEASE_WAIT_MILLIS = 500L;
+
+	static final String FILE_PADDING = "padding";
+
 	@OnMessage
 	public String onMessage(PongMessage pong) {
 		return IOUtil.byteBufferToString(pong.getApplicationData());
@@ -59,6 +78,15 @@ public class WSCServerSideServer {
 		case TIMEOUT:
 			msg = timeout(asyncRemote);
 			break;
+		case WATERMARKS:
+			msg = watermarks(asyncRemote);
+			break;
+		case WATERMARKSTHROWS:
+			msg = watermarksThrows(asyncRemote);
+			break;
+		case BUFFEREDAMOUNT:
+			msg = bufferedAmount(asyncRemote);
+			break;
 		case SENDBINARY:
 			msg = sendBinary(asyncRemote);
 			break;
@@ -74,6 +102,33 @@ public class WSCServerSideServer {
 		case SENDBINARYHANDLERTHROWSONHANDLER:
 			msg = sendBinaryWithHandlerThrowsOnHandler(asyncRemote);
 			break;
+		case SENDBINARYGATHER:
+			msg = sendBinaryGather(asyncRemote);
+			break;
+		case SENDBINARYGATHERTHROWS:
+			msg = sendBinaryGatherThrows(asyncRemote);
+			break;
+		case SENDBINARYGATHERHANDLER:
+			msg = sendBinaryGatherWithHandler(asyncRemote);
+			break;
+		case SENDBINARYGATHERHANDLERTHROWSONDATA:
+			msg = sendBinaryGatherWithHandlerThrowsOnData(asyncRemote);
+			break;
+		case SENDBINARYGATHERHANDLERTHROWSONHANDLER:
+			msg = sendBinaryGatherWithHandlerThrowsOnHandler(asyncRemote);
+			break;
+		case SENDBINARYFILE:
+			msg = sendBinaryFile(asyncRemote);
+			break;
+		case SENDBINARYFILEHANDLER:
+			msg = sendBinaryFileWithHandler(asyncRemote);
+			break;
+		case SENDBINARYFILETHROWS:
+			msg = sendBinaryFileThrows(asyncRemote);
+			break;
+		case SENDBINARYFILERANGETHROWS:
+			msg = sendBinaryFileRangeThrows(asyncRemote);
+			break;
 		case SENDOBJECT:
 			msg = sendObject(asyncRemote);
 			break;
@@ -128,9 +183,69 @@ public class WSCServerSideServer {
 		case SENDTEXTHANDLERTHROWSONHANDLER:
 			msg = sendTextWithHandlerThrowsOnHandler(asyncRemote);
 			break;
+		case SENDTEXTCHARSEQUENCE:
+			msg = sendTextCharSequence(asyncRemote);
+			break;
+		case SENDTEXTCHARSEQUENCEHANDLER:
+			msg = sendTextCharSequenceWithHandler(asyncRemote);
+			break;
+		case SENDTEXTCHARSEQUENCETHROWS:
+			msg = sendTextCharSequenceThrows(asyncRemote);
+			break;
+		case SENDTEXTUTF8:
+			msg = sendTextUtf8(asyncRemote);
+			break;
+		case SENDTEXTUTF8VALIDATED:
+			msg = sendTextUtf8Validated(asyncRemote);
+			break;
+		case SENDTEXTUTF8HANDLER:
+			msg = sendTextUtf8WithHandler(asyncRemote);
+			break;
+		case SENDTEXTUTF8THROWS:
+			msg = sendTextUtf8Throws(asyncRemote);
+			break;
+		case SENDTEXTUTF8INVALID:
+			msg = sendTextUtf8Invalid(asyncRemote);
+			break;
+		case SENDTEXTASYNC:
+			msg = sendTextAsync(asyncRemote);
+			break;
+		case SENDTEXTASYNCTHROWS:
+			msg = sendTextAsyncThrows(asyncRemote);
+			break;
+		case SENDBINARYASYNC:
+			msg = sendBinaryAsync(asyncRemote);
+			break;
+		case SENDBINARYASYNCTHROWS:
+			msg = sendBinaryAsyncThrows(asyncRemote);
+			break;
+		case SENDBINARYGATHERASYNC:
+			msg = sendBinaryGatherAsync(asyncRemote);
+			break;
+		case SENDOBJECTASYNC:
+			msg = sendObjectAsync(asyncRemote);
+			break;
+		case SENDOBJECTASYNCTHROWS:
+			msg = sendObjectAsyncThrows(asyncRemote);
+			break;
 		case BATCHING_ALLOWED:
 			msg = batchingAllowed(asyncRemote);
 			break;
+		case BATCHFLUSHPOLICY:
+			msg = batchFlushPolicy(asyncRemote);
+			break;
+		case BATCHFLUSHDELAY:
+			msg = batchFlushDelay(asyncRemote);
+			break;
+		case BATCHFLUSHMESSAGES:
+			msg = batchFlushMessages(asyncRemote);
+			break;
+		case BATCHFLUSHBYTES:
+			msg = batchFlushBytes(asyncRemote);
+			break;
+		case BATCHFLUSHENDOFDISPATCH:
+			msg = batchFlushAtEndOfDispatch(asyncRemote);
+			break;
 		case SEND_PING:
 			msg = sendPing(asyncRemote);
 			break;
@@ -182,6 +297,51 @@ public class WSCServerSideServer {
 		return set ? RESPONSE[0] : RESPONSE[1];
 	}
 
+	protected static String watermarks(Async asyncRemote) {
+		boolean set = true;
+		asyncRemote.setBufferedAmountWatermarks(1024L, 4096L);
+		set &= (1024L == asyncRemote.getBufferedAmountLowWatermark());
+		set &= (4096L == asyncRemote.getBufferedAmountHighWatermark());
+		asyncRemote.setBufferedAmountWatermarks(0L, 0L);
+		set &= (0L == asyncRemote.getBufferedAmountLowWatermark());
+		set &= (0L == asyncRemote.getBufferedAmountHighWatermark());
+		return set ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	protected static String watermarksThrows(Async asyncRemote) {
+		try {
+			asyncRemote.setBufferedAmountWatermarks(-1L, 4096L);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			// expected, low is negative
+		}
+		try {
+			asyncRemote.setBufferedAmountWatermarks(4096L, 1024L);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	/**
+	 * Nothing else is being sent, so once the send is complete there is nothing
+	 * left buffered and the remote endpoint has to be writable whatever the
+	 * default watermarks are
+	 */
+	protected static String bufferedAmount(Async asyncRemote) {
+		asyncRemote.setWritabilityListener(writable -> logger.log(Logger.Level.INFO, "writable: " + writable));
+		Future<Void> future = asyncRemote.sendText(OPS.BUFFEREDAMOUNT.name());
+		try {
+			future.get();
+			boolean drained = asyncRemote.getBufferedAmount() == 0L && asyncRemote.isWritable();
+			asyncRemote.setWritabilityListener(null);
+			return drained ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
 	/**
 	 * Again, since the asynchronous thread sends message in virtually no time, one
 	 * does not have any force to hold that send operation in its thread, to check
@@ -236,6 +396,130 @@ public class WSCServerSideServer {
 		}
 	}
 
+	/**
+	 * Splits the name of the operation over several buffers, including an empty
+	 * one, so that the peer only sees the name when they are sent as one message
+	 * in array order
+	 */
+	protected static ByteBuffer[] gather(OPS op) {
+		byte[] bytes = op.name().getBytes();
+		int half = bytes.length / 2;
+		return new ByteBuffer[] { ByteBuffer.wrap(bytes, 0, half), ByteBuffer.allocate(0),
+				ByteBuffer.wrap(bytes, half, bytes.length - half) };
+	}
+
+	protected static boolean isConsumed(ByteBuffer[] data) {
+		for (ByteBuffer buffer : data)
+			if (buffer.hasRemaining())
+				return false;
+		return true;
+	}
+
+	protected static String sendBinaryGather(Async asyncRemote) {
+		ByteBuffer[] data = gather(OPS.SENDBINARYGATHER);
+		Future<Void> future = asyncRemote.sendBinary(data);
+		try {
+			Void v = future.get();
+			return v == null && isConsumed(data) ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryGatherThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendBinary((ByteBuffer[]) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendBinaryGatherWithHandler(Async asyncRemote) {
+		WaitingSendHandler handler = new WaitingSendHandler();
+		ByteBuffer[] data = gather(OPS.SENDBINARYGATHERHANDLER);
+		asyncRemote.sendBinary(data, handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		return result.isOK() && isConsumed(data) ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	protected static String sendBinaryGatherWithHandlerThrowsOnData(Async asyncRemote) {
+		try {
+			ByteBuffer[] data = { ByteBuffer.wrap(OPS.SENDBINARYGATHERHANDLERTHROWSONDATA.name().getBytes()), null };
+			asyncRemote.sendBinary(data, new WaitingSendHandler());
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendBinaryGatherWithHandlerThrowsOnHandler(Async asyncRemote) {
+		try {
+			asyncRemote.sendBinary(gather(OPS.SENDBINARYGATHERHANDLERTHROWSONHANDLER), (WaitingSendHandler) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	/**
+	 * Writes the name of the operation between padding into a temporary file,
+	 * so that the peer only sees the name when exactly the region holding it is
+	 * sent
+	 */
+	protected static Path file(OPS op) throws IOException {
+		Path file = Files.createTempFile(op.name(), ".bin");
+		file.toFile().deleteOnExit();
+		Files.write(file, (FILE_PADDING + op.name() + FILE_PADDING).getBytes());
+		return file;
+	}
+
+	protected static String sendBinaryFile(Async asyncRemote) {
+		try (FileChannel channel = FileChannel.open(file(OPS.SENDBINARYFILE), StandardOpenOption.READ)) {
+			Future<Void> future = asyncRemote.sendBinary(channel, FILE_PADDING.length(),
+					OPS.SENDBINARYFILE.name().length());
+			Void v = future.get();
+			return v == null && channel.position() == 0 && channel.isOpen() ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryFileWithHandler(Async asyncRemote) {
+		try (FileChannel channel = FileChannel.open(file(OPS.SENDBINARYFILEHANDLER), StandardOpenOption.READ)) {
+			WaitingSendHandler handler = new WaitingSendHandler();
+			asyncRemote.sendBinary(channel, FILE_PADDING.length(), OPS.SENDBINARYFILEHANDLER.name().length(), handler);
+			SendResult result = handler.waitForResult(SECONDS);
+			return result.isOK() && channel.position() == 0 && channel.isOpen() ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryFileThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendBinary((FileChannel) null, 0, 0);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendBinaryFileRangeThrows(Async asyncRemote) {
+		try (FileChannel channel = FileChannel.open(file(OPS.SENDBINARYFILERANGETHROWS), StandardOpenOption.READ)) {
+			asyncRemote.sendBinary(channel, FILE_PADDING.length(), channel.size(), new WaitingSendHandler());
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
 	protected static String sendObject(Async asyncRemote) {
 		Future<Void> future = asyncRemote.sendObject(new StringBean(OPS.SENDOBJECT.name()));
 		try {
@@ -364,6 +648,173 @@ public class WSCServerSideServer {
 		}
 	}
 
+	/**
+	 * Releases the text once its send has completed and gives the container
+	 * time to read it again, which it must not do
+	 */
+	protected static String release(ReleasableCharSequence text) throws InterruptedException {
+		text.release();
+		Thread.sleep(RELEASE_WAIT_MILLIS);
+		return text.isReadAfterRelease() ? RESPONSE[1] : RESPONSE[0];
+	}
+
+	protected static String sendTextCharSequence(Async asyncRemote) {
+		ReleasableCharSequence text = new ReleasableCharSequence(OPS.SENDTEXTCHARSEQUENCE.name());
+		Future<Void> future = asyncRemote.sendText(text);
+		try {
+			Void v = future.get();
+			return v == null ? release(text) : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextCharSequenceWithHandler(Async asyncRemote) {
+		WaitingSendHandler handler = new WaitingSendHandler();
+		ReleasableCharSequence text = new ReleasableCharSequence(OPS.SENDTEXTCHARSEQUENCEHANDLER.name());
+		asyncRemote.sendText(text, handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		try {
+			return result.isOK() ? release(text) : RESPONSE[1];
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextCharSequenceThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendText((CharSequence) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static ByteBuffer utf8(OPS op) {
+		return ByteBuffer.wrap(op.name().getBytes(StandardCharsets.UTF_8));
+	}
+
+	protected static String sendTextUtf8(Async asyncRemote) {
+		ByteBuffer data = utf8(OPS.SENDTEXTUTF8);
+		Future<Void> future = asyncRemote.sendTextUtf8(data);
+		try {
+			Void v = future.get();
+			return v == null && !data.hasRemaining() ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextUtf8Validated(Async asyncRemote) {
+		ByteBuffer data = utf8(OPS.SENDTEXTUTF8VALIDATED);
+		Future<Void> future = asyncRemote.sendTextUtf8(data, true);
+		try {
+			Void v = future.get();
+			return v == null && !data.hasRemaining() ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextUtf8WithHandler(Async asyncRemote) {
+		WaitingSendHandler handler = new WaitingSendHandler();
+		ByteBuffer data = utf8(OPS.SENDTEXTUTF8HANDLER);
+		asyncRemote.sendTextUtf8(data, false, handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		return result.isOK() && !data.hasRemaining() ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	protected static String sendTextUtf8Throws(Async asyncRemote) {
+		try {
+			asyncRemote.sendTextUtf8((ByteBuffer) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	/**
+	 * Sends a truncated two byte sequence followed by an ASCII character, which
+	 * is not well-formed UTF-8, so the send must fail without sending anything
+	 */
+	protected static String sendTextUtf8Invalid(Async asyncRemote) {
+		WaitingSendHandler handler = new WaitingSendHandler();
+		asyncRemote.sendTextUtf8(ByteBuffer.wrap(new byte[] { (byte) 0xC3, (byte) 0x28 }), handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		return !result.isOK() && result.getException() instanceof CharacterCodingException ? RESPONSE[0]
+				: RESPONSE[1];
+	}
+
+	/**
+	 * Waits for the stage using only CompletionStage methods, as an
+	 * implementation is free not to support toCompletableFuture()
+	 */
+	protected static String waitForStage(CompletionStage<Void> stage) {
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		stage.whenComplete((v, t) -> {
+			if (t == null)
+				done.complete(v);
+			else
+				done.completeExceptionally(t);
+		});
+		try {
+			Void v = done.get(SECONDS, TimeUnit.SECONDS);
+			return v == null ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextAsync(Async asyncRemote) {
+		return waitForStage(asyncRemote.sendTextAsync(OPS.SENDTEXTASYNC.name()));
+	}
+
+	protected static String sendTextAsyncThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendTextAsync(null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendBinaryAsync(Async asyncRemote) {
+		return waitForStage(asyncRemote.sendBinaryAsync(ByteBuffer.wrap(OPS.SENDBINARYASYNC.name().getBytes())));
+	}
+
+	protected static String sendBinaryAsyncThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendBinaryAsync((ByteBuffer) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendBinaryGatherAsync(Async asyncRemote) {
+		ByteBuffer[] data = gather(OPS.SENDBINARYGATHERASYNC);
+		String ret = waitForStage(asyncRemote.sendBinaryAsync(data));
+		return RESPONSE[0].equals(ret) && !isConsumed(data) ? RESPONSE[1] : ret;
+	}
+
+	protected static String sendObjectAsync(Async asyncRemote) {
+		return waitForStage(asyncRemote.sendObjectAsync(new StringBean(OPS.SENDOBJECTASYNC.name())));
+	}
+
+	protected static String sendObjectAsyncThrows(Async asyncRemote) {
+		try {
+			asyncRemote.sendObjectAsync(null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
 	protected static String batchingAllowed(Async asyncRemote) {
 		try {
 			boolean allowed = asyncRemote.getBatchingAllowed();
@@ -384,6 +835,81 @@ public class WSCServerSideServer {
 		}
 	}
 
+	protected static String batchFlushPolicy(Async asyncRemote) {
+		BatchFlushPolicy initial = asyncRemote.getBatchFlushPolicy();
+		if (!BatchFlushPolicy.EXPLICIT.equals(initial))
+			return "Initial BatchFlushPolicy is " + initial;
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxMessages(8).maxDelayMicros(BATCH_DELAY_MICROS)
+				.build();
+		asyncRemote.setBatchFlushPolicy(policy);
+		boolean set = policy.equals(asyncRemote.getBatchFlushPolicy());
+		asyncRemote.setBatchFlushPolicy(null);
+		set &= BatchFlushPolicy.EXPLICIT.equals(asyncRemote.getBatchFlushPolicy());
+		return set ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	protected static String batchFlushDelay(Async asyncRemote) {
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxDelayMicros(BATCH_DELAY_MICROS).build();
+		return batchFlush(asyncRemote, OPS.BATCHFLUSHDELAY, policy, TimeUnit.MICROSECONDS.toMillis(BATCH_DELAY_MICROS));
+	}
+
+	protected static String batchFlushMessages(Async asyncRemote) {
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create().maxMessages(1).build();
+		return batchFlush(asyncRemote, OPS.BATCHFLUSHMESSAGES, policy, 0L);
+	}
+
+	protected static String batchFlushBytes(Async asyncRemote) {
+		BatchFlushPolicy policy = BatchFlushPolicy.Builder.create()
+				.maxBytes(OPS.BATCHFLUSHBYTES.name().getBytes().length).build();
+		return batchFlush(asyncRemote, OPS.BATCHFLUSHBYTES, policy, 0L);
+	}
+
+	/**
+	 * Batches the name of the operation under the given policy without calling
+	 * flushBatch and checks that the batch has been sent, that is nothing is
+	 * left buffered, no later than the ceiling plus some tolerance for the
+	 * transmission. If batching is not supported, the message is sent at once.
+	 */
+	private static String batchFlush(Async asyncRemote, OPS op, BatchFlushPolicy policy, long ceilingMillis) {
+		try {
+			boolean allowed = asyncRemote.getBatchingAllowed();
+			BatchFlushPolicy initial = asyncRemote.getBatchFlushPolicy();
+			asyncRemote.setBatchFlushPolicy(policy);
+			asyncRemote.setBatchingAllowed(true);
+			long start = System.nanoTime();
+			asyncRemote.sendText(op.name()).get(SECONDS, TimeUnit.SECONDS);
+			long deadline = start + TimeUnit.MILLISECONDS.toNanos(ceilingMillis + BATCH_TOLERANCE_MILLIS);
+			while (asyncRemote.getBufferedAmount() != 0L && System.nanoTime() < deadline)
+				TimeUnit.MILLISECONDS.sleep(1L);
+			boolean sent = asyncRemote.getBufferedAmount() == 0L;
+			long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			// Restore only now, disabling batching would send the batch
+			asyncRemote.setBatchFlushPolicy(initial);
+			asyncRemote.setBatchingAllowed(allowed);
+			return sent ? RESPONSE[0] : "Batch still not sent " + elapsed + " ms after " + op + " was batched";
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	/**
+	 * Batching is left allowed, so each later message dispatched on this
+	 * session, including the POKE, has its reply sent at the end of the
+	 * dispatch
+	 */
+	protected static String batchFlushAtEndOfDispatch(Async asyncRemote) {
+		try {
+			asyncRemote.setBatchFlushPolicy(BatchFlushPolicy.Builder.create().flushAtEndOfDispatch(true).build());
+			asyncRemote.setBatchingAllowed(true);
+			asyncRemote.sendText(OPS.BATCHFLUSHENDOFDISPATCH.name()).get(SECONDS, TimeUnit.SECONDS);
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
 	protected static String sendPing(Async asyncRemote) {
 		try {
 			asyncRemote.sendPing(ByteBuffer.wrap(OPS.SEND_PING.name().getBytes()));
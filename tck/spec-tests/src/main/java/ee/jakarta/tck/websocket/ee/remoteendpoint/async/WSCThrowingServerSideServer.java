@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,13 +20,17 @@ package ee.jakarta.tck.websocket.ee.remoteendpoint.async;
 import java.io.IOException;
 import java.lang.System.Logger;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
 import ee.jakarta.tck.websocket.common.stringbean.StringBean;
 import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
 import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.EncodeException;
 import jakarta.websocket.OnError;
 import jakarta.websocket.OnMessage;
 import jakarta.websocket.RemoteEndpoint.Async;
@@ -35,7 +39,7 @@ import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpoint;
 
 @ServerEndpoint(value = "/throwing", encoders = { ThrowingBinaryCoder.class, ThrowingTextCoder.class,
-		StringBeanTextEncoder.class, ThrowingStringBeanEncoder.class })
+		StringBeanTextEncoder.class, ThrowingStringBeanEncoder.class, UnencodableStringBeanEncoder.class })
 public class WSCThrowingServerSideServer {
 
 	private static final Logger logger = System.getLogger(WSCThrowingServerSideServer.class.getName());
@@ -56,6 +60,9 @@ public class WSCThrowingServerSideServer {
 		case SENDOBJECTHANDLEREXECUTIONEXCEPTION:
 			msg = sendObjectWithSendHandlerHasExecutionException(asyncRemote);
 			break;
+		case SENDOBJECTASYNCEXCEPTION:
+			msg = sendObjectAsyncCompletesExceptionally(asyncRemote);
+			break;
 		default:
 			throw new IllegalArgumentException("Method " + msg + " not implemented");
 		}
@@ -101,4 +108,20 @@ public class WSCThrowingServerSideServer {
 		SendResult result = handler.waitForResult(WSCServerSideServer.SECONDS);
 		return !result.isOK() && result.getException() != null ? RESPONSE[0] : RESPONSE[1];
 	}
+
+	public static String sendObjectAsyncCompletesExceptionally(Async asyncRemote) {
+		CompletableFuture<Throwable> failure = new CompletableFuture<>();
+		asyncRemote.sendObjectAsync(new UnencodableStringBean()).whenComplete((v, t) -> failure.complete(t));
+		try {
+			Throwable t = failure.get(WSCServerSideServer.SECONDS, TimeUnit.SECONDS);
+			if (t instanceof CompletionException && t.getCause() != null)
+				t = t.getCause();
+			if (t == null)
+				return RESPONSE[1];
+			return t instanceof EncodeException ? RESPONSE[0] : "Completed with " + IOUtil.printStackTrace(t);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
 }
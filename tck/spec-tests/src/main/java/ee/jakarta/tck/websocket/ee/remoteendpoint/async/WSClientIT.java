@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,6 +35,7 @@ import ee.jakarta.tck.websocket.common.client.BinaryAndTextClientEndpoint;
 import ee.jakarta.tck.websocket.common.client.ClientEndpoint;
 import ee.jakarta.tck.websocket.common.client.EndpointCallback;
 import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.impl.ReleasableCharSequence;
 import ee.jakarta.tck.websocket.common.impl.StringPingMessage;
 import ee.jakarta.tck.websocket.common.impl.StringPongMessage;
 import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
@@ -63,7 +64,7 @@ public class WSClientIT extends WebSocketCommonClient {
 		archive.addPackages(true, Filters.exclude(WSClientIT.class),
 				"ee.jakarta.tck.websocket.ee.remoteendpoint.async");
 		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
-		archive.addClasses(WaitingSendHandler.class);
+		archive.addClasses(WaitingSendHandler.class, ReleasableCharSequence.class);
 		archive.addClasses(IOUtil.class);
 		return archive;
 	};
@@ -116,6 +117,96 @@ public class WSClientIT extends WebSocketCommonClient {
 		invoke("client", ECHO, ECHO);
 	}
 
+	/*
+	 * @testName: bufferedAmountWatermarksOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: setBufferedAmountWatermarks and
+	 * getBufferedAmountLowWatermark, getBufferedAmountHighWatermark
+	 */
+	@Test
+	public void bufferedAmountWatermarksOnServerTest() throws Exception {
+		invoke("server", OPS.WATERMARKS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: bufferedAmountWatermarksOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: setBufferedAmountWatermarks and
+	 * getBufferedAmountLowWatermark, getBufferedAmountHighWatermark
+	 */
+	@Test
+	public void bufferedAmountWatermarksOnClientTest() throws Exception {
+		EndpointCallback callback = new AsyncEndpointCallback() {
+			@Override
+			void doAsync(Async asyncRemote) throws Exception {
+				String ret = WSCServerSideServer.watermarks(asyncRemote);
+				assertEquals(RESPONSE[0], ret, "getBufferedAmount*Watermark did not return what was set");
+				logMsg("setBufferedAmountWatermarks works as expected");
+				asyncRemote.sendText(WSClientIT.this.entity.getEntityAt(String.class, 0));
+			}
+		};
+		setClientCallback(callback);
+		invoke("client", ECHO, ECHO);
+	}
+
+	/*
+	 * @testName: bufferedAmountWatermarksThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if low is negative or
+	 * if high is less than low.
+	 */
+	@Test
+	public void bufferedAmountWatermarksThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.WATERMARKSTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: bufferedAmountWatermarksThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if low is negative or
+	 * if high is less than low.
+	 */
+	@Test
+	public void bufferedAmountWatermarksThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.WATERMARKSTHROWS);
+	}
+
+	/*
+	 * @testName: bufferedAmountOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Once the only message sent has been transmitted,
+	 * getBufferedAmount returns 0 and isWritable returns true. Setting and
+	 * removing a WritabilityListener does not fail.
+	 */
+	@Test
+	public void bufferedAmountOnServerTest() throws Exception {
+		sendOnServer(OPS.BUFFEREDAMOUNT);
+	}
+
+	/*
+	 * @testName: bufferedAmountOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Once the only message sent has been transmitted,
+	 * getBufferedAmount returns 0 and isWritable returns true. Setting and
+	 * removing a WritabilityListener does not fail.
+	 */
+	@Test
+	public void bufferedAmountOnClientTest() throws Exception {
+		sendOnClient(OPS.BUFFEREDAMOUNT);
+	}
+
 	/*
 	 * @testName: sendBinaryOnServerTest
 	 * 
@@ -267,6 +358,465 @@ public class WSClientIT extends WebSocketCommonClient {
 		sendOnClientThrows(OPS.SENDBINARYHANDLERTHROWSONHANDLER);
 	}
 
+	/*
+	 * @testName: sendBinaryGatherOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message
+	 * formed from several buffers. The peer receives a single message holding the
+	 * buffers in array order, the Future's get() method returns null and every
+	 * buffer is consumed upon successful completion.
+	 */
+	@Test
+	public void sendBinaryGatherOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYGATHER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message
+	 * formed from several buffers. The peer receives a single message holding the
+	 * buffers in array order, the Future's get() method returns null and every
+	 * buffer is consumed upon successful completion.
+	 */
+	@Test
+	public void sendBinaryGatherOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYGATHER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryGatherThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYGATHERTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryGatherThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYGATHERTHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message
+	 * formed from several buffers. The peer receives a single message holding the
+	 * buffers in array order, the SendHandler is notified with a successful
+	 * SendResult and every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYGATHERHANDLER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message
+	 * formed from several buffers. The peer receives a single message holding the
+	 * buffers in array order, the SendHandler is notified with a successful
+	 * SendResult and every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYGATHERHANDLER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerThrowsIAEOnServerWhenNullDataTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if any of the data
+	 * buffers is null.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerThrowsIAEOnServerWhenNullDataTest() throws Exception {
+		invoke("server", OPS.SENDBINARYGATHERHANDLERTHROWSONDATA.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerThrowsIAEOnServerWhenNullHandlerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerThrowsIAEOnServerWhenNullHandlerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYGATHERHANDLERTHROWSONHANDLER.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerThrowsIAEOnClientWhenNullDataTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if any of the data
+	 * buffers is null.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerThrowsIAEOnClientWhenNullDataTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYGATHERHANDLERTHROWSONDATA);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherWithHandlerThrowsIAEOnClientWhenNullHandlerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendBinaryGatherWithHandlerThrowsIAEOnClientWhenNullHandlerTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYGATHERHANDLERTHROWSONHANDLER);
+	}
+
+	/*
+	 * @testName: sendBinaryFileOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message read
+	 * from a region of a file. The Future's get() method returns null upon
+	 * successful completion, the peer receives exactly the region, and the
+	 * channel is neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYFILE);
+	}
+
+	/*
+	 * @testName: sendBinaryFileOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message read
+	 * from a region of a file. The Future's get() method returns null upon
+	 * successful completion, the peer receives exactly the region, and the
+	 * channel is neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYFILE);
+	}
+
+	/*
+	 * @testName: sendBinaryFileWithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message read
+	 * from a region of a file. The SendHandler is notified of the successful
+	 * completion, the peer receives exactly the region, and the channel is
+	 * neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileWithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYFILEHANDLER);
+	}
+
+	/*
+	 * @testName: sendBinaryFileWithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message read
+	 * from a region of a file. The SendHandler is notified of the successful
+	 * completion, the peer receives exactly the region, and the channel is
+	 * neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileWithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYFILEHANDLER);
+	}
+
+	/*
+	 * @testName: sendBinaryFileThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the channel is null.
+	 */
+	@Test
+	public void sendBinaryFileThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYFILETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryFileThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the channel is null.
+	 */
+	@Test
+	public void sendBinaryFileThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYFILETHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryFileRangeThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the region extends
+	 * beyond the current size of the channel.
+	 */
+	@Test
+	public void sendBinaryFileRangeThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYFILERANGETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryFileRangeThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the region extends
+	 * beyond the current size of the channel.
+	 */
+	@Test
+	public void sendBinaryFileRangeThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYFILERANGETHROWS);
+	}
+
+	/*
+	 * @testName: sendTextAsyncOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendTextAsyncOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTASYNC);
+	}
+
+	/*
+	 * @testName: sendTextAsyncOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendTextAsyncOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTASYNC);
+	}
+
+	/*
+	 * @testName: sendTextAsyncThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextAsyncThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTASYNCTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendTextAsyncThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextAsyncThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDTEXTASYNCTHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryAsyncOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendBinaryAsyncOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYASYNC);
+	}
+
+	/*
+	 * @testName: sendBinaryAsyncOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendBinaryAsyncOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYASYNC);
+	}
+
+	/*
+	 * @testName: sendBinaryAsyncThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryAsyncThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYASYNCTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryAsyncThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryAsyncThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYASYNCTHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherAsyncOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message formed from several buffers. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 * Every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherAsyncOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYGATHERASYNC);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherAsyncOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a binary message formed from several buffers. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 * Every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherAsyncOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYGATHERASYNC);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a custom developer object. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendObjectAsyncOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDOBJECTASYNC);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a custom developer object. The returned
+	 * CompletionStage completes normally with a null value once the message has
+	 * been transmitted and the peer receives it.
+	 */
+	@Test
+	public void sendObjectAsyncOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDOBJECTASYNC);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendObjectAsyncThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDOBJECTASYNCTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendObjectAsyncThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDOBJECTASYNCTHROWS);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncCompletesExceptionallyOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A failing encoder completes the returned CompletionStage
+	 * exceptionally with an EncodeException, possibly wrapped in a
+	 * CompletionException.
+	 */
+	@Test
+	public void sendObjectAsyncCompletesExceptionallyOnServerTest() throws Exception {
+		setClientEndpoint(BinaryAndTextClientEndpoint.class);
+		invoke("throwing", OPS.SENDOBJECTASYNCEXCEPTION.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendObjectAsyncCompletesExceptionallyOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A failing encoder completes the returned CompletionStage
+	 * exceptionally with an EncodeException, possibly wrapped in a
+	 * CompletionException.
+	 */
+	@Test
+	public void sendObjectAsyncCompletesExceptionallyOnClientTest() throws Exception {
+		sendOnClientHasExecutionException(OPS.SENDOBJECTASYNCEXCEPTION);
+	}
+
 	/*
 	 * @testName: sendObjectOnServerTest
 	 * 
@@ -807,6 +1357,208 @@ public class WSClientIT extends WebSocketCommonClient {
 		sendOnClientThrows(OPS.SENDTEXTHANDLERTHROWSONHANDLER);
 	}
 
+	/*
+	 * @testName: sendTextCharSequenceOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message read
+	 * from a CharSequence. The Future's get() method returns null upon successful
+	 * completion and the container does not read the sequence afterwards.
+	 */
+	@Test
+	public void sendTextCharSequenceOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTCHARSEQUENCE);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message read
+	 * from a CharSequence. The Future's get() method returns null upon successful
+	 * completion and the container does not read the sequence afterwards.
+	 */
+	@Test
+	public void sendTextCharSequenceOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTCHARSEQUENCE);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceWithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message read
+	 * from a CharSequence. The SendHandler is notified of the successful
+	 * completion and the container does not read the sequence afterwards.
+	 */
+	@Test
+	public void sendTextCharSequenceWithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTCHARSEQUENCEHANDLER);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceWithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message read
+	 * from a CharSequence. The SendHandler is notified of the successful
+	 * completion and the container does not read the sequence afterwards.
+	 */
+	@Test
+	public void sendTextCharSequenceWithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTCHARSEQUENCEHANDLER);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextCharSequenceThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTCHARSEQUENCETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextCharSequenceThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDTEXTCHARSEQUENCETHROWS);
+	}
+
+	/*
+	 * @testName: sendTextUtf8OnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes. The Future's get() method returns null upon successful
+	 * completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8OnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTUTF8);
+	}
+
+	/*
+	 * @testName: sendTextUtf8OnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes. The Future's get() method returns null upon successful
+	 * completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8OnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTUTF8);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ValidatedOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes the developer has already validated. The Future's get()
+	 * method returns null upon successful completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8ValidatedOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTUTF8VALIDATED);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ValidatedOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes the developer has already validated. The Future's get()
+	 * method returns null upon successful completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8ValidatedOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTUTF8VALIDATED);
+	}
+
+	/*
+	 * @testName: sendTextUtf8WithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes. The SendHandler is notified of the successful
+	 * completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8WithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTUTF8HANDLER);
+	}
+
+	/*
+	 * @testName: sendTextUtf8WithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Initiates the asynchronous transmission of a text message from
+	 * UTF-8 encoded bytes. The SendHandler is notified of the successful
+	 * completion and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8WithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTUTF8HANDLER);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendTextUtf8ThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTUTF8THROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendTextUtf8ThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDTEXTUTF8THROWS);
+	}
+
+	/*
+	 * @testName: sendTextUtf8InvalidOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Bytes that are not well-formed UTF-8 and have not been
+	 * validated by the developer are not sent. The SendHandler is notified of
+	 * the failure with a CharacterCodingException.
+	 */
+	@Test
+	public void sendTextUtf8InvalidOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTUTF8INVALID.name(), RESPONSE[0]);
+	}
+
 	// ------------------------------------------------------------------------
 	/*
 	 * @testName: batchingAllowedOnServerTest
@@ -834,6 +1586,140 @@ public class WSClientIT extends WebSocketCommonClient {
 		sendOnClient(OPS.BATCHING_ALLOWED);
 	}
 
+	/*
+	 * @testName: batchFlushPolicyOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The initial BatchFlushPolicy is EXPLICIT,
+	 * getBatchFlushPolicy returns the policy set by setBatchFlushPolicy and
+	 * setBatchFlushPolicy(null) selects EXPLICIT
+	 */
+	@Test
+	public void batchFlushPolicyOnServerTest() throws Exception {
+		invoke("server", OPS.BATCHFLUSHPOLICY.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: batchFlushPolicyOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The initial BatchFlushPolicy is EXPLICIT,
+	 * getBatchFlushPolicy returns the policy set by setBatchFlushPolicy and
+	 * setBatchFlushPolicy(null) selects EXPLICIT
+	 */
+	@Test
+	public void batchFlushPolicyOnClientTest() throws Exception {
+		EndpointCallback callback = new AsyncEndpointCallback() {
+			@Override
+			void doAsync(Async asyncRemote) throws Exception {
+				String ret = WSCServerSideServer.batchFlushPolicy(asyncRemote);
+				assertEquals(RESPONSE[0], ret, "getBatchFlushPolicy did not return what was set");
+				logMsg("setBatchFlushPolicy works as expected");
+				asyncRemote.sendText(WSClientIT.this.entity.getEntityAt(String.class, 0));
+			}
+		};
+		setClientCallback(callback);
+		invoke("client", ECHO, ECHO);
+	}
+
+	/*
+	 * @testName: batchFlushDelayOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy with
+	 * a maximum delay, a message is sent without flushBatch being called and
+	 * is not held in the batch longer than the maximum delay
+	 */
+	@Test
+	public void batchFlushDelayOnServerTest() throws Exception {
+		sendOnServer(OPS.BATCHFLUSHDELAY);
+	}
+
+	/*
+	 * @testName: batchFlushDelayOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy with
+	 * a maximum delay, a message is sent without flushBatch being called and
+	 * is not held in the batch longer than the maximum delay
+	 */
+	@Test
+	public void batchFlushDelayOnClientTest() throws Exception {
+		sendOnClient(OPS.BATCHFLUSHDELAY);
+	}
+
+	/*
+	 * @testName: batchFlushMessagesOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy of
+	 * one message, a message is sent without flushBatch being called
+	 */
+	@Test
+	public void batchFlushMessagesOnServerTest() throws Exception {
+		sendOnServer(OPS.BATCHFLUSHMESSAGES);
+	}
+
+	/*
+	 * @testName: batchFlushMessagesOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy of
+	 * one message, a message is sent without flushBatch being called
+	 */
+	@Test
+	public void batchFlushMessagesOnClientTest() throws Exception {
+		sendOnClient(OPS.BATCHFLUSHMESSAGES);
+	}
+
+	/*
+	 * @testName: batchFlushBytesOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy of
+	 * as many bytes as the message holds, a message is sent without flushBatch
+	 * being called
+	 */
+	@Test
+	public void batchFlushBytesOnServerTest() throws Exception {
+		sendOnServer(OPS.BATCHFLUSHBYTES);
+	}
+
+	/*
+	 * @testName: batchFlushBytesOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy of
+	 * as many bytes as the message holds, a message is sent without flushBatch
+	 * being called
+	 */
+	@Test
+	public void batchFlushBytesOnClientTest() throws Exception {
+		sendOnClient(OPS.BATCHFLUSHBYTES);
+	}
+
+	/*
+	 * @testName: batchFlushAtEndOfDispatchOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: With batching allowed and a BatchFlushPolicy
+	 * that flushes at the end of dispatch, the messages sent and returned while
+	 * handling an incoming message are sent once the @OnMessage method returns
+	 */
+	@Test
+	public void batchFlushAtEndOfDispatchOnServerTest() throws Exception {
+		sendOnServer(OPS.BATCHFLUSHENDOFDISPATCH);
+	}
+
 	/*
 	 * @testName: sendPingOnServerTest
 	 * 
@@ -1114,6 +2000,22 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendBinaryWithHandler(asyncRemote);
 					method = "sendBinary(ByteBuffer, SendHandler)";
 					break;
+				case SENDBINARYGATHER:
+					ret = WSCServerSideServer.sendBinaryGather(asyncRemote);
+					method = "sendBinary(ByteBuffer[])";
+					break;
+				case SENDBINARYGATHERHANDLER:
+					ret = WSCServerSideServer.sendBinaryGatherWithHandler(asyncRemote);
+					method = "sendBinary(ByteBuffer[], SendHandler)";
+					break;
+				case SENDBINARYFILE:
+					ret = WSCServerSideServer.sendBinaryFile(asyncRemote);
+					method = "sendBinary(FileChannel, long, long)";
+					break;
+				case SENDBINARYFILEHANDLER:
+					ret = WSCServerSideServer.sendBinaryFileWithHandler(asyncRemote);
+					method = "sendBinary(FileChannel, long, long, SendHandler)";
+					break;
 				case SENDOBJECT:
 					ret = WSCServerSideServer.sendObject(asyncRemote);
 					method = "sendObject(Object)";
@@ -1162,10 +2064,62 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendTextWithHandler(asyncRemote);
 					method = "sendText(String, SendHandler)";
 					break;
+				case SENDTEXTCHARSEQUENCE:
+					ret = WSCServerSideServer.sendTextCharSequence(asyncRemote);
+					method = "sendText(CharSequence)";
+					break;
+				case SENDTEXTCHARSEQUENCEHANDLER:
+					ret = WSCServerSideServer.sendTextCharSequenceWithHandler(asyncRemote);
+					method = "sendText(CharSequence, SendHandler)";
+					break;
+				case SENDTEXTUTF8:
+					ret = WSCServerSideServer.sendTextUtf8(asyncRemote);
+					method = "sendTextUtf8(ByteBuffer)";
+					break;
+				case SENDTEXTUTF8VALIDATED:
+					ret = WSCServerSideServer.sendTextUtf8Validated(asyncRemote);
+					method = "sendTextUtf8(ByteBuffer, boolean)";
+					break;
+				case SENDTEXTUTF8HANDLER:
+					ret = WSCServerSideServer.sendTextUtf8WithHandler(asyncRemote);
+					method = "sendTextUtf8(ByteBuffer, boolean, SendHandler)";
+					break;
+				case BUFFEREDAMOUNT:
+					ret = WSCServerSideServer.bufferedAmount(asyncRemote);
+					method = "getBufferedAmount()";
+					break;
+				case SENDTEXTASYNC:
+					ret = WSCServerSideServer.sendTextAsync(asyncRemote);
+					method = "sendTextAsync(String)";
+					break;
+				case SENDBINARYASYNC:
+					ret = WSCServerSideServer.sendBinaryAsync(asyncRemote);
+					method = "sendBinaryAsync(ByteBuffer)";
+					break;
+				case SENDBINARYGATHERASYNC:
+					ret = WSCServerSideServer.sendBinaryGatherAsync(asyncRemote);
+					method = "sendBinaryAsync(ByteBuffer[])";
+					break;
+				case SENDOBJECTASYNC:
+					ret = WSCServerSideServer.sendObjectAsync(asyncRemote);
+					method = "sendObjectAsync(Object)";
+					break;
 				case BATCHING_ALLOWED:
 					ret = WSCServerSideServer.batchingAllowed(asyncRemote);
 					method = "setBatchingAllowed(!getBatchingAllowed)";
 					break;
+				case BATCHFLUSHDELAY:
+					ret = WSCServerSideServer.batchFlushDelay(asyncRemote);
+					method = "setBatchFlushPolicy(maxDelayMicros)";
+					break;
+				case BATCHFLUSHMESSAGES:
+					ret = WSCServerSideServer.batchFlushMessages(asyncRemote);
+					method = "setBatchFlushPolicy(maxMessages)";
+					break;
+				case BATCHFLUSHBYTES:
+					ret = WSCServerSideServer.batchFlushBytes(asyncRemote);
+					method = "setBatchFlushPolicy(maxBytes)";
+					break;
 				case SEND_PING:
 					ret = WSCServerSideServer.sendPing(asyncRemote);
 					method = "sendPing(ByteBuffer)";
@@ -1207,6 +2161,10 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCThrowingServerSideServer.sendObjectWithSendHandlerHasExecutionException(asyncRemote);
 					method = "sendObject(Object, SendHandler)";
 					break;
+				case SENDOBJECTASYNCEXCEPTION:
+					ret = WSCThrowingServerSideServer.sendObjectAsyncCompletesExceptionally(asyncRemote);
+					method = "sendObjectAsync(Object)";
+					break;
 				default:
 					new Exception("Method " + op + " not implemented");
 				}
@@ -1220,6 +2178,7 @@ public class WSClientIT extends WebSocketCommonClient {
 		// Add StringBean encoder just for sendObject methods
 		List<Class<? extends Encoder>> list = new LinkedList<>();
 		list.add(ThrowingStringBeanEncoder.class);
+		list.add(UnencodableStringBeanEncoder.class);
 		ClientEndpointConfig config = ClientEndpointConfig.Builder.create().encoders(list).build();
 		setClientEndpointConfig(config);
 
@@ -1245,6 +2204,26 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendBinaryWithHandlerThrowsOnHandler(asyncRemote);
 					method = "sendBinary(ByteBuffer, SendHandler)";
 					break;
+				case SENDBINARYGATHERTHROWS:
+					ret = WSCServerSideServer.sendBinaryGatherThrows(asyncRemote);
+					method = "sendBinary(ByteBuffer[])";
+					break;
+				case SENDBINARYFILETHROWS:
+					ret = WSCServerSideServer.sendBinaryFileThrows(asyncRemote);
+					method = "sendBinary(FileChannel, long, long)";
+					break;
+				case SENDBINARYFILERANGETHROWS:
+					ret = WSCServerSideServer.sendBinaryFileRangeThrows(asyncRemote);
+					method = "sendBinary(FileChannel, long, long, SendHandler)";
+					break;
+				case SENDBINARYGATHERHANDLERTHROWSONDATA:
+					ret = WSCServerSideServer.sendBinaryGatherWithHandlerThrowsOnData(asyncRemote);
+					method = "sendBinary(ByteBuffer[], SendHandler)";
+					break;
+				case SENDBINARYGATHERHANDLERTHROWSONHANDLER:
+					ret = WSCServerSideServer.sendBinaryGatherWithHandlerThrowsOnHandler(asyncRemote);
+					method = "sendBinary(ByteBuffer[], SendHandler)";
+					break;
 				case SENDOBJECTTHROWS:
 					ret = WSCServerSideServer.sendObjectThrows(asyncRemote);
 					method = "sendObject(Object)";
@@ -1269,6 +2248,30 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendTextWithHandlerThrowsOnHandler(asyncRemote);
 					method = "sendText(String, SendHandler)";
 					break;
+				case SENDTEXTCHARSEQUENCETHROWS:
+					ret = WSCServerSideServer.sendTextCharSequenceThrows(asyncRemote);
+					method = "sendText(CharSequence)";
+					break;
+				case SENDTEXTUTF8THROWS:
+					ret = WSCServerSideServer.sendTextUtf8Throws(asyncRemote);
+					method = "sendTextUtf8(ByteBuffer)";
+					break;
+				case WATERMARKSTHROWS:
+					ret = WSCServerSideServer.watermarksThrows(asyncRemote);
+					method = "setBufferedAmountWatermarks(long, long)";
+					break;
+				case SENDTEXTASYNCTHROWS:
+					ret = WSCServerSideServer.sendTextAsyncThrows(asyncRemote);
+					method = "sendTextAsync(String)";
+					break;
+				case SENDBINARYASYNCTHROWS:
+					ret = WSCServerSideServer.sendBinaryAsyncThrows(asyncRemote);
+					method = "sendBinaryAsync(ByteBuffer)";
+					break;
+				case SENDOBJECTASYNCTHROWS:
+					ret = WSCServerSideServer.sendObjectAsyncThrows(asyncRemote);
+					method = "sendObjectAsync(Object)";
+					break;
 				case SEND_PING_THROWS:
 					ret = WSCServerSideServer.sendPingThrows(asyncRemote);
 					method = "sendPing(<too_long_message>)";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,10 +20,15 @@ public enum OPS {
 	POKE, SENDSTREAM, //
 	SENDWRITER, //
 	SENDBINARY, SENDBINARYPART1, SENDBINARYPART2, SENDBINARYPART3, SENDBINARYTHROWS, //
+	SENDBINARYGATHER, SENDBINARYGATHERTHROWS, //
+	SENDBINARYFILE, SENDBINARYFILETHROWS, SENDBINARYFILERANGETHROWS, //
 	SENDOBJECT, SENDOBJECTTHROWS, SENDOBJECTTHROWSENCODEEEXCEPTION, //
 	SENDOBJECT_BYTE, SENDOBJECT_SHORT, SENDOBJECT_INT, SENDOBJECT_LONG, //
 	SENDOBJECT_FLOAT, SENDOBJECT_DOUBLE, SENDOBJECT_BOOL, SENDOBJECT_CHAR, //
 	SENDTEXT, SENDTEXTPART1, SENDTEXTPART2, SENDTEXTPART3, SENDTEXTTHROWS, //
+	SENDTEXTCHARSEQUENCE, SENDTEXTCHARSEQUENCEPART1, SENDTEXTCHARSEQUENCEPART2, SENDTEXTCHARSEQUENCEPART3, //
+	SENDTEXTCHARSEQUENCETHROWS, //
+	SENDTEXTUTF8, SENDTEXTUTF8VALIDATED, SENDTEXTUTF8THROWS, SENDTEXTUTF8INVALID, //
 	BATCHING_ALLOWED, SEND_PING, SEND_PONG, SEND_PING_THROWS, SEND_PONG_THROWS, //
 	IDLE /* let ping make no idle timeout */, PING_4_TIMES, PONG_4_TIMES
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -65,9 +65,13 @@ public class PokingEndpointCallback extends SendMessageCallback {
 			msg = OPS.SENDBINARYPART1.name(); // when received partials at once
 		else if (msg.startsWith(OPS.SENDTEXTPART1.name()))
 			msg = OPS.SENDTEXTPART1.name(); // when received partials at once
+		else if (msg.startsWith(OPS.SENDTEXTCHARSEQUENCEPART1.name()))
+			msg = OPS.SENDTEXTCHARSEQUENCEPART1.name(); // when received partials at once
 		OPS ops = OPS.valueOf(msg);
 		switch (ops) {
 		case SENDBINARY:
+		case SENDBINARYGATHER:
+		case SENDBINARYFILE:
 		case SENDOBJECT:
 		case SENDOBJECT_BOOL:
 		case SENDOBJECT_BYTE:
@@ -80,6 +84,10 @@ public class PokingEndpointCallback extends SendMessageCallback {
 		case SENDBINARYPART1:
 		case SENDTEXT:
 		case SENDTEXTPART1:
+		case SENDTEXTCHARSEQUENCE:
+		case SENDTEXTCHARSEQUENCEPART1:
+		case SENDTEXTUTF8:
+		case SENDTEXTUTF8VALIDATED:
 		case SENDSTREAM:
 		case SENDWRITER:
 		case BATCHING_ALLOWED:
@@ -91,14 +99,22 @@ public class PokingEndpointCallback extends SendMessageCallback {
 		case SENDBINARYPART3:
 			//
 		case SENDBINARYTHROWS:
+		case SENDBINARYGATHERTHROWS:
+		case SENDBINARYFILETHROWS:
+		case SENDBINARYFILERANGETHROWS:
 			//
 		case SENDOBJECTTHROWS:
 		case SENDOBJECTTHROWSENCODEEEXCEPTION:
 			//
 		case SENDTEXTPART2:
 		case SENDTEXTPART3:
+		case SENDTEXTCHARSEQUENCEPART2:
+		case SENDTEXTCHARSEQUENCEPART3:
 			//
 		case SENDTEXTTHROWS:
+		case SENDTEXTCHARSEQUENCETHROWS:
+		case SENDTEXTUTF8THROWS:
+		case SENDTEXTUTF8INVALID:
 			//
 		case POKE:
 			//
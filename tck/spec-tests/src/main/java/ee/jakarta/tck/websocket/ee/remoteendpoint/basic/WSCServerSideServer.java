@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -22,7 +22,14 @@ import java.io.OutputStream;
 import java.io.Writer;
 import java.lang.System.Logger;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+import ee.jakarta.tck.websocket.common.impl.ReleasableCharSequence;
 import ee.jakarta.tck.websocket.common.stringbean.StringBean;
 import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
 import ee.jakarta.tck.websocket.common.util.IOUtil;
@@ -41,6 +48,10 @@ public class WSCServerSideServer {
 
 	static final String[] RESPONSE = { "OK", "FAIL" };
 
+	static final long RELEASE_WAIT_MILLIS = 500L;
+
+	static final String FILE_PADDING = "padding";
+
 	@OnMessage
 	public String onMessage(PongMessage pong) {
 		return IOUtil.byteBufferToString(pong.getApplicationData());
@@ -63,6 +74,21 @@ public class WSCServerSideServer {
 		case SENDBINARYTHROWS:
 			msg = sendBinaryThrows(basicRemote);
 			break;
+		case SENDBINARYGATHER:
+			msg = sendBinaryGather(basicRemote);
+			break;
+		case SENDBINARYGATHERTHROWS:
+			msg = sendBinaryGatherThrows(basicRemote);
+			break;
+		case SENDBINARYFILE:
+			msg = sendBinaryFile(basicRemote);
+			break;
+		case SENDBINARYFILETHROWS:
+			msg = sendBinaryFileThrows(basicRemote);
+			break;
+		case SENDBINARYFILERANGETHROWS:
+			msg = sendBinaryFileRangeThrows(basicRemote);
+			break;
 		case SENDOBJECT:
 			msg = sendObject(basicRemote);
 			break;
@@ -105,6 +131,27 @@ public class WSCServerSideServer {
 		case SENDTEXTTHROWS:
 			msg = sendTextThrows(basicRemote);
 			break;
+		case SENDTEXTCHARSEQUENCE:
+			msg = sendTextCharSequence(basicRemote);
+			break;
+		case SENDTEXTCHARSEQUENCEPART1:
+			msg = sendTextCharSequencePartial(basicRemote);
+			break;
+		case SENDTEXTCHARSEQUENCETHROWS:
+			msg = sendTextCharSequenceThrows(basicRemote);
+			break;
+		case SENDTEXTUTF8:
+			msg = sendTextUtf8(basicRemote);
+			break;
+		case SENDTEXTUTF8VALIDATED:
+			msg = sendTextUtf8Validated(basicRemote);
+			break;
+		case SENDTEXTUTF8THROWS:
+			msg = sendTextUtf8Throws(basicRemote);
+			break;
+		case SENDTEXTUTF8INVALID:
+			msg = sendTextUtf8Invalid(basicRemote);
+			break;
 		case SENDSTREAM:
 			msg = getSendStream(basicRemote);
 			break;
@@ -191,6 +238,90 @@ public class WSCServerSideServer {
 		}
 	}
 
+	/**
+	 * Splits the name of the operation over several buffers, including an empty
+	 * one, so that the peer only sees the name when they are sent as one message
+	 * in array order
+	 */
+	protected static ByteBuffer[] gather(OPS op) {
+		byte[] bytes = op.name().getBytes();
+		int half = bytes.length / 2;
+		return new ByteBuffer[] { ByteBuffer.wrap(bytes, 0, half), ByteBuffer.allocate(0),
+				ByteBuffer.wrap(bytes, half, bytes.length - half) };
+	}
+
+	protected static String sendBinaryGather(Basic basicRemote) {
+		try {
+			ByteBuffer[] data = gather(OPS.SENDBINARYGATHER);
+			basicRemote.sendBinary(data);
+			for (ByteBuffer buffer : data)
+				if (buffer.hasRemaining())
+					return RESPONSE[1];
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryGatherThrows(Basic basicRemote) {
+		try {
+			basicRemote.sendBinary((ByteBuffer[]) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	/**
+	 * Writes the name of the operation between padding into a temporary file,
+	 * so that the peer only sees the name when exactly the region holding it is
+	 * sent
+	 */
+	protected static Path file(OPS op) throws IOException {
+		Path file = Files.createTempFile(op.name(), ".bin");
+		file.toFile().deleteOnExit();
+		Files.write(file, (FILE_PADDING + op.name() + FILE_PADDING).getBytes());
+		return file;
+	}
+
+	protected static String sendBinaryFile(Basic basicRemote) {
+		try (FileChannel channel = FileChannel.open(file(OPS.SENDBINARYFILE), StandardOpenOption.READ)) {
+			basicRemote.sendBinary(channel, FILE_PADDING.length(), OPS.SENDBINARYFILE.name().length());
+			return channel.position() == 0 && channel.isOpen() ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryFileThrows(Basic basicRemote) {
+		try {
+			basicRemote.sendBinary((FileChannel) null, 0, 0);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendBinaryFileRangeThrows(Basic basicRemote) {
+		try (FileChannel channel = FileChannel.open(file(OPS.SENDBINARYFILERANGETHROWS), StandardOpenOption.READ)) {
+			basicRemote.sendBinary(channel, FILE_PADDING.length(), channel.size());
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
 	protected static String sendObject(Basic basicRemote) {
 		try {
 			basicRemote.sendObject(new StringBean(OPS.SENDOBJECT.name()));
@@ -294,6 +425,119 @@ public class WSCServerSideServer {
 		}
 	}
 
+	/**
+	 * Releases the text once its send has completed and gives the container
+	 * time to read it again, which it must not do
+	 */
+	protected static String release(ReleasableCharSequence text) throws InterruptedException {
+		text.release();
+		Thread.sleep(RELEASE_WAIT_MILLIS);
+		return text.isReadAfterRelease() ? RESPONSE[1] : RESPONSE[0];
+	}
+
+	protected static String sendTextCharSequence(Basic basicRemote) {
+		try {
+			ReleasableCharSequence text = new ReleasableCharSequence(OPS.SENDTEXTCHARSEQUENCE.name());
+			basicRemote.sendText(text);
+			return release(text);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	/**
+	 * Reuses one StringBuilder for every part, so the peer only sees the name
+	 * of the first part followed by the others if the container has finished
+	 * with each part when the send returns
+	 */
+	protected static String sendTextCharSequencePartial(Basic basicRemote) {
+		try {
+			OPS[] parts = { OPS.SENDTEXTCHARSEQUENCEPART1, OPS.SENDTEXTCHARSEQUENCEPART2,
+					OPS.SENDTEXTCHARSEQUENCEPART3 };
+			StringBuilder text = new StringBuilder();
+			for (int i = 0; i != parts.length; i++) {
+				text.setLength(0);
+				text.append(parts[i].name());
+				basicRemote.sendText(text, i == parts.length - 1);
+			}
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextCharSequenceThrows(Basic basicRemote) {
+		try {
+			basicRemote.sendText((CharSequence) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static ByteBuffer utf8(OPS op) {
+		return ByteBuffer.wrap(op.name().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * A truncated two byte sequence followed by an ASCII character, which is
+	 * not well-formed UTF-8
+	 */
+	protected static ByteBuffer malformedUtf8() {
+		return ByteBuffer.wrap(new byte[] { (byte) 0xC3, (byte) 0x28 });
+	}
+
+	protected static String sendTextUtf8(Basic basicRemote) {
+		try {
+			ByteBuffer data = utf8(OPS.SENDTEXTUTF8);
+			basicRemote.sendTextUtf8(data);
+			return data.hasRemaining() ? RESPONSE[1] : RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextUtf8Validated(Basic basicRemote) {
+		try {
+			ByteBuffer data = utf8(OPS.SENDTEXTUTF8VALIDATED);
+			basicRemote.sendTextUtf8(data, true);
+			return data.hasRemaining() ? RESPONSE[1] : RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextUtf8Throws(Basic basicRemote) {
+		try {
+			basicRemote.sendTextUtf8(null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendTextUtf8Invalid(Basic basicRemote) {
+		try {
+			basicRemote.sendTextUtf8(malformedUtf8(), false);
+			return RESPONSE[1];
+		} catch (CharacterCodingException e) {
+			return RESPONSE[0];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
 	protected static String getSendStream(Basic basicRemote) {
 		try {
 			OutputStream stream = basicRemote.getSendStream();
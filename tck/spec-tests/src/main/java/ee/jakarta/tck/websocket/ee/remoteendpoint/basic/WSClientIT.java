@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -35,6 +35,7 @@ import ee.jakarta.tck.websocket.common.client.BinaryAndTextClientEndpoint;
 import ee.jakarta.tck.websocket.common.client.ClientEndpoint;
 import ee.jakarta.tck.websocket.common.client.EndpointCallback;
 import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.impl.ReleasableCharSequence;
 import ee.jakarta.tck.websocket.common.impl.StringPingMessage;
 import ee.jakarta.tck.websocket.common.impl.StringPongMessage;
 import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
@@ -63,7 +64,7 @@ public class WSClientIT extends WebSocketCommonClient {
 		archive.addPackages(true, Filters.exclude(WSClientIT.class),
 				"ee.jakarta.tck.websocket.ee.remoteendpoint.basic");
 		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
-		archive.addClasses(WaitingSendHandler.class);
+		archive.addClasses(WaitingSendHandler.class, ReleasableCharSequence.class);
 		archive.addClasses(IOUtil.class);
 		return archive;
 	};
@@ -156,6 +157,136 @@ public class WSClientIT extends WebSocketCommonClient {
 		sendOnClientThrows(OPS.SENDBINARYTHROWS);
 	}
 
+	/*
+	 * @testName: sendBinaryGatherOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message formed from several buffers, returning
+	 * when all of the message has been transmitted. The peer receives a single
+	 * message holding the buffers in array order and every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYGATHER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message formed from several buffers, returning
+	 * when all of the message has been transmitted. The peer receives a single
+	 * message holding the buffers in array order and every buffer is consumed.
+	 */
+	@Test
+	public void sendBinaryGatherOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYGATHER);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryGatherThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYGATHERTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryGatherThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendBinaryGatherThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYGATHERTHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryFileOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message read from a region of a file,
+	 * returning when all of the message has been transmitted. The peer receives
+	 * exactly the region, and the channel is neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDBINARYFILE);
+	}
+
+	/*
+	 * @testName: sendBinaryFileOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message read from a region of a file,
+	 * returning when all of the message has been transmitted. The peer receives
+	 * exactly the region, and the channel is neither moved nor closed.
+	 */
+	@Test
+	public void sendBinaryFileOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDBINARYFILE);
+	}
+
+	/*
+	 * @testName: sendBinaryFileThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the channel is null.
+	 */
+	@Test
+	public void sendBinaryFileThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYFILETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryFileThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the channel is null.
+	 */
+	@Test
+	public void sendBinaryFileThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYFILETHROWS);
+	}
+
+	/*
+	 * @testName: sendBinaryFileRangeThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the region extends
+	 * beyond the current size of the channel.
+	 */
+	@Test
+	public void sendBinaryFileRangeThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDBINARYFILERANGETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendBinaryFileRangeThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the region extends
+	 * beyond the current size of the channel.
+	 */
+	@Test
+	public void sendBinaryFileRangeThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDBINARYFILERANGETHROWS);
+	}
+
 	/*
 	 * @testName: sendObjectOnServerTest
 	 * 
@@ -516,6 +647,179 @@ public class WSClientIT extends WebSocketCommonClient {
 		sendOnClientThrows(OPS.SENDTEXTTHROWS);
 	}
 
+	/*
+	 * @testName: sendTextCharSequenceOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message read from a CharSequence, blocking
+	 * until all of the message has been transmitted. The container does not read
+	 * the sequence once the send has returned.
+	 */
+	@Test
+	public void sendTextCharSequenceOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTCHARSEQUENCE);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message read from a CharSequence, blocking
+	 * until all of the message has been transmitted. The container does not read
+	 * the sequence once the send has returned.
+	 */
+	@Test
+	public void sendTextCharSequenceOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTCHARSEQUENCE);
+	}
+
+	/*
+	 * @testName: sendTextCharSequencePartialOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message in parts read from one StringBuilder
+	 * that is reused for every part. The peer receives every part in order.
+	 */
+	@Test
+	public void sendTextCharSequencePartialOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTCHARSEQUENCEPART1, OPS.SENDTEXTCHARSEQUENCEPART1.name()
+				+ OPS.SENDTEXTCHARSEQUENCEPART2.name() + OPS.SENDTEXTCHARSEQUENCEPART3.name());
+	}
+
+	/*
+	 * @testName: sendTextCharSequencePartialOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message in parts read from one StringBuilder
+	 * that is reused for every part. The peer receives every part in order.
+	 */
+	@Test
+	public void sendTextCharSequencePartialOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTCHARSEQUENCEPART1, OPS.SENDTEXTCHARSEQUENCEPART1.name()
+				+ OPS.SENDTEXTCHARSEQUENCEPART2.name() + OPS.SENDTEXTCHARSEQUENCEPART3.name());
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextCharSequenceThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTCHARSEQUENCETHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendTextCharSequenceThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void sendTextCharSequenceThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDTEXTCHARSEQUENCETHROWS);
+	}
+
+	/*
+	 * @testName: sendTextUtf8OnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message from UTF-8 encoded bytes, blocking
+	 * until all of the message has been transmitted. The peer receives the text
+	 * and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8OnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTUTF8);
+	}
+
+	/*
+	 * @testName: sendTextUtf8OnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message from UTF-8 encoded bytes, blocking
+	 * until all of the message has been transmitted. The peer receives the text
+	 * and the buffer is consumed.
+	 */
+	@Test
+	public void sendTextUtf8OnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTUTF8);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ValidatedOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message from UTF-8 encoded bytes the developer
+	 * has already validated. The peer receives the text and the buffer is
+	 * consumed.
+	 */
+	@Test
+	public void sendTextUtf8ValidatedOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDTEXTUTF8VALIDATED);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ValidatedOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message from UTF-8 encoded bytes the developer
+	 * has already validated. The peer receives the text and the buffer is
+	 * consumed.
+	 */
+	@Test
+	public void sendTextUtf8ValidatedOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDTEXTUTF8VALIDATED);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendTextUtf8ThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTUTF8THROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendTextUtf8ThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendTextUtf8ThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDTEXTUTF8THROWS);
+	}
+
+	/*
+	 * @testName: sendTextUtf8InvalidOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: CharacterCodingException - if the data is not
+	 * well-formed UTF-8 and has not been validated by the developer.
+	 */
+	@Test
+	public void sendTextUtf8InvalidOnServerTest() throws Exception {
+		invoke("server", OPS.SENDTEXTUTF8INVALID.name(), RESPONSE[0]);
+	}
+
 	/*
 	 * @testName: getSendStreamOnServerTest
 	 * 
@@ -877,6 +1181,14 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendBinaryPartial(basicRemote);
 					method = "sendBinary(ByteBuffer, boolean)";
 					break;
+				case SENDBINARYGATHER:
+					ret = WSCServerSideServer.sendBinaryGather(basicRemote);
+					method = "sendBinary(ByteBuffer[])";
+					break;
+				case SENDBINARYFILE:
+					ret = WSCServerSideServer.sendBinaryFile(basicRemote);
+					method = "sendBinary(FileChannel, long, long)";
+					break;
 				case SENDOBJECT:
 					ret = WSCServerSideServer.sendObject(basicRemote);
 					method = "sendObject(Object)";
@@ -921,6 +1233,22 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendTextPartial(basicRemote);
 					method = "sendText(String, boolean)";
 					break;
+				case SENDTEXTCHARSEQUENCE:
+					ret = WSCServerSideServer.sendTextCharSequence(basicRemote);
+					method = "sendText(CharSequence)";
+					break;
+				case SENDTEXTCHARSEQUENCEPART1:
+					ret = WSCServerSideServer.sendTextCharSequencePartial(basicRemote);
+					method = "sendText(CharSequence, boolean)";
+					break;
+				case SENDTEXTUTF8:
+					ret = WSCServerSideServer.sendTextUtf8(basicRemote);
+					method = "sendTextUtf8(ByteBuffer)";
+					break;
+				case SENDTEXTUTF8VALIDATED:
+					ret = WSCServerSideServer.sendTextUtf8Validated(basicRemote);
+					method = "sendTextUtf8(ByteBuffer, boolean)";
+					break;
 				case SENDSTREAM:
 					ret = WSCServerSideServer.getSendStream(basicRemote);
 					method = "getSendStream()";
@@ -970,6 +1298,18 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendBinaryThrows(basicRemote);
 					method = "sendBinary(ByteBuffer)";
 					break;
+				case SENDBINARYGATHERTHROWS:
+					ret = WSCServerSideServer.sendBinaryGatherThrows(basicRemote);
+					method = "sendBinary(ByteBuffer[])";
+					break;
+				case SENDBINARYFILETHROWS:
+					ret = WSCServerSideServer.sendBinaryFileThrows(basicRemote);
+					method = "sendBinary(FileChannel, long, long)";
+					break;
+				case SENDBINARYFILERANGETHROWS:
+					ret = WSCServerSideServer.sendBinaryFileRangeThrows(basicRemote);
+					method = "sendBinary(FileChannel, long, long)";
+					break;
 				case SENDOBJECTTHROWS:
 					ret = WSCServerSideServer.sendObjectThrows(basicRemote);
 					method = "sendObject(Object)";
@@ -978,6 +1318,14 @@ public class WSClientIT extends WebSocketCommonClient {
 					ret = WSCServerSideServer.sendTextThrows(basicRemote);
 					method = "sendText(String)";
 					break;
+				case SENDTEXTCHARSEQUENCETHROWS:
+					ret = WSCServerSideServer.sendTextCharSequenceThrows(basicRemote);
+					method = "sendText(CharSequence)";
+					break;
+				case SENDTEXTUTF8THROWS:
+					ret = WSCServerSideServer.sendTextUtf8Throws(basicRemote);
+					method = "sendTextUtf8(ByteBuffer)";
+					break;
 				case SEND_PING_THROWS:
 					ret = WSCServerSideServer.sendPingThrows(basicRemote);
 					method = "sendPing(<too_long_message>)";
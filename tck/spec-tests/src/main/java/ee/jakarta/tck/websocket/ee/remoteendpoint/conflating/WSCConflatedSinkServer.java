@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.remoteendpoint.conflating;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Receives the stale values and the latest value sent by
+ * {@link WSCServerSideServer#sendConflatedLatestWins(Session)} and replies
+ * only once the latest value has arrived, so that the number of replies does
+ * not depend on how many stale values were replaced.
+ */
+@ServerEndpoint("/sink")
+public class WSCConflatedSinkServer {
+
+	private static final Logger logger = System.getLogger(WSCConflatedSinkServer.class.getName());
+
+	private int lastStale = -1;
+
+	private String failure = null;
+
+	@OnMessage
+	public void onMessage(String msg, Session session) throws IOException {
+		if (msg.startsWith(WSCServerSideServer.STALE)) {
+			int stale = Integer.parseInt(msg.substring(WSCServerSideServer.STALE.length()));
+			// messages that are not replaced keep their order
+			if (stale <= lastStale && failure == null)
+				failure = "Received " + msg + " after " + WSCServerSideServer.STALE + lastStale;
+			lastStale = stale;
+		} else if (OPS.SENDCONFLATEDLATESTWINS.name().equals(msg)) {
+			session.getBasicRemote().sendText(failure == null ? WSCServerSideServer.RESPONSE[0] : failure);
+		} else {
+			session.getBasicRemote().sendText("Unexpected message " + msg);
+		}
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.remoteendpoint.conflating;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Future;
+
+import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+@ServerEndpoint(value = "/server", encoders = { StringBeanTextEncoder.class })
+public class WSCServerSideServer {
+
+	private static final Logger logger = System.getLogger(WSCServerSideServer.class.getName());
+
+	static final String[] RESPONSE = { "OK", "FAIL" };
+
+	static final String KEY = "key";
+
+	static final String STALE = "stale:";
+
+	static final int STALE_COUNT = 100;
+
+	static final long SECONDS = 10;
+
+	@OnMessage
+	public String onMessage(String msg, Session session) {
+		OPS op = OPS.valueOf(msg.toUpperCase());
+		switch (op) {
+		case SENDCONFLATEDTEXT:
+			msg = sendConflatedText(session);
+			break;
+		case SENDCONFLATEDBINARY:
+			msg = sendConflatedBinary(session);
+			break;
+		case SENDCONFLATEDOBJECT:
+			msg = sendConflatedObject(session);
+			break;
+		case SENDCONFLATEDHANDLER:
+			msg = sendConflatedWithHandler(session);
+			break;
+		case SENDCONFLATEDTHROWSONKEY:
+			msg = sendConflatedThrowsOnKey(session);
+			break;
+		case SENDCONFLATEDTHROWSONDATA:
+			msg = sendConflatedThrowsOnData(session);
+			break;
+		case SENDCONFLATEDHANDLERTHROWSONHANDLER:
+			msg = sendConflatedWithHandlerThrowsOnHandler(session);
+			break;
+		default:
+			throw new IllegalArgumentException("Method " + msg + " not implemented");
+		}
+		return msg;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	protected static String waitForFuture(Future<Void> future) {
+		try {
+			Void v = future.get();
+			return v == null ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendConflatedText(Session session) {
+		Future<Void> future = session.getConflatingRemote().sendText(KEY, OPS.SENDCONFLATEDTEXT.name());
+		return waitForFuture(future);
+	}
+
+	protected static String sendConflatedBinary(Session session) {
+		ByteBuffer data = ByteBuffer.wrap(OPS.SENDCONFLATEDBINARY.name().getBytes());
+		Future<Void> future = session.getConflatingRemote().sendBinary(KEY, data);
+		return waitForFuture(future);
+	}
+
+	protected static String sendConflatedObject(Session session) {
+		StringBean bean = new StringBean(OPS.SENDCONFLATEDOBJECT.name());
+		Future<Void> future = session.getConflatingRemote().sendObject(KEY, bean);
+		return waitForFuture(future);
+	}
+
+	protected static String sendConflatedWithHandler(Session session) {
+		WaitingSendHandler handler = new WaitingSendHandler();
+		session.getConflatingRemote().sendText(KEY, OPS.SENDCONFLATEDHANDLER.name(), handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		return result.isOK() ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	/**
+	 * Sends {@link #STALE_COUNT} stale values followed by the latest value for
+	 * the same key as fast as possible. Every send, whether the message is
+	 * written or replaced, is expected to complete successfully.
+	 */
+	protected static String sendConflatedLatestWins(Session session) {
+		WaitingSendHandler[] handlers = new WaitingSendHandler[STALE_COUNT + 1];
+		for (int i = 0; i != handlers.length; i++) {
+			handlers[i] = new WaitingSendHandler();
+			String value = i == STALE_COUNT ? OPS.SENDCONFLATEDLATESTWINS.name() : STALE + i;
+			session.getConflatingRemote().sendText(KEY, value, handlers[i]);
+		}
+		for (int i = 0; i != handlers.length; i++) {
+			SendResult result = handlers[i].waitForResult(SECONDS);
+			if (!result.isOK())
+				return "Send " + i + " failed: " + IOUtil.printStackTrace(result.getException());
+		}
+		return RESPONSE[0];
+	}
+
+	protected static String sendConflatedThrowsOnKey(Session session) {
+		try {
+			session.getConflatingRemote().sendText(null, OPS.SENDCONFLATEDTHROWSONKEY.name());
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendConflatedThrowsOnData(Session session) {
+		try {
+			session.getConflatingRemote().sendObject(KEY, (Object) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendConflatedWithHandlerThrowsOnHandler(Session session) {
+		try {
+			session.getConflatingRemote().sendText(KEY, OPS.SENDCONFLATEDHANDLERTHROWSONHANDLER.name(),
+					(WaitingSendHandler) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.remoteendpoint.conflating;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.BinaryAndTextClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
+import ee.jakarta.tck.websocket.common.client.SessionEndpointCallback;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.impl.WSCOtherSideServer;
+import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.StringUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.Encoder;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class,
+				"wsc_ee_jakarta_websocket_remoteendpoint_conflating_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class),
+				"ee.jakarta.tck.websocket.ee.remoteendpoint.conflating");
+		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
+		archive.addClasses(WaitingSendHandler.class);
+		archive.addClasses(IOUtil.class, WSCOtherSideServer.class);
+		return archive;
+	};
+
+	static final String[] RESPONSE = WSCServerSideServer.RESPONSE;
+
+	static final String ECHO = "echo";
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_remoteendpoint_conflating_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: sendConflatedTextOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message using
+	 * RemoteEndpoint.Conflating.sendText(Object, String). The Future's get()
+	 * method returns null upon successful completion.
+	 */
+	@Test
+	public void sendConflatedTextOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDCONFLATEDTEXT);
+	}
+
+	/*
+	 * @testName: sendConflatedTextOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message using
+	 * RemoteEndpoint.Conflating.sendText(Object, String). The Future's get()
+	 * method returns null upon successful completion.
+	 */
+	@Test
+	public void sendConflatedTextOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDCONFLATEDTEXT);
+	}
+
+	/*
+	 * @testName: sendConflatedBinaryOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message using
+	 * RemoteEndpoint.Conflating.sendBinary(Object, ByteBuffer). The Future's get()
+	 * method returns null upon successful completion.
+	 */
+	@Test
+	public void sendConflatedBinaryOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDCONFLATEDBINARY);
+	}
+
+	/*
+	 * @testName: sendConflatedBinaryOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a binary message using
+	 * RemoteEndpoint.Conflating.sendBinary(Object, ByteBuffer). The Future's get()
+	 * method returns null upon successful completion.
+	 */
+	@Test
+	public void sendConflatedBinaryOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDCONFLATEDBINARY);
+	}
+
+	/*
+	 * @testName: sendConflatedObjectOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a custom object using
+	 * RemoteEndpoint.Conflating.sendObject(Object, Object). The object is encoded
+	 * with the text encoder of the endpoint configuration.
+	 */
+	@Test
+	public void sendConflatedObjectOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDCONFLATEDOBJECT);
+	}
+
+	/*
+	 * @testName: sendConflatedObjectOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a custom object using
+	 * RemoteEndpoint.Conflating.sendObject(Object, Object). The object is encoded
+	 * with the text encoder of the endpoint configuration.
+	 */
+	@Test
+	public void sendConflatedObjectOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDCONFLATEDOBJECT);
+	}
+
+	/*
+	 * @testName: sendConflatedWithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message using
+	 * RemoteEndpoint.Conflating.sendText(Object, String, SendHandler). The
+	 * SendHandler is notified with a successful SendResult.
+	 */
+	@Test
+	public void sendConflatedWithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDCONFLATEDHANDLER);
+	}
+
+	/*
+	 * @testName: sendConflatedWithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a text message using
+	 * RemoteEndpoint.Conflating.sendText(Object, String, SendHandler). The
+	 * SendHandler is notified with a successful SendResult.
+	 */
+	@Test
+	public void sendConflatedWithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDCONFLATEDHANDLER);
+	}
+
+	/*
+	 * @testName: sendConflatedLatestWinsOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a burst of stale values followed by
+	 * the latest value with the same key using
+	 * RemoteEndpoint.Conflating.sendText(Object, String, SendHandler). Every
+	 * SendHandler is notified with a successful SendResult, the latest value is
+	 * received by the peer and the stale values that are not replaced are
+	 * received in the order in which they were sent.
+	 */
+	@Test
+	public void sendConflatedLatestWinsOnClientTest() throws Exception {
+		sendLatestWinsOnClient();
+	}
+
+	/*
+	 * @testName: sendConflatedThrowsIAEOnNullKeyOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the key is null.
+	 */
+	@Test
+	public void sendConflatedThrowsIAEOnNullKeyOnServerTest() throws Exception {
+		invoke("server", OPS.SENDCONFLATEDTHROWSONKEY.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendConflatedThrowsIAEOnNullKeyOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the key is null.
+	 */
+	@Test
+	public void sendConflatedThrowsIAEOnNullKeyOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDCONFLATEDTHROWSONKEY);
+	}
+
+	/*
+	 * @testName: sendConflatedThrowsIAEOnNullDataOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendConflatedThrowsIAEOnNullDataOnServerTest() throws Exception {
+		invoke("server", OPS.SENDCONFLATEDTHROWSONDATA.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendConflatedThrowsIAEOnNullDataOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void sendConflatedThrowsIAEOnNullDataOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDCONFLATEDTHROWSONDATA);
+	}
+
+	/*
+	 * @testName: sendConflatedWithHandlerThrowsIAEOnNullHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendConflatedWithHandlerThrowsIAEOnNullHandlerOnServerTest() throws Exception {
+		invoke("server", OPS.SENDCONFLATEDHANDLERTHROWSONHANDLER.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendConflatedWithHandlerThrowsIAEOnNullHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendConflatedWithHandlerThrowsIAEOnNullHandlerOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDCONFLATEDHANDLERTHROWSONHANDLER);
+	}
+
+	// /////////////////////////////////////////////////////////////////////////
+	private String search(Object... ops) {
+		return StringUtil.objectsToStringWithDelimiter("|", (Object[]) ops);
+	}
+
+	private void sendOnServer(OPS op) throws Exception {
+		setCountDownLatchCount(2);
+		setProperty(Property.CONTENT, op.name());
+		setProperty(Property.REQUEST, buildRequest("server"));
+		setProperty(Property.UNORDERED_SEARCH_STRING, search(op, RESPONSE[0]));
+		setClientEndpoint(BinaryAndTextClientEndpoint.class);
+		invoke();
+	}
+
+	private void sendOnClient(final OPS op) throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				String ret = null;
+				String method = null;
+				switch (op) {
+				case SENDCONFLATEDTEXT:
+					ret = WSCServerSideServer.sendConflatedText(session);
+					method = "sendText(Object, String)";
+					break;
+				case SENDCONFLATEDBINARY:
+					ret = WSCServerSideServer.sendConflatedBinary(session);
+					method = "sendBinary(Object, ByteBuffer)";
+					break;
+				case SENDCONFLATEDOBJECT:
+					ret = WSCServerSideServer.sendConflatedObject(session);
+					method = "sendObject(Object, Object)";
+					break;
+				case SENDCONFLATEDHANDLER:
+					ret = WSCServerSideServer.sendConflatedWithHandler(session);
+					method = "sendText(Object, String, SendHandler)";
+					break;
+				default:
+					new Exception("Method " + op + " not implemented");
+				}
+				assertEquals(RESPONSE[0], ret, method, "did not endup as expected");
+				logMsg(method, "works as expected");
+			}
+		};
+		setClientCallback(callback);
+
+		// Add StringBean encoder just for sendObject
+		List<Class<? extends Encoder>> list = new LinkedList<>();
+		list.add(StringBeanTextEncoder.class);
+		ClientEndpointConfig config = ClientEndpointConfig.Builder.create().encoders(list).build();
+		setClientEndpointConfig(config);
+
+		invoke("client", "anything", op.name());
+	}
+
+	private void sendLatestWinsOnClient() throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				String ret = WSCServerSideServer.sendConflatedLatestWins(session);
+				String method = "sendText(Object, String, SendHandler)";
+				assertEquals(RESPONSE[0], ret, method, "did not endup as expected");
+				logMsg(method, "works as expected");
+			}
+		};
+		setClientCallback(callback);
+		// the sink replies once, when the latest value arrives
+		invoke("sink", "anything", RESPONSE[0]);
+	}
+
+	private void sendOnClientThrows(final OPS op) throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				String ret = null;
+				String method = null;
+				switch (op) {
+				case SENDCONFLATEDTHROWSONKEY:
+					ret = WSCServerSideServer.sendConflatedThrowsOnKey(session);
+					method = "sendText(Object, String)";
+					break;
+				case SENDCONFLATEDTHROWSONDATA:
+					ret = WSCServerSideServer.sendConflatedThrowsOnData(session);
+					method = "sendObject(Object, Object)";
+					break;
+				case SENDCONFLATEDHANDLERTHROWSONHANDLER:
+					ret = WSCServerSideServer.sendConflatedWithHandlerThrowsOnHandler(session);
+					method = "sendText(Object, String, SendHandler)";
+					break;
+				default:
+					new Exception("Method " + op + " not implemented");
+				}
+				assertEquals(RESPONSE[0], ret, method, "does not throw IllegalArgumentException as expected");
+				logMsg(method, "throws IllegalArgumentException as expected");
+				session.getAsyncRemote().sendText(entity.getEntityAt(String.class, 0));
+			}
+		};
+		setClientCallback(callback);
+		invoke("client", ECHO, ECHO);
+	}
+}
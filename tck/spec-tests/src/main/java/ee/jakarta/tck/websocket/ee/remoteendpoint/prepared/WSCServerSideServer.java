@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.remoteendpoint.prepared;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Future;
+
+import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.PreparedMessage;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+@ServerEndpoint(value = "/server", encoders = { StringBeanTextEncoder.class })
+public class WSCServerSideServer {
+
+	private static final Logger logger = System.getLogger(WSCServerSideServer.class.getName());
+
+	static final String[] RESPONSE = { "OK", "FAIL" };
+
+	static final long SECONDS = 10;
+
+	private EndpointConfig config;
+
+	@OnOpen
+	public void onOpen(EndpointConfig config) {
+		this.config = config;
+	}
+
+	@OnMessage
+	public String onMessage(String msg, Session session) {
+		OPS op = OPS.valueOf(msg.toUpperCase());
+		switch (op) {
+		case SENDPREPAREDTEXT:
+			msg = sendPreparedText(session);
+			break;
+		case SENDPREPAREDBINARY:
+			msg = sendPreparedBinary(session);
+			break;
+		case SENDPREPAREDOBJECT:
+			msg = sendPreparedObject(session, config);
+			break;
+		case SENDPREPAREDHANDLER:
+			msg = sendPreparedWithHandler(session);
+			break;
+		case SENDPREPAREDTHROWS:
+			msg = sendPreparedThrows(session);
+			break;
+		case SENDPREPAREDHANDLERTHROWSONHANDLER:
+			msg = sendPreparedWithHandlerThrowsOnHandler(session);
+			break;
+		case PREPARETEXTTHROWS:
+			msg = prepareTextThrows(session);
+			break;
+		case PREPAREBINARYTHROWS:
+			msg = prepareBinaryThrows(session);
+			break;
+		default:
+			throw new IllegalArgumentException("Method " + msg + " not implemented");
+		}
+		return msg;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	protected static String sendPrepared(Session session, PreparedMessage message) {
+		Future<Void> future = session.getAsyncRemote().sendPrepared(message);
+		try {
+			Void v = future.get();
+			return v == null ? RESPONSE[0] : RESPONSE[1];
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendPreparedText(Session session) {
+		String text = OPS.SENDPREPAREDTEXT.name();
+		PreparedMessage message = session.getContainer().prepareText(text);
+		if (!message.isText() || message.getPayloadLength() != text.getBytes(StandardCharsets.UTF_8).length)
+			return RESPONSE[1];
+		return sendPrepared(session, message);
+	}
+
+	protected static String sendPreparedBinary(Session session) {
+		ByteBuffer data = ByteBuffer.wrap(OPS.SENDPREPAREDBINARY.name().getBytes());
+		int remaining = data.remaining();
+		PreparedMessage message = session.getContainer().prepareBinary(data);
+		// the buffer is copied, not consumed
+		if (message.isText() || message.getPayloadLength() != remaining || data.remaining() != remaining)
+			return RESPONSE[1];
+		return sendPrepared(session, message);
+	}
+
+	protected static String sendPreparedObject(Session session, EndpointConfig config) {
+		try {
+			PreparedMessage message = session.getContainer()
+					.prepareObject(new StringBean(OPS.SENDPREPAREDOBJECT.name()), config);
+			if (!message.isText())
+				return RESPONSE[1];
+			return sendPrepared(session, message);
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IOUtil.printStackTrace(e);
+		}
+	}
+
+	protected static String sendPreparedWithHandler(Session session) {
+		PreparedMessage message = session.getContainer().prepareText(OPS.SENDPREPAREDHANDLER.name());
+		WaitingSendHandler handler = new WaitingSendHandler();
+		session.getAsyncRemote().sendPrepared(message, handler);
+		SendResult result = handler.waitForResult(SECONDS);
+		return result.isOK() ? RESPONSE[0] : RESPONSE[1];
+	}
+
+	protected static String sendPreparedThrows(Session session) {
+		try {
+			session.getAsyncRemote().sendPrepared((PreparedMessage) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String sendPreparedWithHandlerThrowsOnHandler(Session session) {
+		try {
+			PreparedMessage message = session.getContainer()
+					.prepareText(OPS.SENDPREPAREDHANDLERTHROWSONHANDLER.name());
+			session.getAsyncRemote().sendPrepared(message, (WaitingSendHandler) null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String prepareTextThrows(Session session) {
+		try {
+			session.getContainer().prepareText(null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+
+	protected static String prepareBinaryThrows(Session session) {
+		try {
+			session.getContainer().prepareBinary(null);
+			return RESPONSE[1];
+		} catch (IllegalArgumentException e) {
+			return RESPONSE[0];
+		}
+	}
+}
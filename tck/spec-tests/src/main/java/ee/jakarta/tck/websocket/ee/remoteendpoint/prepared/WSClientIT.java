@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.remoteendpoint.prepared;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.BinaryAndTextClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
+import ee.jakarta.tck.websocket.common.client.SessionEndpointCallback;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.impl.WSCOtherSideServer;
+import ee.jakarta.tck.websocket.common.impl.WaitingSendHandler;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.StringUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.Encoder;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class,
+				"wsc_ee_jakarta_websocket_remoteendpoint_prepared_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class),
+				"ee.jakarta.tck.websocket.ee.remoteendpoint.prepared");
+		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
+		archive.addClasses(WaitingSendHandler.class);
+		archive.addClasses(IOUtil.class, WSCOtherSideServer.class);
+		return archive;
+	};
+
+	static final String[] RESPONSE = WSCServerSideServer.RESPONSE;
+
+	static final String ECHO = "echo";
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_remoteendpoint_prepared_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: sendPreparedTextOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a text message using
+	 * WebSocketContainer.prepareText(String), check PreparedMessage.isText() and
+	 * PreparedMessage.getPayloadLength() and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage). The Future's get() method
+	 * returns null upon successful completion.
+	 */
+	@Test
+	public void sendPreparedTextOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDPREPAREDTEXT);
+	}
+
+	/*
+	 * @testName: sendPreparedTextOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a text message using
+	 * WebSocketContainer.prepareText(String), check PreparedMessage.isText() and
+	 * PreparedMessage.getPayloadLength() and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage). The Future's get() method
+	 * returns null upon successful completion.
+	 */
+	@Test
+	public void sendPreparedTextOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDPREPAREDTEXT);
+	}
+
+	/*
+	 * @testName: sendPreparedBinaryOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a binary message using
+	 * WebSocketContainer.prepareBinary(ByteBuffer), check that the buffer is not
+	 * consumed, check PreparedMessage.isText() and
+	 * PreparedMessage.getPayloadLength() and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage).
+	 */
+	@Test
+	public void sendPreparedBinaryOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDPREPAREDBINARY);
+	}
+
+	/*
+	 * @testName: sendPreparedBinaryOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a binary message using
+	 * WebSocketContainer.prepareBinary(ByteBuffer), check that the buffer is not
+	 * consumed, check PreparedMessage.isText() and
+	 * PreparedMessage.getPayloadLength() and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage).
+	 */
+	@Test
+	public void sendPreparedBinaryOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDPREPAREDBINARY);
+	}
+
+	/*
+	 * @testName: sendPreparedObjectOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a message from a custom object using
+	 * WebSocketContainer.prepareObject(Object, EndpointConfig) with the text
+	 * encoder of the endpoint configuration and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage).
+	 */
+	@Test
+	public void sendPreparedObjectOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDPREPAREDOBJECT);
+	}
+
+	/*
+	 * @testName: sendPreparedObjectOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Prepare a message from a custom object using
+	 * WebSocketContainer.prepareObject(Object, EndpointConfig) with the text
+	 * encoder of the endpoint configuration and send it using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage).
+	 */
+	@Test
+	public void sendPreparedObjectOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDPREPAREDOBJECT);
+	}
+
+	/*
+	 * @testName: sendPreparedWithHandlerOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a prepared message using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage, SendHandler). The
+	 * SendHandler is notified with a successful SendResult.
+	 */
+	@Test
+	public void sendPreparedWithHandlerOnServerTest() throws Exception {
+		sendOnServer(OPS.SENDPREPAREDHANDLER);
+	}
+
+	/*
+	 * @testName: sendPreparedWithHandlerOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Send a prepared message using
+	 * RemoteEndpoint.Async.sendPrepared(PreparedMessage, SendHandler). The
+	 * SendHandler is notified with a successful SendResult.
+	 */
+	@Test
+	public void sendPreparedWithHandlerOnClientTest() throws Exception {
+		sendOnClient(OPS.SENDPREPAREDHANDLER);
+	}
+
+	/*
+	 * @testName: sendPreparedThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the message is null.
+	 */
+	@Test
+	public void sendPreparedThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.SENDPREPAREDTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendPreparedThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the message is null.
+	 */
+	@Test
+	public void sendPreparedThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.SENDPREPAREDTHROWS);
+	}
+
+	/*
+	 * @testName: sendPreparedWithHandlerThrowsIAEOnServerWhenNullHandlerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendPreparedWithHandlerThrowsIAEOnServerWhenNullHandlerTest() throws Exception {
+		invoke("server", OPS.SENDPREPAREDHANDLERTHROWSONHANDLER.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: sendPreparedWithHandlerThrowsIAEOnClientWhenNullHandlerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the handler is null.
+	 */
+	@Test
+	public void sendPreparedWithHandlerThrowsIAEOnClientWhenNullHandlerTest() throws Exception {
+		sendOnClientThrows(OPS.SENDPREPAREDHANDLERTHROWSONHANDLER);
+	}
+
+	/*
+	 * @testName: prepareTextThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void prepareTextThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.PREPARETEXTTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: prepareTextThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the text is null.
+	 */
+	@Test
+	public void prepareTextThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.PREPARETEXTTHROWS);
+	}
+
+	/*
+	 * @testName: prepareBinaryThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void prepareBinaryThrowsIAEOnServerTest() throws Exception {
+		invoke("server", OPS.PREPAREBINARYTHROWS.name(), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: prepareBinaryThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if the data is null.
+	 */
+	@Test
+	public void prepareBinaryThrowsIAEOnClientTest() throws Exception {
+		sendOnClientThrows(OPS.PREPAREBINARYTHROWS);
+	}
+
+	// /////////////////////////////////////////////////////////////////////////
+	private String search(Object... ops) {
+		return StringUtil.objectsToStringWithDelimiter("|", (Object[]) ops);
+	}
+
+	private void sendOnServer(OPS op) throws Exception {
+		setCountDownLatchCount(2);
+		setProperty(Property.CONTENT, op.name());
+		setProperty(Property.REQUEST, buildRequest("server"));
+		setProperty(Property.UNORDERED_SEARCH_STRING, search(op, RESPONSE[0]));
+		setClientEndpoint(BinaryAndTextClientEndpoint.class);
+		invoke();
+	}
+
+	private void sendOnClient(final OPS op) throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				String ret = null;
+				String method = null;
+				switch (op) {
+				case SENDPREPAREDTEXT:
+					ret = WSCServerSideServer.sendPreparedText(session);
+					method = "prepareText(String)";
+					break;
+				case SENDPREPAREDBINARY:
+					ret = WSCServerSideServer.sendPreparedBinary(session);
+					method = "prepareBinary(ByteBuffer)";
+					break;
+				case SENDPREPAREDOBJECT:
+					ret = WSCServerSideServer.sendPreparedObject(session, config);
+					method = "prepareObject(Object, EndpointConfig)";
+					break;
+				case SENDPREPAREDHANDLER:
+					ret = WSCServerSideServer.sendPreparedWithHandler(session);
+					method = "sendPrepared(PreparedMessage, SendHandler)";
+					break;
+				default:
+					new Exception("Method " + op + " not implemented");
+				}
+				assertEquals(RESPONSE[0], ret, method, "did not endup as expected");
+				logMsg(method, "works as expected");
+			}
+		};
+		setClientCallback(callback);
+
+		// Add StringBean encoder just for prepareObject
+		List<Class<? extends Encoder>> list = new LinkedList<>();
+		list.add(StringBeanTextEncoder.class);
+		ClientEndpointConfig config = ClientEndpointConfig.Builder.create().encoders(list).build();
+		setClientEndpointConfig(config);
+
+		invoke("client", "anything", op.name());
+	}
+
+	private void sendOnClientThrows(final OPS op) throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				String ret = null;
+				String method = null;
+				switch (op) {
+				case SENDPREPAREDTHROWS:
+					ret = WSCServerSideServer.sendPreparedThrows(session);
+					method = "sendPrepared(PreparedMessage)";
+					break;
+				case SENDPREPAREDHANDLERTHROWSONHANDLER:
+					ret = WSCServerSideServer.sendPreparedWithHandlerThrowsOnHandler(session);
+					method = "sendPrepared(PreparedMessage, SendHandler)";
+					break;
+				case PREPARETEXTTHROWS:
+					ret = WSCServerSideServer.prepareTextThrows(session);
+					method = "prepareText(String)";
+					break;
+				case PREPAREBINARYTHROWS:
+					ret = WSCServerSideServer.prepareBinaryThrows(session);
+					method = "prepareBinary(ByteBuffer)";
+					break;
+				default:
+					new Exception("Method " + op + " not implemented");
+				}
+				assertEquals(RESPONSE[0], ret, method, "does not throw IllegalArgumentException as expected");
+				logMsg(method, "throws IllegalArgumentException as expected");
+				session.getAsyncRemote().sendText(entity.getEntityAt(String.class, 0));
+			}
+		};
+		setClientCallback(callback);
+		invoke("client", ECHO, ECHO);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sendqueueoverflow;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+
+/**
+ * Fills the outbound queue of a server session whose endpoint allows a small
+ * number of queued messages. The first message is large enough that it cannot
+ * be completely written while the client does not read, so the text messages
+ * sent after it overflow the queue.
+ */
+public final class Overflow {
+
+	public static final String FILL = "fill";
+
+	public static final String OUTCOME = "outcome";
+
+	public static final String SECOND = "second";
+
+	public static final String OLDER = "older";
+
+	public static final String NEWER = "newer";
+
+	public static final String COMPLETED = "completed";
+
+	public static final int SIZE = 8 * 1024 * 1024;
+
+	private static final long TIMEOUT = 60;
+
+	private Overflow() {
+	}
+
+	/**
+	 * Send the large message and then the given text messages asynchronously
+	 * and, once the large message has been written, reply with the outcomes of
+	 * the text messages separated by commas, so that the reply itself does not
+	 * overflow the queue
+	 */
+	public static void fillAndReply(Session session, String... texts) {
+		RemoteEndpoint.Async remote = session.getAsyncRemote();
+		Future<Void> first = remote.sendBinary(ByteBuffer.wrap(new byte[SIZE]));
+		List<Future<Void>> sends = new ArrayList<>();
+		for (String text : texts)
+			sends.add(remote.sendText(text));
+		new Thread(() -> {
+			StringJoiner outcome = new StringJoiner(",");
+			for (Future<Void> send : sends)
+				outcome.add(outcome(send));
+			try {
+				first.get(TIMEOUT, TimeUnit.SECONDS);
+				remote.sendText(outcome.toString()).get(TIMEOUT, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}).start();
+	}
+
+	/**
+	 * Send the large message and then the second message asynchronously
+	 *
+	 * @return the Future of the second message
+	 */
+	public static Future<Void> fill(Session session) {
+		RemoteEndpoint.Async remote = session.getAsyncRemote();
+		remote.sendBinary(ByteBuffer.wrap(new byte[SIZE]));
+		return remote.sendText(SECOND);
+	}
+
+	/**
+	 * Wait for the send of a message and describe how it completed
+	 *
+	 * @return {@link #COMPLETED} or the class name of the exception the send
+	 *         failed with
+	 */
+	public static String outcome(Future<Void> send) {
+		try {
+			send.get(TIMEOUT, TimeUnit.SECONDS);
+			return COMPLETED;
+		} catch (ExecutionException e) {
+			return e.getCause().getClass().getName();
+		} catch (Exception e) {
+			return e.getClass().getName();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sendqueueoverflow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+/**
+ * A client endpoint that can stop reading while the server fills its queue.
+ * Binary messages are received in parts and only counted, so that the large
+ * message does not need to be buffered.
+ */
+public class OverflowClientEndpoint extends Endpoint {
+
+	private final BlockingQueue<String> texts = new LinkedBlockingQueue<>();
+
+	private final AtomicLong binaryBytes = new AtomicLong();
+
+	private final CompletableFuture<CloseReason> closeReason = new CompletableFuture<>();
+
+	private volatile Session session;
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		this.session = session;
+		session.addMessageHandler(String.class, new MessageHandler.Whole<String>() {
+			@Override
+			public void onMessage(String message) {
+				texts.add(message);
+			}
+		});
+		session.addMessageHandler(ByteBuffer.class, new MessageHandler.Partial<ByteBuffer>() {
+			@Override
+			public void onMessage(ByteBuffer part, boolean last) {
+				binaryBytes.addAndGet(part.remaining());
+			}
+		});
+	}
+
+	@Override
+	public void onClose(Session session, CloseReason closeReason) {
+		this.closeReason.complete(closeReason);
+	}
+
+	public Session getSession() {
+		return session;
+	}
+
+	/**
+	 * Stop reading, ask the server to fill its queue, wait for the given time
+	 * for the server to do so and start reading again
+	 */
+	public void fill(long settleMillis) throws IOException, InterruptedException {
+		fill(Overflow.FILL, settleMillis);
+	}
+
+	/**
+	 * Stop reading, send the given request that makes the server fill its
+	 * queue, wait for the given time for the server to do so and start reading
+	 * again
+	 */
+	public void fill(String request, long settleMillis) throws IOException, InterruptedException {
+		session.suspendIncoming();
+		session.getBasicRemote().sendText(request);
+		Thread.sleep(settleMillis);
+		session.resumeIncoming();
+	}
+
+	public String nextText(long timeout) throws IOException, InterruptedException {
+		String text = texts.poll(timeout, TimeUnit.SECONDS);
+		if (text == null)
+			throw new IOException("No text message within " + timeout + " seconds");
+		return text;
+	}
+
+	public String request(String message, long timeout) throws IOException, InterruptedException {
+		session.getBasicRemote().sendText(message);
+		return nextText(timeout);
+	}
+
+	public long getBinaryBytes() {
+		return binaryBytes.get();
+	}
+
+	public CloseReason awaitClose(long timeout) throws Exception {
+		return closeReason.get(timeout, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sendqueueoverflow;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.SendQueueOverflowPolicy;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies to {@link Overflow#FILL} followed by a token by filling the queue,
+ * which closes the session, and to {@link Overflow#OUTCOME} followed by the
+ * same token with the outcome of the second message of that fill. Outcomes
+ * are kept per token so that concurrent sessions do not see each other's
+ * outcome, and each outcome is removed once it has been reported.
+ */
+@ServerEndpoint(value = "/close", maxSendQueueMessages = 1,
+		sendQueueOverflowPolicy = SendQueueOverflowPolicy.CLOSE)
+public class WSCCloseServer {
+
+	private static final Map<String, String> OUTCOMES = new ConcurrentHashMap<>();
+
+	@OnMessage
+	public String onMessage(String message, Session session) {
+		String[] request = message.split(" ", 2);
+		if (request.length != 2)
+			return "Unexpected message " + message;
+		if (request[0].equals(Overflow.FILL)) {
+			Future<Void> second = Overflow.fill(session);
+			OUTCOMES.put(request[1], Overflow.outcome(second));
+			return null;
+		}
+		if (request[0].equals(Overflow.OUTCOME))
+			return OUTCOMES.remove(request[1]);
+		return "Unexpected message " + message;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		if (session.isOpen()) {
+			String message = "Exception: " + IOUtil.printStackTrace(t);
+			session.getBasicRemote().sendText(message);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sendqueueoverflow;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.SendQueueOverflowException;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	/**
+	 * The time the client stops reading for while the server fills its queue
+	 */
+	private static final long SETTLE_MILLIS = 1000;
+
+	private OverflowClientEndpoint endpoint;
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class,
+				"wsc_ee_jakarta_websocket_sendqueueoverflow_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class, OverflowClientEndpoint.class),
+				"ee.jakarta.tck.websocket.ee.sendqueueoverflow");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sendqueueoverflow_web");
+	}
+
+	@AfterEach
+	public void closeSession() throws Exception {
+		if (endpoint != null && endpoint.getSession().isOpen())
+			endpoint.getSession().close();
+		endpoint = null;
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: failPolicyTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A server endpoint allows one queued message and uses
+	 * SendQueueOverflowPolicy.FAIL. While the client does not read, the
+	 * endpoint sends a large message and then a second message. The send of
+	 * the second message fails with SendQueueOverflowException, the second
+	 * message is not delivered and the session stays open.
+	 */
+	@Test
+	public void failPolicyTest() throws Exception {
+		open("fail");
+		endpoint.fill(SETTLE_MILLIS);
+		String outcome = endpoint.nextText(_ws_wait);
+		assertEquals(SendQueueOverflowException.class.getName(), outcome, "Unexpected outcome of the second send",
+				outcome);
+		assertEquals((long) Overflow.SIZE, endpoint.getBinaryBytes(), "The large message was not delivered");
+		assertTrue(endpoint.getSession().isOpen(), "The session was closed");
+	}
+
+	/*
+	 * @testName: dropNewestPolicyTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A server endpoint allows one queued message and uses
+	 * SendQueueOverflowPolicy.DROP_NEWEST. While the client does not read, the
+	 * endpoint sends a large message and then a second message. The send of
+	 * the second message completes successfully but the message is not
+	 * delivered.
+	 */
+	@Test
+	public void dropNewestPolicyTest() throws Exception {
+		open("dropnewest");
+		endpoint.fill(SETTLE_MILLIS);
+		String outcome = endpoint.nextText(_ws_wait);
+		assertEquals(Overflow.COMPLETED, outcome, "Unexpected outcome of the second send", outcome);
+		assertEquals((long) Overflow.SIZE, endpoint.getBinaryBytes(), "The large message was not delivered");
+		assertTrue(endpoint.getSession().isOpen(), "The session was closed");
+	}
+
+	/*
+	 * @testName: dropOldestPolicyTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A server endpoint allows two queued messages and uses
+	 * SendQueueOverflowPolicy.DROP_OLDEST. While the client does not read, the
+	 * endpoint sends a large message, an older message and a newer message.
+	 * The older message is discarded to make room for the newer one, both
+	 * sends complete successfully and only the newer message is delivered.
+	 */
+	@Test
+	public void dropOldestPolicyTest() throws Exception {
+		open("dropoldest");
+		endpoint.fill(SETTLE_MILLIS);
+		String first = endpoint.nextText(_ws_wait);
+		assertEquals(Overflow.NEWER, first, "The newest message was not delivered first, got", first);
+		String outcome = endpoint.nextText(_ws_wait);
+		assertEquals(Overflow.COMPLETED + "," + Overflow.COMPLETED, outcome, "Unexpected outcome of the sends",
+				outcome);
+		assertEquals((long) Overflow.SIZE, endpoint.getBinaryBytes(), "The large message was not delivered");
+		assertTrue(endpoint.getSession().isOpen(), "The session was closed");
+	}
+
+	/*
+	 * @testName: closePolicyTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A server endpoint allows one queued message and uses
+	 * SendQueueOverflowPolicy.CLOSE. While the client does not read, the
+	 * endpoint sends a large message and then a second message. The send of
+	 * the second message fails with SendQueueOverflowException and the session
+	 * is closed with CloseCodes.TRY_AGAIN_LATER.
+	 */
+	@Test
+	public void closePolicyTest() throws Exception {
+		String token = UUID.randomUUID().toString();
+		open("close");
+		endpoint.fill(Overflow.FILL + " " + token, SETTLE_MILLIS);
+		CloseReason reason = endpoint.awaitClose(_ws_wait);
+		assertEquals(CloseReason.CloseCodes.TRY_AGAIN_LATER.getCode(), reason.getCloseCode().getCode(),
+				"Unexpected close code", reason);
+
+		open("close");
+		String outcome = endpoint.request(Overflow.OUTCOME + " " + token, _ws_wait);
+		assertEquals(SendQueueOverflowException.class.getName(), outcome, "Unexpected outcome of the second send",
+				outcome);
+	}
+
+	private void open(String path) throws Exception {
+		endpoint = new OverflowClientEndpoint();
+		ContainerProvider.getWebSocketContainer().connectToServer(endpoint,
+				ClientEndpointConfig.Builder.create().build(), new URI(buildRequest(path)));
+	}
+}
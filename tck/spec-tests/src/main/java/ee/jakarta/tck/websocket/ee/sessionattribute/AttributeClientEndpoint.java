@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionattribute;
+
+import ee.jakarta.tck.websocket.common.client.StringClientEndpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+
+/**
+ * Records the initial value of the {@link Attributes#GREETING} attribute of
+ * the client session, then changes it and records the value of the attribute
+ * of the configuration
+ */
+public class AttributeClientEndpoint extends StringClientEndpoint {
+
+	public static final String CHANGED = "changed";
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		String initial = session.getAttribute(Attributes.GREETING);
+		session.setAttribute(Attributes.GREETING, CHANGED);
+		getMessageBuilder().append(opened(initial, config.getAttribute(Attributes.GREETING)));
+		super.onOpen(session, config);
+	}
+
+	public static String opened(String initial, String configured) {
+		return "client greeting=" + initial + " config=" + configured + "|";
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionattribute;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.AttributeKey;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+/**
+ * Deployed by {@link AppConfig} with the {@link Attributes#GREETING}
+ * attribute set on its configuration. Replies to:
+ * <ul>
+ * <li>{@link #GET} with the value of the attribute</li>
+ * <li>{@link #SET} followed by a value with the previous value, the new value
+ * and the value of the attribute of the configuration</li>
+ * <li>{@link #REMOVE} with the removed value, the value after removal and the
+ * result of removing the attribute again</li>
+ * <li>{@link #NULLS} with the exceptions thrown for a null key</li>
+ * </ul>
+ */
+public class WSCAttributeServer extends Endpoint {
+
+	public static final String PATH = "/attribute";
+
+	public static final String GET = "get";
+
+	public static final String SET = "set:";
+
+	public static final String REMOVE = "remove";
+
+	public static final String NULLS = "nulls";
+
+	public static final String WRONG_TYPE = "wrongType";
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		session.addMessageHandler(String.class, new MessageHandler.Whole<String>() {
+			@Override
+			public void onMessage(String message) {
+				try {
+					session.getBasicRemote().sendText(reply(session, config, message));
+				} catch (IOException e) {
+					onError(session, e);
+				}
+			}
+		});
+	}
+
+	private static String reply(Session session, EndpointConfig config, String message) {
+		if (message.equals(GET))
+			return got(session.getAttribute(Attributes.GREETING));
+		if (message.startsWith(SET)) {
+			String previous = session.setAttribute(Attributes.GREETING, message.substring(SET.length()));
+			return set(previous, session.getAttribute(Attributes.GREETING), config.getAttribute(Attributes.GREETING));
+		}
+		if (message.equals(REMOVE)) {
+			String removed = session.removeAttribute(Attributes.GREETING);
+			return removed(removed, session.getAttribute(Attributes.GREETING),
+					session.removeAttribute(Attributes.GREETING));
+		}
+		if (message.equals(NULLS))
+			return nulls(exception(() -> session.getAttribute(null)),
+					exception(() -> session.setAttribute(null, Attributes.CONFIGURED)),
+					exception(() -> session.removeAttribute(null)));
+		if (message.equals(WRONG_TYPE)) {
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			AttributeKey<Object> raw = (AttributeKey) Attributes.GREETING;
+			return wrongType(exception(() -> session.setAttribute(raw, Integer.valueOf(42))),
+					session.getAttribute(Attributes.GREETING));
+		}
+		return "Unexpected message " + message;
+	}
+
+	public static String got(String value) {
+		return "greeting=" + value;
+	}
+
+	public static String set(String previous, String value, String configured) {
+		return "previous=" + previous + " greeting=" + value + " config=" + configured;
+	}
+
+	public static String removed(String removed, String value, String again) {
+		return "removed=" + removed + " greeting=" + value + " again=" + again;
+	}
+
+	public static String nulls(String get, String set, String remove) {
+		return "get=" + get + " set=" + set + " remove=" + remove;
+	}
+
+	public static String wrongType(String set, String value) {
+		return "set=" + set + " greeting=" + value;
+	}
+
+	private static String exception(Runnable call) {
+		try {
+			call.run();
+			return "no exception";
+		} catch (Exception e) {
+			return e.getClass().getName();
+		}
+	}
+
+	@Override
+	public void onError(Session session, Throwable t) {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		try {
+			session.getBasicRemote().sendText(message);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+}
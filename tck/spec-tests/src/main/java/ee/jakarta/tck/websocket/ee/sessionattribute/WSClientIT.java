@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionattribute;
+
+import java.io.IOException;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.ClientEndpointConfig;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final String IAE = IllegalArgumentException.class.getName();
+
+	private static final String ENDPOINT = WSCAttributeServer.PATH.substring(1);
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_sessionattribute_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class, AttributeClientEndpoint.class),
+				"ee.jakarta.tck.websocket.ee.sessionattribute");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sessionattribute_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: initialAttributeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The attributes of the ServerEndpointConfig provide the
+	 * initial attributes of a server session.
+	 */
+	@Test
+	public void initialAttributeTest() throws Exception {
+		invoke(ENDPOINT, WSCAttributeServer.GET, WSCAttributeServer.got(Attributes.CONFIGURED));
+	}
+
+	/*
+	 * @testName: setAttributeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.setAttribute returns the previous value and
+	 * changes the value returned by Session.getAttribute without changing the
+	 * attribute of the configuration. A later session starts from the
+	 * attributes of the configuration again.
+	 */
+	@Test
+	public void setAttributeTest() throws Exception {
+		invoke(ENDPOINT, WSCAttributeServer.SET + "one",
+				WSCAttributeServer.set(Attributes.CONFIGURED, "one", Attributes.CONFIGURED));
+		invoke(ENDPOINT, WSCAttributeServer.GET, WSCAttributeServer.got(Attributes.CONFIGURED));
+	}
+
+	/*
+	 * @testName: removeAttributeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.removeAttribute returns the removed value and
+	 * the attribute is no longer set. Removing it again returns null.
+	 */
+	@Test
+	public void removeAttributeTest() throws Exception {
+		invoke(ENDPOINT, WSCAttributeServer.REMOVE, WSCAttributeServer.removed(Attributes.CONFIGURED, null, null));
+	}
+
+	/*
+	 * @testName: nullKeyTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.getAttribute, Session.setAttribute and
+	 * Session.removeAttribute throw IllegalArgumentException for a null key.
+	 */
+	@Test
+	public void nullKeyTest() throws Exception {
+		invoke(ENDPOINT, WSCAttributeServer.NULLS, WSCAttributeServer.nulls(IAE, IAE, IAE));
+	}
+
+	/*
+	 * @testName: wrongTypeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.setAttribute throws IllegalArgumentException for
+	 * a value that is not an instance of the type of the key and leaves the
+	 * attribute unchanged.
+	 */
+	@Test
+	public void wrongTypeTest() throws Exception {
+		invoke(ENDPOINT, WSCAttributeServer.WRONG_TYPE, WSCAttributeServer.wrongType(IAE, Attributes.CONFIGURED));
+	}
+
+	/*
+	 * @testName: clientInitialAttributeTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The attributes of the ClientEndpointConfig provide the
+	 * initial attributes of a client session, and changing the attribute of
+	 * the session does not change the attribute of the configuration.
+	 */
+	@Test
+	public void clientInitialAttributeTest() throws Exception {
+		ClientEndpointConfig config = ClientEndpointConfig.Builder.create().build();
+		config.setAttribute(Attributes.GREETING, "client");
+		setClientEndpointConfig(config);
+		setClientEndpoint(AttributeClientEndpoint.class);
+		invoke(ENDPOINT, WSCAttributeServer.GET, AttributeClientEndpoint.opened("client", "client"));
+	}
+}
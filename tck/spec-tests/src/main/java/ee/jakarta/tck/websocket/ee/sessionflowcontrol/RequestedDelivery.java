@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.sessionflowcontrol;
+
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGES;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.RESPONSE;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.websocket.Session;
+
+/**
+ * Suspends the incoming messages of a session and then requests them one by
+ * one, each after {@link #DEMAND_MILLIS} from another thread, checking that no
+ * message is delivered without demand and that the messages are delivered in
+ * order.
+ */
+public class RequestedDelivery {
+
+	static final long DEMAND_MILLIS = 300L;
+
+	private final AtomicLong granted = new AtomicLong();
+
+	private volatile Session session = null;
+
+	private volatile String failure = null;
+
+	private int next = 0;
+
+	public void suspend(Session session) {
+		this.session = session;
+		session.suspendIncoming();
+		request();
+	}
+
+	/**
+	 * @return true when the last of the messages has been delivered
+	 */
+	public boolean delivered(String msg) {
+		if (next >= granted.get())
+			fail("Received " + msg + " although only " + granted.get() + " messages were requested");
+		else if (!msg.equals(MESSAGE + next))
+			fail("Received " + msg + " instead of " + MESSAGE + next);
+		boolean last = ++next == MESSAGES;
+		if (!last)
+			requestLater();
+		return last;
+	}
+
+	public String getResult() {
+		return failure == null ? RESPONSE[0] : failure;
+	}
+
+	private void request() {
+		// granted before the demand so that no delivery fails
+		granted.incrementAndGet();
+		session.requestIncoming(1);
+		if (!session.isIncomingSuspended())
+			fail("isIncomingSuspended() returned false after requestIncoming(long)");
+	}
+
+	private void requestLater() {
+		Thread requester = new Thread(() -> {
+			try {
+				Thread.sleep(DEMAND_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			request();
+		});
+		requester.start();
+	}
+
+	private void fail(String message) {
+		if (failure == null)
+			failure = message;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.sessionflowcontrol;
+
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGES;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.RESPONSE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.SUSPEND_MILLIS;
+
+import jakarta.websocket.Session;
+
+/**
+ * Suspends the incoming messages of a session, resumes them from another
+ * thread after {@link WSCSuspendingServer#SUSPEND_MILLIS} and checks that the
+ * messages are delivered in order and only once the session has been resumed.
+ */
+public class SuspendedDelivery {
+
+	private volatile boolean resumed = false;
+
+	private volatile String failure = null;
+
+	private int next = 0;
+
+	public void suspend(Session session) {
+		session.suspendIncoming();
+		if (!session.isIncomingSuspended())
+			fail("isIncomingSuspended() returned false after suspendIncoming()");
+		Thread resumer = new Thread(() -> {
+			try {
+				Thread.sleep(SUSPEND_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// set before resuming so that no delivery after resume fails
+			resumed = true;
+			session.resumeIncoming();
+			if (session.isIncomingSuspended())
+				fail("isIncomingSuspended() returned true after resumeIncoming()");
+		});
+		resumer.start();
+	}
+
+	/**
+	 * @return true when the last of the messages has been delivered
+	 */
+	public boolean delivered(String msg) {
+		if (!resumed)
+			fail("Received " + msg + " while incoming messages were suspended");
+		else if (!msg.equals(MESSAGE + next))
+			fail("Received " + msg + " instead of " + MESSAGE + next);
+		return ++next == MESSAGES;
+	}
+
+	public String getResult() {
+		return failure == null ? RESPONSE[0] : failure;
+	}
+
+	private void fail(String message) {
+		if (failure == null)
+			failure = message;
+	}
+}
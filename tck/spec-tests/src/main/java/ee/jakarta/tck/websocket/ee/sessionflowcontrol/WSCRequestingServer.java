@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.sessionflowcontrol;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Suspends the incoming messages of its session on {@link #REQUEST}, requests
+ * them one by one and replies once the last of
+ * {@link WSCSuspendingServer#MESSAGES} messages has been delivered.
+ */
+@ServerEndpoint("/requesting")
+public class WSCRequestingServer {
+
+	private static final Logger logger = System.getLogger(WSCRequestingServer.class.getName());
+
+	static final String REQUEST = "REQUEST";
+
+	static final String REQUESTTHROWS = "REQUESTTHROWS";
+
+	private final RequestedDelivery delivery = new RequestedDelivery();
+
+	@OnMessage
+	public void onMessage(String msg, Session session) throws IOException {
+		if (REQUEST.equals(msg)) {
+			delivery.suspend(session);
+		} else if (REQUESTTHROWS.equals(msg)) {
+			session.getBasicRemote().sendText(requestThrows(session));
+		} else if (delivery.delivered(msg)) {
+			session.getBasicRemote().sendText(delivery.getResult());
+		}
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	static String requestThrows(Session session) {
+		for (long n : new long[] { 0L, -1L }) {
+			try {
+				session.requestIncoming(n);
+				return "requestIncoming(" + n + ") did not throw IllegalArgumentException";
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		return WSCSuspendingServer.RESPONSE[0];
+	}
+}
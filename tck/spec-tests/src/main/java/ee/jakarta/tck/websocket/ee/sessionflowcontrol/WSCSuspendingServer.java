@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.sessionflowcontrol;
+
+import java.io.IOException;
+import java.lang.System.Logger;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Suspends the incoming messages of its session on {@link #SUSPEND} and
+ * replies once the last of {@link #MESSAGES} messages has been delivered, so
+ * that the number of replies does not depend on when the messages arrive.
+ */
+@ServerEndpoint("/suspending")
+public class WSCSuspendingServer {
+
+	private static final Logger logger = System.getLogger(WSCSuspendingServer.class.getName());
+
+	static final String[] RESPONSE = { "OK", "FAIL" };
+
+	static final String SUSPEND = "SUSPEND";
+
+	static final String STATE = "STATE";
+
+	static final String MESSAGE = "message:";
+
+	static final int MESSAGES = 5;
+
+	static final long SUSPEND_MILLIS = 1_000L;
+
+	private final SuspendedDelivery delivery = new SuspendedDelivery();
+
+	@OnMessage
+	public void onMessage(String msg, Session session) throws IOException {
+		if (SUSPEND.equals(msg)) {
+			delivery.suspend(session);
+		} else if (STATE.equals(msg)) {
+			session.getBasicRemote().sendText(state(session));
+		} else if (delivery.delivered(msg)) {
+			session.getBasicRemote().sendText(delivery.getResult());
+		}
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		logger.log(Logger.Level.INFO,"@OnError in " + getClass().getName());
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	/**
+	 * Checks that a new session is not suspended and that repeated calls to
+	 * suspendIncoming() and resumeIncoming() are not counted
+	 */
+	static String state(Session session) {
+		if (session.isIncomingSuspended())
+			return "isIncomingSuspended() returned true for a new session";
+		session.suspendIncoming();
+		session.suspendIncoming();
+		if (!session.isIncomingSuspended())
+			return "isIncomingSuspended() returned false after suspendIncoming()";
+		session.resumeIncoming();
+		if (session.isIncomingSuspended())
+			return "isIncomingSuspended() returned true after suspendIncoming() was called twice and"
+					+ " resumeIncoming() once";
+		session.resumeIncoming();
+		if (session.isIncomingSuspended())
+			return "isIncomingSuspended() returned true after resumeIncoming() was called twice";
+		return RESPONSE[0];
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.sessionflowcontrol;
+
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCRequestingServer.REQUEST;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCRequestingServer.REQUESTTHROWS;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.MESSAGES;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.RESPONSE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.STATE;
+import static ee.jakarta.tck.websocket.ee.sessionflowcontrol.WSCSuspendingServer.SUSPEND;
+
+import java.io.IOException;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
+import ee.jakarta.tck.websocket.common.client.SessionEndpointCallback;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class,
+				"wsc_ee_jakarta_websocket_sessionflowcontrol_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class),
+				"ee.jakarta.tck.websocket.ee.sessionflowcontrol");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sessionflowcontrol_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: suspendIncomingOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.suspendIncoming() is called on the server session
+	 * and messages are sent right after it. Session.resumeIncoming() is called
+	 * from another thread later on. No message is delivered to the server
+	 * endpoint before the session is resumed and the messages are then
+	 * delivered in the order in which they were sent.
+	 */
+	@Test
+	public void suspendIncomingOnServerTest() throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				session.getBasicRemote().sendText(SUSPEND);
+				// the last message is the entity sent by invoke
+				for (int i = 0; i != MESSAGES - 1; i++)
+					session.getBasicRemote().sendText(MESSAGE + i);
+			}
+		};
+		setClientCallback(callback);
+		invoke("suspending", MESSAGE + (MESSAGES - 1), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: suspendIncomingOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.suspendIncoming() is called on the client session
+	 * before the server sends messages. Session.resumeIncoming() is called from
+	 * another thread later on. No message is delivered to the client endpoint
+	 * before the session is resumed and the messages are then delivered in the
+	 * order in which they were sent.
+	 */
+	@Test
+	public void suspendIncomingOnClientTest() throws Exception {
+		final SuspendedDelivery delivery = new SuspendedDelivery();
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				delivery.suspend(session);
+			}
+
+			@Override
+			public void onMessage(Object o) {
+				delivery.delivered(o.toString());
+			}
+		};
+		setClientCallback(callback);
+		setCountDownLatchCount(MESSAGES);
+		invoke("burst", "anything", MESSAGE + (MESSAGES - 1));
+		assertEquals(RESPONSE[0], delivery.getResult(), "suspendIncoming()", "did not endup as expected");
+		logMsg("suspendIncoming()", "works as expected");
+	}
+
+	/*
+	 * @testName: isIncomingSuspendedOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.isIncomingSuspended() returns false for a new
+	 * session, true after Session.suspendIncoming() and false after
+	 * Session.resumeIncoming(). Repeated calls to Session.suspendIncoming() are
+	 * not counted.
+	 */
+	@Test
+	public void isIncomingSuspendedOnServerTest() throws Exception {
+		invoke("suspending", STATE, RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: isIncomingSuspendedOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.isIncomingSuspended() returns false for a new
+	 * session, true after Session.suspendIncoming() and false after
+	 * Session.resumeIncoming(). Repeated calls to Session.suspendIncoming() are
+	 * not counted.
+	 */
+	@Test
+	public void isIncomingSuspendedOnClientTest() throws Exception {
+		final String[] state = new String[1];
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				state[0] = WSCSuspendingServer.state(session);
+			}
+		};
+		setClientCallback(callback);
+		invoke("suspending", STATE, RESPONSE[0]);
+		assertEquals(RESPONSE[0], state[0], "isIncomingSuspended()", "did not endup as expected");
+		logMsg("isIncomingSuspended()", "works as expected");
+	}
+
+	/*
+	 * @testName: requestIncomingOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.suspendIncoming() is called on the server session
+	 * and messages are sent right after it. Session.requestIncoming(long) is
+	 * called with 1 from another thread each time a message has been delivered.
+	 * No message is delivered to the server endpoint without demand and the
+	 * messages are delivered in the order in which they were sent.
+	 */
+	@Test
+	public void requestIncomingOnServerTest() throws Exception {
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				session.getBasicRemote().sendText(REQUEST);
+				// the last message is the entity sent by invoke
+				for (int i = 0; i != MESSAGES - 1; i++)
+					session.getBasicRemote().sendText(MESSAGE + i);
+			}
+		};
+		setClientCallback(callback);
+		invoke("requesting", MESSAGE + (MESSAGES - 1), RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: requestIncomingOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.suspendIncoming() is called on the client session
+	 * before the server sends messages. Session.requestIncoming(long) is called
+	 * with 1 from another thread each time a message has been delivered. No
+	 * message is delivered to the client endpoint without demand and the
+	 * messages are delivered in the order in which they were sent.
+	 */
+	@Test
+	public void requestIncomingOnClientTest() throws Exception {
+		final RequestedDelivery delivery = new RequestedDelivery();
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				delivery.suspend(session);
+			}
+
+			@Override
+			public void onMessage(Object o) {
+				delivery.delivered(o.toString());
+			}
+		};
+		setClientCallback(callback);
+		setCountDownLatchCount(MESSAGES);
+		invoke("burst", "anything", MESSAGE + (MESSAGES - 1));
+		assertEquals(RESPONSE[0], delivery.getResult(), "requestIncoming(long)", "did not endup as expected");
+		logMsg("requestIncoming(long)", "works as expected");
+	}
+
+	/*
+	 * @testName: requestIncomingThrowsIAEOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if n is zero or
+	 * negative.
+	 */
+	@Test
+	public void requestIncomingThrowsIAEOnServerTest() throws Exception {
+		invoke("requesting", REQUESTTHROWS, RESPONSE[0]);
+	}
+
+	/*
+	 * @testName: requestIncomingThrowsIAEOnClientTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Throws: IllegalArgumentException - if n is zero or
+	 * negative.
+	 */
+	@Test
+	public void requestIncomingThrowsIAEOnClientTest() throws Exception {
+		final String[] ret = new String[1];
+		EndpointCallback callback = new SessionEndpointCallback() {
+			@Override
+			protected void doSession(Session session, EndpointConfig config) throws Exception {
+				ret[0] = WSCRequestingServer.requestThrows(session);
+			}
+		};
+		setClientCallback(callback);
+		invoke("requesting", REQUESTTHROWS, RESPONSE[0]);
+		assertEquals(RESPONSE[0], ret[0], "requestIncoming(long)",
+				"does not throw IllegalArgumentException as expected");
+		logMsg("requestIncoming(long)", "throws IllegalArgumentException as expected");
+	}
+}
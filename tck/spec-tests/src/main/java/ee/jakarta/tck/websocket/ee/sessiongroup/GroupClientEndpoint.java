@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessiongroup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+
+/**
+ * A client endpoint that queues every message it receives. Binary messages are
+ * queued as {@link #BINARY} followed by their payload decoded as UTF-8.
+ */
+public class GroupClientEndpoint extends Endpoint {
+
+	public static final String BINARY = "binary:";
+
+	private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+	private volatile Session session;
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		this.session = session;
+		session.addMessageHandler(String.class, new MessageHandler.Whole<String>() {
+			@Override
+			public void onMessage(String message) {
+				received.add(message);
+			}
+		});
+		session.addMessageHandler(ByteBuffer.class, new MessageHandler.Whole<ByteBuffer>() {
+			@Override
+			public void onMessage(ByteBuffer message) {
+				received.add(BINARY + StandardCharsets.UTF_8.decode(message));
+			}
+		});
+	}
+
+	public Session getSession() {
+		return session;
+	}
+
+	public void send(String message) throws IOException {
+		session.getBasicRemote().sendText(message);
+	}
+
+	public String next(long timeout) throws IOException, InterruptedException {
+		String message = received.poll(timeout, TimeUnit.SECONDS);
+		if (message == null)
+			throw new IOException("No message received within " + timeout + " seconds");
+		return message;
+	}
+
+	public String request(String message, long timeout) throws IOException, InterruptedException {
+		send(message);
+		return next(timeout);
+	}
+}
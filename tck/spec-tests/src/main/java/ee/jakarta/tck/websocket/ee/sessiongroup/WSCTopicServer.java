@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessiongroup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.ServerContainerListener;
+import jakarta.websocket.OnClose;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.PathParam;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpoint;
+import jakarta.websocket.server.SessionGroup;
+
+/**
+ * Each session works with the session group named after the topic in its
+ * path. Replies to the membership requests with the result of the
+ * SessionGroup method of the same name, broadcasts the text following one of
+ * the broadcast prefixes to the group and replies {@link #SENT} once the
+ * broadcast completes.
+ */
+@ServerEndpoint(value = "/topic/{topic}", encoders = StringBeanTextEncoder.class)
+public class WSCTopicServer {
+
+	public static final String JOIN = "join";
+
+	public static final String LEAVE = "leave";
+
+	public static final String CONTAINS = "contains";
+
+	public static final String SIZE = "size";
+
+	public static final String SAY = "say:";
+
+	public static final String SAY_OBJECT = "sayobject:";
+
+	public static final String SAY_BINARY = "saybinary:";
+
+	public static final String SAY_PREPARED = "sayprepared:";
+
+	public static final String SENT = "sent";
+
+	public static final String REMOVE = "remove";
+
+	public static final String MEMBER_ON_CLOSE = "memberonclose";
+
+	public static final String NULLS = "nulls";
+
+	private static final Map<String, AtomicInteger> memberOnClose = new ConcurrentHashMap<>();
+
+	@OnMessage
+	public void onMessage(@PathParam("topic") String topic, String message, Session session) throws Exception {
+		ServerContainer container = ServerContainerListener.getServerContainer();
+		SessionGroup group = container.getSessionGroup(topic);
+		if (message.equals(JOIN))
+			reply(session, JOIN, group.join(session));
+		else if (message.equals(LEAVE))
+			reply(session, LEAVE, group.leave(session));
+		else if (message.equals(CONTAINS))
+			reply(session, CONTAINS, group.contains(session));
+		else if (message.equals(SIZE))
+			reply(session, SIZE, group.size());
+		else if (message.startsWith(SAY))
+			broadcast(session, group, message.substring(SAY.length()));
+		else if (message.startsWith(SAY_OBJECT))
+			broadcast(session, group, new StringBean(message.substring(SAY_OBJECT.length())));
+		else if (message.startsWith(SAY_BINARY))
+			broadcast(session, group,
+					ByteBuffer.wrap(message.substring(SAY_BINARY.length()).getBytes(StandardCharsets.UTF_8)));
+		else if (message.startsWith(SAY_PREPARED))
+			broadcast(session, group, container.prepareText(message.substring(SAY_PREPARED.length())));
+		else if (message.equals(REMOVE))
+			remove(session, container, topic, group);
+		else if (message.equals(MEMBER_ON_CLOSE))
+			reply(session, MEMBER_ON_CLOSE, memberOnClose.computeIfAbsent(topic, t -> new AtomicInteger()).get());
+		else if (message.equals(NULLS))
+			nulls(session, container, group);
+		else
+			session.getBasicRemote().sendText("Unexpected message " + message);
+	}
+
+	@OnClose
+	public void onClose(@PathParam("topic") String topic, Session session) {
+		if (ServerContainerListener.getServerContainer().getSessionGroup(topic).contains(session))
+			memberOnClose.computeIfAbsent(topic, t -> new AtomicInteger()).incrementAndGet();
+	}
+
+	private static void broadcast(Session session, SessionGroup group, Object data) {
+		group.broadcast(data).whenComplete((result, failure) -> session.getAsyncRemote()
+				.sendText(failure == null ? SENT : "Exception: " + IOUtil.printStackTrace(failure)));
+	}
+
+	private static void remove(Session session, ServerContainer container, String topic, SessionGroup removed)
+			throws IOException {
+		boolean wasRemoved = container.removeSessionGroup(topic);
+		SessionGroup fresh = container.getSessionGroup(topic);
+		String join = "no exception";
+		try {
+			removed.join(session);
+		} catch (Exception e) {
+			join = e.getClass().getName();
+		}
+		session.getBasicRemote().sendText(removed(wasRemoved, fresh != removed, fresh.size(), join));
+	}
+
+	public static String removed(boolean removed, boolean fresh, int size, String join) {
+		return REMOVE + "=" + removed + " fresh=" + fresh + " size=" + size + " join=" + join;
+	}
+
+	private static void nulls(Session session, ServerContainer container, SessionGroup group) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append("getSessionGroup=").append(exception(() -> container.getSessionGroup(null)));
+		sb.append(" removeSessionGroup=").append(exception(() -> container.removeSessionGroup(null)));
+		sb.append(" join=").append(exception(() -> group.join(null)));
+		sb.append(" broadcast=").append(exception(() -> group.broadcast(null)));
+		session.getBasicRemote().sendText(sb.toString());
+	}
+
+	public static String nulls(String exception) {
+		return "getSessionGroup=" + exception + " removeSessionGroup=" + exception + " join=" + exception
+				+ " broadcast=" + exception;
+	}
+
+	private static String exception(Runnable call) {
+		try {
+			call.run();
+			return "no exception";
+		} catch (Exception e) {
+			return e.getClass().getName();
+		}
+	}
+
+	public static String reply(String request, Object result) {
+		return request + "=" + result;
+	}
+
+	private static void reply(Session session, String request, Object result) throws IOException {
+		session.getBasicRemote().sendText(reply(request, result));
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
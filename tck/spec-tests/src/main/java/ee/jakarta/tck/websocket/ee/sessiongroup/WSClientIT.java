@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessiongroup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.sun.ts.lib.util.TestUtil;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.ServerContainerListener;
+import ee.jakarta.tck.websocket.common.util.SessionUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.ContainerProvider;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final int MEMBERS = 10;
+
+	private final List<GroupClientEndpoint> opened = new ArrayList<>();
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_sessiongroup_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class, GroupClientEndpoint.class),
+				"ee.jakarta.tck.websocket.ee.sessiongroup");
+		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
+		archive.addClasses(IOUtil.class, ServerContainerListener.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sessiongroup_web");
+	}
+
+	@AfterEach
+	public void closeSessions() throws Exception {
+		for (GroupClientEndpoint endpoint : opened)
+			endpoint.getSession().close();
+		opened.clear();
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: joinLeaveTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: SessionGroup.join adds a session once,
+	 * SessionGroup.contains and SessionGroup.size reflect the membership and
+	 * SessionGroup.leave removes the session once.
+	 */
+	@Test
+	public void joinLeaveTest() throws Exception {
+		GroupClientEndpoint endpoint = open("joinleave");
+		expect(endpoint, WSCTopicServer.CONTAINS, false);
+		expect(endpoint, WSCTopicServer.JOIN, true);
+		expect(endpoint, WSCTopicServer.JOIN, false);
+		expect(endpoint, WSCTopicServer.CONTAINS, true);
+		expect(endpoint, WSCTopicServer.SIZE, 1);
+		expect(endpoint, WSCTopicServer.LEAVE, true);
+		expect(endpoint, WSCTopicServer.LEAVE, false);
+		expect(endpoint, WSCTopicServer.CONTAINS, false);
+		expect(endpoint, WSCTopicServer.SIZE, 0);
+	}
+
+	/*
+	 * @testName: broadcastTextTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A String passed to SessionGroup.broadcast is received as
+	 * a text message by every member, including the sender, and by no other
+	 * session. The returned CompletionStage completes normally.
+	 */
+	@Test
+	public void broadcastTextTest() throws Exception {
+		List<GroupClientEndpoint> members = join("text", MEMBERS);
+		GroupClientEndpoint outsider = open("text");
+		GroupClientEndpoint otherGroup = join("othertext", 1).get(0);
+
+		String text = "headline";
+		members.get(0).send(WSCTopicServer.SAY + text);
+		assertSenderNotified(members.get(0), text);
+		for (GroupClientEndpoint member : members.subList(1, MEMBERS))
+			assertEquals(text, member.next(_ws_wait), "Broadcast not received by a member");
+
+		// The broadcast is complete, so a message sent to a non member would be
+		// queued before the reply
+		String size = outsider.request(WSCTopicServer.SIZE, _ws_wait);
+		assertEquals(WSCTopicServer.reply(WSCTopicServer.SIZE, MEMBERS), size, "Broadcast received by non member");
+		size = otherGroup.request(WSCTopicServer.SIZE, _ws_wait);
+		assertEquals(WSCTopicServer.reply(WSCTopicServer.SIZE, 1), size, "Broadcast received by another group");
+	}
+
+	/*
+	 * @testName: broadcastObjectTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A developer object passed to SessionGroup.broadcast is
+	 * encoded using the encoder of the endpoint configuration of the members
+	 * and received by every member.
+	 */
+	@Test
+	public void broadcastObjectTest() throws Exception {
+		List<GroupClientEndpoint> members = join("object", MEMBERS);
+		String text = "bean";
+		members.get(0).send(WSCTopicServer.SAY_OBJECT + text);
+		assertSenderNotified(members.get(0), text);
+		for (GroupClientEndpoint member : members.subList(1, MEMBERS))
+			assertEquals(text, member.next(_ws_wait), "Encoded object not received by a member");
+	}
+
+	/*
+	 * @testName: broadcastBinaryTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A ByteBuffer passed to SessionGroup.broadcast is received
+	 * as a binary message by every member.
+	 */
+	@Test
+	public void broadcastBinaryTest() throws Exception {
+		List<GroupClientEndpoint> members = join("binary", MEMBERS);
+		String text = "payload";
+		members.get(0).send(WSCTopicServer.SAY_BINARY + text);
+		assertSenderNotified(members.get(0), GroupClientEndpoint.BINARY + text);
+		for (GroupClientEndpoint member : members.subList(1, MEMBERS))
+			assertEquals(GroupClientEndpoint.BINARY + text, member.next(_ws_wait),
+					"Binary broadcast not received by a member");
+	}
+
+	/*
+	 * @testName: broadcastPreparedTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A PreparedMessage passed to SessionGroup.broadcast is
+	 * received by every member.
+	 */
+	@Test
+	public void broadcastPreparedTest() throws Exception {
+		List<GroupClientEndpoint> members = join("prepared", MEMBERS);
+		String text = "prepared";
+		members.get(0).send(WSCTopicServer.SAY_PREPARED + text);
+		assertSenderNotified(members.get(0), text);
+		for (GroupClientEndpoint member : members.subList(1, MEMBERS))
+			assertEquals(text, member.next(_ws_wait), "Prepared broadcast not received by a member");
+	}
+
+	/*
+	 * @testName: removedOnCloseTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A session that is closed is removed from its group
+	 * before the onClose method of its endpoint is called, and later
+	 * broadcasts reach only the remaining members.
+	 */
+	@Test
+	public void removedOnCloseTest() throws Exception {
+		List<GroupClientEndpoint> members = join("close", MEMBERS);
+		int closed = MEMBERS / 2;
+		for (GroupClientEndpoint member : members.subList(0, closed)) {
+			member.getSession().close();
+			SessionUtil.waitUntilClosed(member.getSession(), _ws_wait, TimeUnit.SECONDS);
+		}
+
+		GroupClientEndpoint remaining = members.get(closed);
+		String expected = WSCTopicServer.reply(WSCTopicServer.SIZE, MEMBERS - closed);
+		String size = awaitReply(remaining, WSCTopicServer.SIZE, expected);
+		assertEquals(expected, size, "Closed sessions not removed from the group");
+		String member = remaining.request(WSCTopicServer.MEMBER_ON_CLOSE, _ws_wait);
+		assertEquals(WSCTopicServer.reply(WSCTopicServer.MEMBER_ON_CLOSE, 0), member,
+				"Closed session still a member when onClose was called");
+
+		String text = "after close";
+		remaining.send(WSCTopicServer.SAY + text);
+		assertSenderNotified(remaining, text);
+		for (GroupClientEndpoint other : members.subList(closed + 1, MEMBERS))
+			assertEquals(text, other.next(_ws_wait), "Broadcast not received by a remaining member");
+	}
+
+	/*
+	 * @testName: removeSessionGroupTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: ServerContainer.removeSessionGroup removes the group
+	 * without closing its members. A new, empty group is then returned for the
+	 * same name and sessions may no longer join the removed group.
+	 */
+	@Test
+	public void removeSessionGroupTest() throws Exception {
+		List<GroupClientEndpoint> members = join("remove", 2);
+		String reply = members.get(0).request(WSCTopicServer.REMOVE, _ws_wait);
+		assertEquals(WSCTopicServer.removed(true, true, 0, IllegalStateException.class.getName()), reply,
+				"Unexpected result of removeSessionGroup", reply);
+		assertTrue(members.get(1).getSession().isOpen(), "Member of a removed group was closed");
+		expect(members.get(1), WSCTopicServer.CONTAINS, false);
+	}
+
+	/*
+	 * @testName: nullArgumentsTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: ServerContainer.getSessionGroup(null),
+	 * ServerContainer.removeSessionGroup(null), SessionGroup.join(null) and
+	 * SessionGroup.broadcast(null) throw IllegalArgumentException.
+	 */
+	@Test
+	public void nullArgumentsTest() throws Exception {
+		String reply = open("nulls").request(WSCTopicServer.NULLS, _ws_wait);
+		assertEquals(WSCTopicServer.nulls(IllegalArgumentException.class.getName()), reply,
+				"Unexpected exceptions", reply);
+	}
+
+	private GroupClientEndpoint open(String topic) throws Exception {
+		GroupClientEndpoint endpoint = new GroupClientEndpoint();
+		ContainerProvider.getWebSocketContainer().connectToServer(endpoint,
+				ClientEndpointConfig.Builder.create().build(), new URI(buildRequest("topic/", topic)));
+		opened.add(endpoint);
+		return endpoint;
+	}
+
+	private List<GroupClientEndpoint> join(String topic, int count) throws Exception {
+		List<GroupClientEndpoint> members = new ArrayList<>();
+		for (int i = 0; i != count; i++) {
+			GroupClientEndpoint member = open(topic);
+			expect(member, WSCTopicServer.JOIN, true);
+			members.add(member);
+		}
+		return members;
+	}
+
+	private void expect(GroupClientEndpoint endpoint, String request, Object result) throws Exception {
+		String reply = endpoint.request(request, _ws_wait);
+		assertEquals(WSCTopicServer.reply(request, result), reply, "Unexpected reply", reply);
+	}
+
+	/**
+	 * The sender is a member, so it receives both the broadcast message and
+	 * the notification that the broadcast completed, in any order
+	 */
+	private void assertSenderNotified(GroupClientEndpoint sender, String message) throws Exception {
+		List<String> received = new ArrayList<>();
+		received.add(sender.next(_ws_wait));
+		received.add(sender.next(_ws_wait));
+		assertTrue(received.contains(message), "Broadcast not received by the sender", received);
+		assertTrue(received.contains(WSCTopicServer.SENT), "Broadcast did not complete", received);
+	}
+
+	/**
+	 * The server notices a closed session asynchronously, so ask again until
+	 * the expected reply arrives or ws_wait seconds pass
+	 */
+	private String awaitReply(GroupClientEndpoint endpoint, String message, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(_ws_wait);
+		String reply = endpoint.request(message, _ws_wait);
+		while (!expected.equals(reply) && System.currentTimeMillis() < deadline) {
+			TestUtil.sleepMsec(100);
+			reply = endpoint.request(message, _ws_wait);
+		}
+		return reply;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionlookup;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.ServerContainerListener;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.PathParam;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Each session belongs to a group and has a role within that group. Replies
+ * to:
+ * <ul>
+ * <li>{@link #ID} with the id of this session</li>
+ * <li>{@link #CENSUS} with the result of visiting the sessions of this group
+ * using Session#forEachOpenSession</li>
+ * <li>{@link #LOOKUP} followed by a session id with the result of
+ * ServerContainer#getSession</li>
+ * <li>{@link #NULLS} with the exceptions thrown for null arguments</li>
+ * </ul>
+ */
+@ServerEndpoint("/member/{group}/{role}")
+public class WSCMemberServer {
+
+	public static final String ID = "id";
+
+	public static final String CENSUS = "census";
+
+	public static final String LOOKUP = "lookup:";
+
+	public static final String NULLS = "nulls";
+
+	public static final String STABLE = "stable";
+
+	public static final String CHURN = "churn";
+
+	public static final String NONE = "none";
+
+	public static final String FOUND = "found:";
+
+	@OnMessage
+	public String onMessage(@PathParam("group") String group, String message, Session session) {
+		if (message.equals(ID))
+			return session.getId();
+		if (message.equals(CENSUS))
+			return census(group, session);
+		if (message.startsWith(LOOKUP))
+			return lookup(message.substring(LOOKUP.length()));
+		if (message.equals(NULLS))
+			return nulls(session);
+		return "Unexpected message " + message;
+	}
+
+	static String census(String group, Session session) {
+		Set<String> visited = new HashSet<>();
+		int[] counts = new int[3]; // total, stable, duplicates
+		session.forEachOpenSession(s -> {
+			if (!group.equals(s.getPathParameters().get("group")))
+				return;
+			counts[0]++;
+			if (STABLE.equals(s.getPathParameters().get("role")))
+				counts[1]++;
+			if (!visited.add(s.getId()))
+				counts[2]++;
+		});
+		return census(counts[0], counts[1], counts[2]);
+	}
+
+	public static String census(int total, int stable, int duplicates) {
+		return "total=" + total + " stable=" + stable + " duplicates=" + duplicates;
+	}
+
+	static String lookup(String id) {
+		Session found = ServerContainerListener.getServerContainer().getSession(id);
+		return found == null ? NONE : FOUND + found.getId();
+	}
+
+	static String nulls(Session session) {
+		String forEach = "no exception";
+		String lookup = "no exception";
+		try {
+			session.forEachOpenSession(null);
+		} catch (Exception e) {
+			forEach = e.getClass().getName();
+		}
+		try {
+			ServerContainerListener.getServerContainer().getSession(null);
+		} catch (Exception e) {
+			lookup = e.getClass().getName();
+		}
+		return nulls(forEach, lookup);
+	}
+
+	public static String nulls(String forEachOpenSession, String getSession) {
+		return "forEachOpenSession=" + forEachOpenSession + " getSession=" + getSession;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionlookup;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * An endpoint other than {@link WSCMemberServer}. Replies to
+ * {@link WSCMemberServer#LOOKUP} followed by a session id with the result of
+ * ServerContainer#getSession, and to {@link WSCMemberServer#CENSUS} with the
+ * number of visited sessions that belong to some other endpoint.
+ */
+@ServerEndpoint("/other")
+public class WSCOtherServer {
+
+	public static final String FOREIGN = "foreign=";
+
+	@OnMessage
+	public String onMessage(String message, Session session) {
+		if (message.startsWith(WSCMemberServer.LOOKUP))
+			return WSCMemberServer.lookup(message.substring(WSCMemberServer.LOOKUP.length()));
+		if (message.equals(WSCMemberServer.CENSUS)) {
+			int[] foreign = new int[1];
+			session.forEachOpenSession(s -> {
+				if (s.getPathParameters().containsKey("group"))
+					foreign[0]++;
+			});
+			return FOREIGN + foreign[0];
+		}
+		return "Unexpected message " + message;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
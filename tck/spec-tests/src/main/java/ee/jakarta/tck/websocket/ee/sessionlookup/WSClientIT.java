@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionlookup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.sun.ts.lib.util.TestUtil;
+
+import ee.jakarta.tck.websocket.common.client.RequestClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.ServerContainerListener;
+import ee.jakarta.tck.websocket.common.util.SessionUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final int SESSIONS = 100;
+
+	private WebSocketContainer clientContainer;
+
+	private ExecutorService executor;
+
+	private final List<RequestClientEndpoint> opened = new ArrayList<>();
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_sessionlookup_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class), "ee.jakarta.tck.websocket.ee.sessionlookup");
+		archive.addClasses(IOUtil.class, ServerContainerListener.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sessionlookup_web");
+	}
+
+	@BeforeEach
+	public void openExecutor() {
+		clientContainer = ContainerProvider.getWebSocketContainer();
+		executor = Executors.newFixedThreadPool(16);
+	}
+
+	@AfterEach
+	public void closeSessions() throws Exception {
+		for (RequestClientEndpoint endpoint : opened)
+			endpoint.getSession().close();
+		opened.clear();
+		executor.shutdownNow();
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: forEachOpenSessionTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Many sessions are opened concurrently to the same
+	 * endpoint. Session.forEachOpenSession visits each of them exactly once and
+	 * does not visit the sessions of other endpoints.
+	 */
+	@Test
+	public void forEachOpenSessionTest() throws Exception {
+		List<RequestClientEndpoint> members = open("census", WSCMemberServer.STABLE, SESSIONS);
+		RequestClientEndpoint other = open("other");
+
+		String census = members.get(0).request(WSCMemberServer.CENSUS, _ws_wait);
+		assertEquals(WSCMemberServer.census(SESSIONS, SESSIONS, 0), census, "Unexpected census", census);
+		census = members.get(SESSIONS - 1).request(WSCMemberServer.CENSUS, _ws_wait);
+		assertEquals(WSCMemberServer.census(SESSIONS, SESSIONS, 0), census, "Unexpected census", census);
+
+		census = other.request(WSCMemberServer.CENSUS, _ws_wait);
+		assertEquals(WSCOtherServer.FOREIGN + 0, census, "Sessions of another endpoint were visited", census);
+	}
+
+	/*
+	 * @testName: forEachOpenSessionUnderChurnTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: While half of the sessions of an endpoint are closed and
+	 * as many new sessions are opened concurrently, Session.forEachOpenSession
+	 * visits every session that stays open exactly once and never visits a
+	 * session twice. Once the churn is over the closed sessions are no longer
+	 * visited and the new ones are.
+	 */
+	@Test
+	public void forEachOpenSessionUnderChurnTest() throws Exception {
+		int half = SESSIONS / 2;
+		List<RequestClientEndpoint> stable = open("churn", WSCMemberServer.STABLE, half);
+		List<RequestClientEndpoint> churn = open("churn", WSCMemberServer.CHURN, half);
+
+		List<Future<?>> tasks = new ArrayList<>();
+		for (RequestClientEndpoint endpoint : churn)
+			tasks.add(executor.submit(() -> {
+				endpoint.getSession().close();
+				return null;
+			}));
+		for (int i = 0; i != half; i++)
+			tasks.add(executor.submit(() -> open("churn", WSCMemberServer.CHURN)));
+
+		int census = 0;
+		do {
+			String reply = stable.get(census % half).request(WSCMemberServer.CENSUS, _ws_wait);
+			int[] counts = parseCensus(reply);
+			assertEquals(half, counts[1], "A stable session was not visited exactly once", reply);
+			assertEquals(0, counts[2], "A session was visited more than once", reply);
+			assertTrue(counts[0] >= half && counts[0] <= SESSIONS + half, "Unexpected census", reply);
+			census++;
+		} while (!allDone(tasks));
+		logMsg("Took", census, "censuses during churn");
+		for (Future<?> task : tasks)
+			task.get(_ws_wait, TimeUnit.SECONDS);
+
+		String expected = WSCMemberServer.census(SESSIONS, half, 0);
+		String reply = awaitReply(stable.get(0), WSCMemberServer.CENSUS, expected);
+		assertEquals(expected, reply, "Closed sessions still visited or new sessions not visited", reply);
+	}
+
+	/*
+	 * @testName: getSessionTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Many sessions are opened concurrently. Each of them is
+	 * found by id using ServerContainer.getSession, both from the same endpoint
+	 * and from another endpoint. An unknown id is not found.
+	 */
+	@Test
+	public void getSessionTest() throws Exception {
+		List<RequestClientEndpoint> members = open("lookup", WSCMemberServer.STABLE, SESSIONS);
+		RequestClientEndpoint other = open("other");
+		List<String> ids = serverIds(members);
+
+		for (String id : ids) {
+			String reply = members.get(0).request(WSCMemberServer.LOOKUP + id, _ws_wait);
+			assertEquals(WSCMemberServer.FOUND + id, reply, "Session", id, "not found");
+			reply = other.request(WSCMemberServer.LOOKUP + id, _ws_wait);
+			assertEquals(WSCMemberServer.FOUND + id, reply, "Session", id, "not found from another endpoint");
+		}
+
+		String unknown = ids.get(0) + "-unknown";
+		String reply = members.get(0).request(WSCMemberServer.LOOKUP + unknown, _ws_wait);
+		assertEquals(WSCMemberServer.NONE, reply, "Unknown session", unknown, "found");
+	}
+
+	/*
+	 * @testName: getSessionUnderChurnTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: While half of many open sessions are closed concurrently,
+	 * ServerContainer.getSession keeps finding the sessions that stay open.
+	 * Once closed, the other sessions are no longer found.
+	 */
+	@Test
+	public void getSessionUnderChurnTest() throws Exception {
+		int half = SESSIONS / 2;
+		List<RequestClientEndpoint> kept = open("lookupchurn", WSCMemberServer.STABLE, half);
+		List<RequestClientEndpoint> closed = open("lookupchurn", WSCMemberServer.CHURN, half);
+		List<String> keptIds = serverIds(kept);
+		List<String> closedIds = serverIds(closed);
+
+		List<Future<?>> tasks = new ArrayList<>();
+		for (RequestClientEndpoint endpoint : closed)
+			tasks.add(executor.submit(() -> {
+				endpoint.getSession().close();
+				return null;
+			}));
+
+		int lookup = 0;
+		do {
+			String id = keptIds.get(lookup % half);
+			String reply = kept.get(0).request(WSCMemberServer.LOOKUP + id, _ws_wait);
+			assertEquals(WSCMemberServer.FOUND + id, reply, "Open session", id, "not found during churn");
+			lookup++;
+		} while (!allDone(tasks));
+		for (Future<?> task : tasks)
+			task.get(_ws_wait, TimeUnit.SECONDS);
+
+		for (RequestClientEndpoint endpoint : closed)
+			SessionUtil.waitUntilClosed(endpoint.getSession(), _ws_wait, TimeUnit.SECONDS);
+		for (String id : closedIds) {
+			String reply = awaitReply(kept.get(0), WSCMemberServer.LOOKUP + id, WSCMemberServer.NONE);
+			assertEquals(WSCMemberServer.NONE, reply, "Closed session", id, "still found");
+		}
+		for (String id : keptIds) {
+			String reply = kept.get(0).request(WSCMemberServer.LOOKUP + id, _ws_wait);
+			assertEquals(WSCMemberServer.FOUND + id, reply, "Open session", id, "not found");
+		}
+	}
+
+	/*
+	 * @testName: nullArgumentsTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: Session.forEachOpenSession(null) and
+	 * ServerContainer.getSession(null) throw IllegalArgumentException.
+	 */
+	@Test
+	public void nullArgumentsTest() throws Exception {
+		String iae = IllegalArgumentException.class.getName();
+		String reply = open("nulls", WSCMemberServer.STABLE).request(WSCMemberServer.NULLS, _ws_wait);
+		assertEquals(WSCMemberServer.nulls(iae, iae), reply, "Unexpected exceptions", reply);
+	}
+
+	private List<RequestClientEndpoint> open(String group, String role, int count) throws Exception {
+		List<Future<RequestClientEndpoint>> futures = new ArrayList<>();
+		for (int i = 0; i != count; i++)
+			futures.add(executor.submit(() -> open(group, role)));
+		List<RequestClientEndpoint> endpoints = new ArrayList<>();
+		for (Future<RequestClientEndpoint> future : futures)
+			endpoints.add(future.get(_ws_wait, TimeUnit.SECONDS));
+		return endpoints;
+	}
+
+	private RequestClientEndpoint open(String group, String role) throws Exception {
+		return open("member/", group, "/", role);
+	}
+
+	private RequestClientEndpoint open(String... path) throws Exception {
+		RequestClientEndpoint endpoint = new RequestClientEndpoint();
+		clientContainer.connectToServer(endpoint, ClientEndpointConfig.Builder.create().build(),
+				new URI(buildRequest(path)));
+		synchronized (opened) {
+			opened.add(endpoint);
+		}
+		return endpoint;
+	}
+
+	private List<String> serverIds(List<RequestClientEndpoint> endpoints) throws Exception {
+		List<String> ids = new ArrayList<>();
+		for (RequestClientEndpoint endpoint : endpoints)
+			ids.add(endpoint.request(WSCMemberServer.ID, _ws_wait));
+		return ids;
+	}
+
+	/**
+	 * The server notices a closed session asynchronously, so ask again until
+	 * the expected reply arrives or ws_wait seconds pass
+	 */
+	private String awaitReply(RequestClientEndpoint endpoint, String message, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(_ws_wait);
+		String reply = endpoint.request(message, _ws_wait);
+		while (!expected.equals(reply) && System.currentTimeMillis() < deadline) {
+			TestUtil.sleepMsec(100);
+			reply = endpoint.request(message, _ws_wait);
+		}
+		return reply;
+	}
+
+	private static boolean allDone(List<Future<?>> tasks) {
+		for (Future<?> task : tasks)
+			if (!task.isDone())
+				return false;
+		return true;
+	}
+
+	private static int[] parseCensus(String census) throws Exception {
+		String[] fields = census.split(" ");
+		assertEquals(3, fields.length, "Unexpected census", census);
+		int[] counts = new int[fields.length];
+		for (int i = 0; i != fields.length; i++)
+			counts[i] = Integer.parseInt(fields[i].substring(fields[i].indexOf('=') + 1));
+		return counts;
+	}
+}
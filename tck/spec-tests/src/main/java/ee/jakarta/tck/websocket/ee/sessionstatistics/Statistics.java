@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionstatistics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.websocket.SessionStatistics;
+
+/**
+ * Reads SessionStatistics into a Map that can be sent as text and compared
+ */
+public final class Statistics {
+
+	public static final String MESSAGES_RECEIVED = "messagesReceived";
+
+	public static final String MESSAGES_SENT = "messagesSent";
+
+	public static final String BYTES_RECEIVED = "bytesReceived";
+
+	public static final String BYTES_SENT = "bytesSent";
+
+	public static final String WIRE_BYTES_RECEIVED = "wireBytesReceived";
+
+	public static final String WIRE_BYTES_SENT = "wireBytesSent";
+
+	public static final String FRAMES_RECEIVED = "framesReceived";
+
+	public static final String FRAMES_SENT = "framesSent";
+
+	public static final String PINGS_RECEIVED = "pingsReceived";
+
+	public static final String PINGS_SENT = "pingsSent";
+
+	public static final String PONGS_RECEIVED = "pongsReceived";
+
+	public static final String PONGS_SENT = "pongsSent";
+
+	public static final String DISPATCH_TIME_NANOS = "dispatchTimeNanos";
+
+	public static final String QUEUED_MESSAGES = "queuedMessages";
+
+	public static final String LAST_READ_TIME = "lastReadTime";
+
+	public static final String LAST_WRITE_TIME = "lastWriteTime";
+
+	/**
+	 * The statistics that are counters, which never decrease
+	 */
+	public static final String[] COUNTERS = { MESSAGES_RECEIVED, MESSAGES_SENT, BYTES_RECEIVED, BYTES_SENT,
+			WIRE_BYTES_RECEIVED, WIRE_BYTES_SENT, FRAMES_RECEIVED, FRAMES_SENT, PINGS_RECEIVED, PINGS_SENT,
+			PONGS_RECEIVED, PONGS_SENT, DISPATCH_TIME_NANOS };
+
+	private Statistics() {
+	}
+
+	public static Map<String, Long> read(SessionStatistics statistics) {
+		Map<String, Long> values = new LinkedHashMap<>();
+		values.put(MESSAGES_RECEIVED, statistics.getMessagesReceived());
+		values.put(MESSAGES_SENT, statistics.getMessagesSent());
+		values.put(BYTES_RECEIVED, statistics.getBytesReceived());
+		values.put(BYTES_SENT, statistics.getBytesSent());
+		values.put(WIRE_BYTES_RECEIVED, statistics.getWireBytesReceived());
+		values.put(WIRE_BYTES_SENT, statistics.getWireBytesSent());
+		values.put(FRAMES_RECEIVED, statistics.getFramesReceived());
+		values.put(FRAMES_SENT, statistics.getFramesSent());
+		values.put(PINGS_RECEIVED, statistics.getPingsReceived());
+		values.put(PINGS_SENT, statistics.getPingsSent());
+		values.put(PONGS_RECEIVED, statistics.getPongsReceived());
+		values.put(PONGS_SENT, statistics.getPongsSent());
+		values.put(DISPATCH_TIME_NANOS, statistics.getDispatchTimeNanos());
+		values.put(QUEUED_MESSAGES, statistics.getQueuedMessages());
+		values.put(LAST_READ_TIME, statistics.getLastReadTime());
+		values.put(LAST_WRITE_TIME, statistics.getLastWriteTime());
+		return values;
+	}
+
+	public static String format(Map<String, Long> values) {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Long> entry : values.entrySet()) {
+			if (sb.length() != 0)
+				sb.append(' ');
+			sb.append(entry.getKey()).append('=').append(entry.getValue());
+		}
+		return sb.toString();
+	}
+
+	public static Map<String, Long> parse(String text) {
+		Map<String, Long> values = new LinkedHashMap<>();
+		for (String field : text.split(" ")) {
+			int equals = field.indexOf('=');
+			values.put(field.substring(0, equals), Long.valueOf(field.substring(equals + 1)));
+		}
+		return values;
+	}
+
+	/**
+	 * Return the counters whose value in later is less than their value in
+	 * earlier, together with both values
+	 */
+	public static List<String> decreased(Map<String, Long> earlier, Map<String, Long> later) {
+		List<String> decreased = new ArrayList<>();
+		for (String counter : COUNTERS)
+			if (later.get(counter) < earlier.get(counter))
+				decreased.add(counter + ":" + earlier.get(counter) + "->" + later.get(counter));
+		return decreased;
+	}
+
+	/**
+	 * Return the difference between the values of the given statistic
+	 */
+	public static long delta(Map<String, Long> earlier, Map<String, Long> later, String statistic) {
+		return later.get(statistic) - earlier.get(statistic);
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionstatistics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Ignores {@link #LOAD} messages, which only generate traffic. Replies to:
+ * <ul>
+ * <li>{@link #SNAPSHOT} with the statistics of this session</li>
+ * <li>{@link #PING} with {@link #PINGED}, after sending a ping</li>
+ * <li>{@link #WATCH} with {@link #WATCHING}, after starting a thread that
+ * reads the statistics of this session repeatedly until {@link #RESULT} is
+ * received</li>
+ * <li>{@link #RESULT} with the number of times the statistics were read and
+ * the counters that were seen to decrease</li>
+ * </ul>
+ */
+@ServerEndpoint("/statistics")
+public class WSCStatisticsServer {
+
+	public static final String LOAD = "load:";
+
+	public static final String SNAPSHOT = "snapshot";
+
+	public static final String PING = "ping";
+
+	public static final String PINGED = "pinged";
+
+	public static final String WATCH = "watch";
+
+	public static final String WATCHING = "watching";
+
+	public static final String RESULT = "result";
+
+	private volatile boolean watching;
+
+	private Thread watcher;
+
+	private int samples;
+
+	private final List<String> decreased = new ArrayList<>();
+
+	@OnMessage
+	public String onMessage(String message, Session session) throws Exception {
+		if (message.startsWith(LOAD))
+			return null;
+		if (message.equals(SNAPSHOT))
+			return Statistics.format(Statistics.read(session.getStatistics()));
+		if (message.equals(PING)) {
+			session.getBasicRemote().sendPing(ByteBuffer.wrap(PING.getBytes(StandardCharsets.UTF_8)));
+			return PINGED;
+		}
+		if (message.equals(WATCH)) {
+			watching = true;
+			watcher = new Thread(() -> watch(session));
+			watcher.start();
+			return WATCHING;
+		}
+		if (message.equals(RESULT)) {
+			watching = false;
+			watcher.join();
+			return result(samples, decreased);
+		}
+		return "Unexpected message " + message;
+	}
+
+	private void watch(Session session) {
+		Map<String, Long> previous = Statistics.read(session.getStatistics());
+		while (watching) {
+			Map<String, Long> current = Statistics.read(session.getStatistics());
+			decreased.addAll(Statistics.decreased(previous, current));
+			previous = current;
+			samples++;
+		}
+	}
+
+	public static String result(int samples, List<String> decreased) {
+		return "samples=" + samples + " decreased=" + decreased;
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.sessionstatistics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.sun.ts.lib.util.TestUtil;
+
+import ee.jakarta.tck.websocket.common.client.RequestClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import ee.jakarta.tck.websocket.common.util.SessionUtil;
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.SessionStatistics;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final int MESSAGES = 200;
+
+	private static final String LOAD = WSCStatisticsServer.LOAD + "0123456789abcdef";
+
+	private RequestClientEndpoint endpoint;
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_sessionstatistics_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class), "ee.jakarta.tck.websocket.ee.sessionstatistics");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_sessionstatistics_web");
+	}
+
+	@AfterEach
+	public void closeSession() throws Exception {
+		if (endpoint != null)
+			endpoint.getSession().close();
+		endpoint = null;
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: clientCountersMonotonicTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: While messages are being sent on a client session, its
+	 * SessionStatistics are read repeatedly and no counter ever decreases.
+	 * Once sent, the messages and their payload bytes are counted.
+	 */
+	@Test
+	public void clientCountersMonotonicTest() throws Exception {
+		open();
+		SessionStatistics statistics = endpoint.getSession().getStatistics();
+		Map<String, Long> before = Statistics.read(statistics);
+
+		CompletableFuture<Void> sender = CompletableFuture.runAsync(() -> {
+			try {
+				sendLoad();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		Map<String, Long> previous = before;
+		int samples = 0;
+		do {
+			Map<String, Long> current = Statistics.read(statistics);
+			List<String> decreased = Statistics.decreased(previous, current);
+			assertTrue(decreased.isEmpty(), "Counters decreased", decreased);
+			previous = current;
+			samples++;
+		} while (!sender.isDone());
+		sender.get(_ws_wait, TimeUnit.SECONDS);
+		logMsg("Read the statistics", samples, "times while sending");
+
+		Map<String, Long> after = Statistics.read(statistics);
+		assertTrue(Statistics.decreased(previous, after).isEmpty(), "Counters decreased", after);
+		assertTrue(Statistics.delta(before, after, Statistics.MESSAGES_SENT) >= MESSAGES,
+				"Sent messages not counted", before, after);
+		assertTrue(Statistics.delta(before, after, Statistics.BYTES_SENT) >= MESSAGES * LOAD.length(),
+				"Sent bytes not counted", before, after);
+		assertTrue(after.get(Statistics.FRAMES_SENT) >= after.get(Statistics.MESSAGES_SENT),
+				"Fewer frames than messages sent", after);
+		assertTrue(after.get(Statistics.WIRE_BYTES_SENT) > 0, "Bytes written not counted", after);
+		assertTrue(after.get(Statistics.LAST_WRITE_TIME) != -1, "Last write time not set", after);
+		assertTrue(after.get(Statistics.QUEUED_MESSAGES) >= 0, "Negative queue depth", after);
+	}
+
+	/*
+	 * @testName: serverCountersTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The SessionStatistics of a server session count the
+	 * messages, payload bytes and frames received, the time spent dispatching
+	 * them and the time of the last read.
+	 */
+	@Test
+	public void serverCountersTest() throws Exception {
+		open();
+		Map<String, Long> before = snapshot();
+		sendLoad();
+		Map<String, Long> after = snapshot();
+
+		assertTrue(Statistics.decreased(before, after).isEmpty(), "Counters decreased", before, after);
+		assertTrue(Statistics.delta(before, after, Statistics.MESSAGES_RECEIVED) >= MESSAGES,
+				"Received messages not counted", before, after);
+		assertTrue(Statistics.delta(before, after, Statistics.BYTES_RECEIVED) >= MESSAGES * LOAD.length(),
+				"Received bytes not counted", before, after);
+		assertTrue(after.get(Statistics.FRAMES_RECEIVED) >= after.get(Statistics.MESSAGES_RECEIVED),
+				"Fewer frames than messages received", after);
+		assertTrue(after.get(Statistics.MESSAGES_SENT) >= 1, "Sent reply not counted", after);
+		assertTrue(after.get(Statistics.WIRE_BYTES_RECEIVED) > 0, "Bytes read not counted", after);
+		assertTrue(Statistics.delta(before, after, Statistics.DISPATCH_TIME_NANOS) > 0,
+				"Dispatch time not counted", before, after);
+		assertTrue(after.get(Statistics.LAST_READ_TIME) != -1, "Last read time not set", after);
+		assertTrue(after.get(Statistics.QUEUED_MESSAGES) >= 0, "Negative queue depth", after);
+	}
+
+	/*
+	 * @testName: serverCountersMonotonicTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: While messages are being received on a server session, a
+	 * thread of the server reads its SessionStatistics repeatedly and no
+	 * counter ever decreases.
+	 */
+	@Test
+	public void serverCountersMonotonicTest() throws Exception {
+		open();
+		assertEquals(WSCStatisticsServer.WATCHING, endpoint.request(WSCStatisticsServer.WATCH, _ws_wait),
+				"Server did not start watching");
+		sendLoad();
+		String result = endpoint.request(WSCStatisticsServer.RESULT, _ws_wait);
+		assertTrue(result.startsWith("samples=") && !result.startsWith("samples=0 "),
+				"Server did not read the statistics", result);
+		assertTrue(result.endsWith("decreased=[]"), "Counters decreased", result);
+	}
+
+	/*
+	 * @testName: pingPongTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: A ping sent by a server session is counted by its
+	 * SessionStatistics, and so is the pong the client container sends in
+	 * response.
+	 */
+	@Test
+	public void pingPongTest() throws Exception {
+		open();
+		Map<String, Long> before = snapshot();
+		assertEquals(WSCStatisticsServer.PINGED, endpoint.request(WSCStatisticsServer.PING, _ws_wait),
+				"Server did not send the ping");
+
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(_ws_wait);
+		Map<String, Long> after = snapshot();
+		while (Statistics.delta(before, after, Statistics.PONGS_RECEIVED) < 1
+				&& System.currentTimeMillis() < deadline) {
+			TestUtil.sleepMsec(100);
+			after = snapshot();
+		}
+		assertTrue(Statistics.delta(before, after, Statistics.PINGS_SENT) >= 1, "Ping not counted", before, after);
+		assertTrue(Statistics.delta(before, after, Statistics.PONGS_RECEIVED) >= 1, "Pong not counted", before,
+				after);
+		assertTrue(endpoint.getSession().getStatistics().getPingsReceived() >= 1,
+				"Ping not counted by the client session");
+	}
+
+	/*
+	 * @testName: statisticsAfterCloseTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The SessionStatistics of a session remain readable after
+	 * the session has closed and its counters do not decrease.
+	 */
+	@Test
+	public void statisticsAfterCloseTest() throws Exception {
+		open();
+		SessionStatistics statistics = endpoint.getSession().getStatistics();
+		sendLoad();
+		Map<String, Long> beforeClose = Statistics.read(statistics);
+
+		endpoint.getSession().close();
+		SessionUtil.waitUntilClosed(endpoint.getSession(), _ws_wait, TimeUnit.SECONDS);
+		Map<String, Long> closed = Statistics.read(endpoint.getSession().getStatistics());
+		assertTrue(Statistics.decreased(beforeClose, closed).isEmpty(), "Counters decreased after close", beforeClose,
+				closed);
+		assertTrue(closed.get(Statistics.MESSAGES_SENT) >= MESSAGES, "Sent messages lost after close", closed);
+	}
+
+	private void open() throws Exception {
+		endpoint = new RequestClientEndpoint();
+		ContainerProvider.getWebSocketContainer().connectToServer(endpoint,
+				ClientEndpointConfig.Builder.create().build(), new URI(buildRequest("statistics")));
+	}
+
+	private void sendLoad() throws IOException {
+		for (int i = 0; i != MESSAGES; i++)
+			endpoint.getSession().getBasicRemote().sendText(LOAD);
+	}
+
+	private Map<String, Long> snapshot() throws Exception {
+		String reply = endpoint.request(WSCStatisticsServer.SNAPSHOT, _ws_wait);
+		assertTrue(!reply.startsWith("Exception"), reply);
+		return Statistics.parse(reply);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.shareablecoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counts the instances created and the init() and destroy() calls of each
+ * encoder and decoder class of this package
+ */
+public class LifecycleCounter {
+
+	private static final int INSTANCES = 0;
+
+	private static final int INIT = 1;
+
+	private static final int DESTROY = 2;
+
+	private static final Map<String, AtomicIntegerArray> COUNTS = new ConcurrentHashMap<>();
+
+	public static final String RESET = "reset:";
+
+	public static void onInstance(Class<?> clazz) {
+		counts(clazz.getName()).incrementAndGet(INSTANCES);
+	}
+
+	public static void onInit(Class<?> clazz) {
+		counts(clazz.getName()).incrementAndGet(INIT);
+	}
+
+	public static void onDestroy(Class<?> clazz) {
+		counts(clazz.getName()).incrementAndGet(DESTROY);
+	}
+
+	public static void reset(String className) {
+		COUNTS.remove(className);
+	}
+
+	/**
+	 * @return the counts of the class in the form returned by
+	 *         {@link #format(int, int, int)}
+	 */
+	public static String report(String className) {
+		AtomicIntegerArray counts = counts(className);
+		return format(counts.get(INSTANCES), counts.get(INIT), counts.get(DESTROY));
+	}
+
+	public static String format(int instances, int init, int destroy) {
+		return "instances=" + instances + ",init=" + init + ",destroy=" + destroy;
+	}
+
+	private static AtomicIntegerArray counts(String className) {
+		return COUNTS.computeIfAbsent(className, name -> new AtomicIntegerArray(3));
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.shareablecoder;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanTextDecoder;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Shareable;
+
+@Shareable
+public class SharedTextDecoder extends StringBeanTextDecoder {
+
+	public SharedTextDecoder() {
+		LifecycleCounter.onInstance(getClass());
+	}
+
+	@Override
+	public void init(EndpointConfig config) {
+		LifecycleCounter.onInit(getClass());
+	}
+
+	@Override
+	public void destroy() {
+		LifecycleCounter.onDestroy(getClass());
+	}
+}
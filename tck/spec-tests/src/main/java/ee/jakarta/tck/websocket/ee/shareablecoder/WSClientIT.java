@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.shareablecoder;
+
+import java.io.IOException;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.Filters;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.sun.ts.lib.util.TestUtil;
+
+import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ws_wait;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class WSClientIT extends WebSocketCommonClient {
+
+	private static final int CONNECTIONS = 3;
+
+	@Deployment(testable = false)
+	public static WebArchive createDeployment() throws IOException {
+		WebArchive archive = ShrinkWrap.create(WebArchive.class, "wsc_ee_jakarta_websocket_shareablecoder_web.war");
+		archive.addPackages(true, Filters.exclude(WSClientIT.class), "ee.jakarta.tck.websocket.ee.shareablecoder");
+		archive.addPackages(true, "ee.jakarta.tck.websocket.common.stringbean");
+		archive.addClasses(IOUtil.class);
+		return archive;
+	};
+
+	public WSClientIT() throws Exception {
+		setContextRoot("wsc_ee_jakarta_websocket_shareablecoder_web");
+	}
+
+	/* Run test */
+
+	/*
+	 * @testName: shareableCoderLifecycleOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The encoder and decoder classes annotated with @Shareable
+	 * of a server endpoint are instantiated and initialized once for all the
+	 * connections to the endpoint and are not destroyed when the connections
+	 * close.
+	 */
+	@Test
+	public void shareableCoderLifecycleOnServerTest() throws Exception {
+		echo("shared");
+		// Give the server time to call any destroy() once the connections close
+		TestUtil.sleepMsec(500);
+		invokeCounter(SharedTextEncoder.class, LifecycleCounter.format(1, 1, 0));
+		invokeCounter(SharedTextDecoder.class, LifecycleCounter.format(1, 1, 0));
+	}
+
+	/*
+	 * @testName: perSessionCoderLifecycleOnServerTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: The encoder and decoder classes of a server endpoint that
+	 * are not annotated with @Shareable are instantiated, initialized and
+	 * destroyed once for each connection to the endpoint.
+	 */
+	@Test
+	public void perSessionCoderLifecycleOnServerTest() throws Exception {
+		invokeCounter(LifecycleCounter.RESET + PerSessionTextEncoder.class.getName(), LifecycleCounter.RESET);
+		invokeCounter(LifecycleCounter.RESET + PerSessionTextDecoder.class.getName(), LifecycleCounter.RESET);
+		echo("persession");
+		// Give the server time to call destroy() once the connections close
+		TestUtil.sleepMsec(500);
+		String counts = LifecycleCounter.format(CONNECTIONS, CONNECTIONS, CONNECTIONS);
+		invokeCounter(PerSessionTextEncoder.class, counts);
+		invokeCounter(PerSessionTextDecoder.class, counts);
+	}
+
+	// Private -----------------------------------------
+	private void echo(String endpoint) throws Exception {
+		for (int i = 0; i != CONNECTIONS; i++)
+			invoke(endpoint, endpoint + i, endpoint + i);
+	}
+
+	private void invokeCounter(Class<?> clazz, String search) throws Exception {
+		invokeCounter(clazz.getName(), search);
+	}
+
+	private void invokeCounter(String message, String search) throws Exception {
+		invoke("counter", message, search);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,8 +25,11 @@ import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 
 import ee.jakarta.tck.websocket.common.client.ByteBufferClientEndpoint;
+import ee.jakarta.tck.websocket.common.client.EndpointCallback;
 import ee.jakarta.tck.websocket.common.client.WebSocketCommonClient;
 import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.Session;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -131,6 +134,34 @@ public class WSClientIT extends WebSocketCommonClient {
 		invokeSequence("binaryStreamEncoderTest", "binarystreamencoder");
 	}
 
+	/*
+	 * @testName: binaryBufferEncoderTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test binary buffer encoder
+	 */
+	@Test
+	public void binaryBufferEncoderTest() throws Exception {
+		setClientEndpoint(ByteBufferClientEndpoint.class);
+		invokeSequence("binaryBufferEncoderTest", "binarybufferencoder");
+	}
+
+	/*
+	 * @testName: underestimatedBinaryBufferEncoderTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test binary buffer encoder whose size estimate is too
+	 * small, so that it has to request a larger buffer from the runtime
+	 */
+	@Test
+	public void underestimatedBinaryBufferEncoderTest() throws Exception {
+		setClientEndpoint(ByteBufferClientEndpoint.class);
+		invokeSequence("underestimatedBinaryBufferEncoderTest",
+				"underestimatedbinarybufferencoder");
+	}
+
 	/*
 	 * @testName: byteArrayTest
 	 * 
@@ -170,6 +201,92 @@ public class WSClientIT extends WebSocketCommonClient {
 		invokeSequence("byteBufferTest", "directbytebuffer");
 	}
 
+	// COMPLETIONSTAGE -------------------------------
+
+	/*
+	 * @testName: completionStageTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test CompletionStage<String> completed after the method
+	 * has returned
+	 */
+	@Test
+	public void completionStageTest() throws Exception {
+		invokeSequence("completionStageTest", "completionstage");
+	}
+
+	/*
+	 * @testName: completableFutureTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test CompletableFuture of a type with a text encoder
+	 * completed after the method has returned
+	 */
+	@Test
+	public void completableFutureTest() throws Exception {
+		invokeSequence("completableFutureTest", "completablefuture");
+	}
+
+	/*
+	 * @testName: completionStageOrderTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test that the next message is not delivered until the
+	 * CompletionStage returned for the previous message has completed and that
+	 * the replies are sent in the order of the messages
+	 */
+	@Test
+	public void completionStageOrderTest() throws Exception {
+		final String search = "completionStageOrderTest";
+		setClientCallback(new EndpointCallback() {
+			@Override
+			public void onOpen(Session session, EndpointConfig config) {
+				try {
+					session.getBasicRemote().sendText(WSCompletionStageOrderServer.FIRST);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		setCountDownLatchCount(2);
+		setProperty(Property.REQUEST, buildRequest("completionstageorder"));
+		setProperty(Property.SEARCH_STRING, WSCompletionStageOrderServer.FIRST + search);
+		setProperty(Property.CONTENT, search);
+		invoke();
+	}
+
+	/*
+	 * @testName: failedCompletionStageTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test that the exception a CompletionStage completes with
+	 * is passed to the @OnError method
+	 */
+	@Test
+	public void failedCompletionStageTest() throws Exception {
+		invokeSequence(WSFailedCompletionStageServer.describe(new IllegalStateException(
+				WSFailedCompletionStageServer.FAILURE)), "failedcompletionstage");
+	}
+
+	/*
+	 * @testName: wrappedFailedCompletionStageTest
+	 * 
+	 * @assertion_ids:
+	 * 
+	 * @test_Strategy: test that when a CompletionStage completes with a
+	 * CompletionException, its cause rather than the CompletionException is
+	 * passed to the @OnError method
+	 */
+	@Test
+	public void wrappedFailedCompletionStageTest() throws Exception {
+		invokeSequence(WSFailedCompletionStageServer.describe(new IllegalStateException(
+				WSFailedCompletionStageServer.FAILURE)), "wrappedfailedcompletionstage");
+	}
+
 	// Private -----------------------------------------
 	private void invokeSequence(String search, String... sequence) throws Exception {
 		for (int i = 0; i != sequence.length; i++) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.websocketmessagereturntype;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionStage;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies to each message with a stage that completes later and checks that
+ * no message is delivered before the stage returned for the previous message
+ * has completed.
+ */
+@ServerEndpoint("/completionstageorder")
+public class WSCompletionStageOrderServer {
+
+	static final String FIRST = "first";
+
+	private volatile boolean pending = false;
+
+	private volatile String failure = null;
+
+	@OnMessage
+	public CompletionStage<String> echo(String data) {
+		if (pending && failure == null)
+			failure = "Received " + data + " before the stage returned for the previous message completed";
+		pending = true;
+		return WSCompletionStageServer.completeLater(() -> {
+			// cleared before completion so that the next delivery does not fail
+			pending = false;
+			return failure == null ? data : failure;
+		});
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+}
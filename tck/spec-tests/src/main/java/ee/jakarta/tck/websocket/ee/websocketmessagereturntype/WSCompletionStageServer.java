@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.websocketmessagereturntype;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+@ServerEndpoint("/completionstage")
+public class WSCompletionStageServer {
+
+	static final long COMPLETION_MILLIS = 500L;
+
+	@OnMessage
+	public CompletionStage<String> echo(String data) {
+		return completeLater(() -> data);
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	/**
+	 * Completes the returned stage from another thread after
+	 * {@link #COMPLETION_MILLIS}, so that the method returning it has returned
+	 * long before
+	 */
+	static <T> CompletableFuture<T> completeLater(Supplier<T> value) {
+		CompletableFuture<T> stage = new CompletableFuture<>();
+		Thread completer = new Thread(() -> {
+			try {
+				Thread.sleep(COMPLETION_MILLIS);
+				stage.complete(value.get());
+			} catch (Throwable t) {
+				stage.completeExceptionally(t);
+			}
+		});
+		completer.start();
+		return stage;
+	}
+}
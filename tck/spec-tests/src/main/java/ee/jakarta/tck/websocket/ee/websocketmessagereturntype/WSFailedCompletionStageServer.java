@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.websocket.ee.websocketmessagereturntype;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+@ServerEndpoint("/failedcompletionstage")
+public class WSFailedCompletionStageServer {
+
+	static final String FAILURE = "WSFailedCompletionStageServer failure";
+
+	@OnMessage
+	public CompletionStage<String> echo(String data) {
+		return WSCompletionStageServer.completeLater(() -> {
+			throw new IllegalStateException(FAILURE);
+		});
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		// the exception the stage completed with, or its cause
+		session.getBasicRemote().sendText(describe(t));
+	}
+
+	/**
+	 * Identify the exception by its class as well as its message, since the
+	 * message of a CompletionException includes the description of its cause
+	 */
+	static String describe(Throwable t) {
+		return t.getClass().getName() + "|" + t.getMessage();
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.websocket.ee.websocketmessagereturntype;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.websocket.common.stringbean.StringBean;
+import ee.jakarta.tck.websocket.common.stringbean.StringBeanBinaryBufferEncoder;
+import ee.jakarta.tck.websocket.common.util.IOUtil;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+/**
+ * Replies with a message considerably larger than the size estimated by its
+ * encoder so that the encoder has to ask for a larger buffer unless the
+ * runtime ignores the estimate.
+ */
+@ServerEndpoint(value = "/underestimatedbinarybufferencoder", encoders = {
+		WSUnderestimatedBinaryBufferEncoderServer.UnderestimatingEncoder.class })
+public class WSUnderestimatedBinaryBufferEncoderServer {
+
+	public static final int REPEAT = 100;
+
+	@OnMessage
+	public StringBean echo(String data) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i != REPEAT; i++)
+			sb.append(data);
+		return new StringBean(sb.toString());
+	}
+
+	@OnError
+	public void onError(Session session, Throwable t) throws IOException {
+		t.printStackTrace(); // Write to error log, too
+		String message = "Exception: " + IOUtil.printStackTrace(t);
+		session.getBasicRemote().sendText(message);
+	}
+
+	public static class UnderestimatingEncoder
+			extends StringBeanBinaryBufferEncoder {
+		@Override
+		public int estimateSize(StringBean bean) {
+			return 1;
+		}
+	}
+}